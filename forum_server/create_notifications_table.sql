@@ -18,5 +18,6 @@ CREATE TABLE IF NOT EXISTS notifications (
     FOREIGN KEY (related_comment_id) REFERENCES comments(id) ON DELETE CASCADE,
     INDEX idx_user_id (user_id),
     INDEX idx_user_id_is_read (user_id, is_read),
+    INDEX idx_notifications_user_id_id (user_id, id),
     INDEX idx_create_datetime (create_datetime DESC)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
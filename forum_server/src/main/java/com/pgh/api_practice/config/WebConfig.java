@@ -3,18 +3,32 @@ package com.pgh.api_practice.config;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.PathResourceResolver;
 
+import java.io.IOException;
 import java.nio.file.Paths;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 @Configuration
 public class WebConfig {
 
+    // 파생본 파일명 ({sha256}_thumb.jpg, {sha256}_medium.jpg)과 원본이 될 수 있는 확장자
+    private static final Pattern DERIVATIVE_FILE = Pattern.compile("^([0-9a-f]{64})_(?:thumb|medium)\\.jpg$");
+    private static final List<String> ORIGINAL_EXTENSIONS = List.of("jpg", "png", "gif");
+
     @Value("${app.upload.dir:C:/app-data/uploads}")
     private String uploadDir;
 
+    // true이면 UploadFileController가 /uploads/** 를 직접 서빙 (ETag/Range/immutable 캐시)
+    @Value("${app.upload.serve.enabled:false}")
+    private boolean uploadServeEnabled;
+
     @Bean
     public WebMvcConfigurer webMvcConfigurer() {
         return new WebMvcConfigurer() {
@@ -42,15 +56,44 @@ public class WebConfig {
 
             @Override
             public void addResourceHandlers(ResourceHandlerRegistry registry) {
+                if (uploadServeEnabled) {
+                    return;
+                }
+
                 // /uploads/ 경로로 요청이 오면 업로드 디렉토리의 파일을 제공
                 String uploadPath = Paths.get(uploadDir).toUri().toString();
                 registry.addResourceHandler("/uploads/**")
                         .addResourceLocations("file:" + uploadPath)
-                        .setCachePeriod(86400); // 24시간 캐싱
+                        .setCachePeriod(86400) // 24시간 캐싱
+                        .resourceChain(false)
+                        .addResolver(new DerivativeFallbackResolver());
                 
                 // /api/로 시작하는 경로는 정적 리소스 핸들러에서 제외
                 // (컨트롤러 매핑이 우선되어야 함)
             }
         };
     }
+
+    /** 파생본(썸네일/미리보기)이 아직 없거나 생성에 실패했으면 같은 해시의 원본으로 대신 응답 */
+    private static class DerivativeFallbackResolver extends PathResourceResolver {
+
+        @Override
+        protected Resource getResource(String resourcePath, Resource location) throws IOException {
+            Resource resource = super.getResource(resourcePath, location);
+            if (resource != null) {
+                return resource;
+            }
+            Matcher matcher = DERIVATIVE_FILE.matcher(resourcePath);
+            if (!matcher.matches()) {
+                return null;
+            }
+            for (String extension : ORIGINAL_EXTENSIONS) {
+                Resource original = super.getResource(matcher.group(1) + "." + extension, location);
+                if (original != null) {
+                    return original;
+                }
+            }
+            return null;
+        }
+    }
 }
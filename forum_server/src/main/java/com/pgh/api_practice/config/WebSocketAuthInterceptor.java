@@ -1,6 +1,8 @@
 package com.pgh.api_practice.config;
 
+import com.pgh.api_practice.global.TokenDenyList;
 import com.pgh.api_practice.global.TokenProvider;
+import com.pgh.api_practice.global.VerifiedToken;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.Message;
@@ -22,6 +24,7 @@ import java.util.List;
 public class WebSocketAuthInterceptor implements ChannelInterceptor {
 
     private final TokenProvider tokenProvider;
+    private final TokenDenyList tokenDenyList;
 
     @Override
     public Message<?> preSend(Message<?> message, MessageChannel channel) {
@@ -47,12 +50,15 @@ public class WebSocketAuthInterceptor implements ChannelInterceptor {
 
             String token = authHeader.substring(7);
 
-            if (!tokenProvider.validateToken(token)) {
+            // 서명 검증 한 번으로 클레임까지 추출 (최근 검증한 토큰은 캐시 사용, 리프레시 토큰은 거부)
+            VerifiedToken verified = tokenProvider.verify(token);
+            if (verified == null || !verified.isAccessToken()
+                    || tokenDenyList.isRevoked(verified.getUserId(), verified.getIssuedAtSeconds())) {
                 log.error("STOMP CONNECT 실패: 토큰 유효하지 않음");
                 throw new IllegalArgumentException("WebSocket 토큰이 유효하지 않습니다.");
             }
 
-            String username = tokenProvider.getUsername(token);
+            String username = verified.getUsername();
 
             Authentication authentication =
                     new UsernamePasswordAuthenticationToken(
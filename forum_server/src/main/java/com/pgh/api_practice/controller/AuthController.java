@@ -7,6 +7,7 @@ import com.pgh.api_practice.dto.auth.RegisterRequestDTO;
 import com.pgh.api_practice.dto.auth.LoginResponseDTO;
 import com.pgh.api_practice.dto.auth.RefreshTokenRequestDTO;
 import com.pgh.api_practice.entity.Users;
+import com.pgh.api_practice.global.AuthRateLimiter;
 import com.pgh.api_practice.service.AuthService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -22,11 +23,15 @@ import jakarta.validation.Valid;
 public class AuthController {
 
     private final AuthService authService;
+    private final AuthRateLimiter authRateLimiter;
 
     @PostMapping("/register")
     public ResponseEntity<ApiResponse<Void>> register(
-            @Valid @RequestBody RegisterRequestDTO registerRequestDTO
+            @Valid @RequestBody RegisterRequestDTO registerRequestDTO,
+            jakarta.servlet.http.HttpServletRequest request
     ) {
+        // 해시/DB 작업 전에 요청 제한 확인
+        authRateLimiter.check(AuthRateLimiter.Action.REGISTER, request.getRemoteAddr(), registerRequestDTO.getEmail());
         authService.register(registerRequestDTO);
         return ResponseEntity.ok(ApiResponse.ok("회원가입이 완료되었습니다. 이메일을 확인하여 인증을 완료해주세요."));
     }
@@ -34,8 +39,11 @@ public class AuthController {
     @PostMapping("/login")
     public ResponseEntity<ApiResponse<LoginResponseDTO>> login(
             @Valid @RequestBody LoginRequestDTO loginRequestDTO,
+            jakarta.servlet.http.HttpServletRequest request,
             HttpServletResponse response
     ) {
+        // BCrypt 검증 전에 요청 제한 확인 (IP, 아이디 기준)
+        authRateLimiter.check(AuthRateLimiter.Action.LOGIN, request.getRemoteAddr(), loginRequestDTO.getUsername());
         LoginResponseDTO result = authService.login(loginRequestDTO);
         
         // HttpOnly 쿠키로 토큰 설정 (보안 강화)
@@ -171,9 +179,23 @@ public class AuthController {
         return ResponseEntity.ok(ApiResponse.ok("회원탈퇴 성공"));
     }
     
-    /** ✅ 로그아웃 (쿠키 삭제) */
+    /** ✅ 로그아웃 (세션 폐기 + 쿠키 삭제) */
     @PostMapping("/logout")
-    public ResponseEntity<ApiResponse<Void>> logout(HttpServletResponse response) {
+    public ResponseEntity<ApiResponse<Void>> logout(
+            jakarta.servlet.http.HttpServletRequest request,
+            HttpServletResponse response
+    ) {
+        // 쿠키의 refreshToken이 속한 세션 폐기
+        String refreshToken = null;
+        if (request.getCookies() != null) {
+            for (Cookie cookie : request.getCookies()) {
+                if ("refreshToken".equals(cookie.getName())) {
+                    refreshToken = cookie.getValue();
+                }
+            }
+        }
+        authService.logout(refreshToken);
+
         // 쿠키 삭제
         Cookie accessTokenCookie = new Cookie("accessToken", null);
         accessTokenCookie.setHttpOnly(true);
@@ -190,6 +212,13 @@ public class AuthController {
         return ResponseEntity.ok(ApiResponse.ok("로그아웃 성공"));
     }
 
+    /** ✅ 모든 기기에서 로그아웃 */
+    @PostMapping("/sessions/revoke-all")
+    public ResponseEntity<ApiResponse<Void>> revokeAllSessions() {
+        authService.revokeAllSessions();
+        return ResponseEntity.ok(ApiResponse.ok("모든 세션이 로그아웃되었습니다."));
+    }
+
     /** ✅ 이메일 인증 처리 */
     @GetMapping("/verify-email")
     public ResponseEntity<ApiResponse<Void>> verifyEmail(@RequestParam String token) {
@@ -199,7 +228,12 @@ public class AuthController {
 
     /** ✅ 이메일 인증 메일 재발송 */
     @PostMapping("/resend-verification")
-    public ResponseEntity<ApiResponse<Void>> resendVerificationEmail(@RequestParam String email) {
+    public ResponseEntity<ApiResponse<Void>> resendVerificationEmail(
+            @RequestParam String email,
+            jakarta.servlet.http.HttpServletRequest request
+    ) {
+        // DB 조회/메일 발송 전에 요청 제한 확인 (IP, 이메일 기준)
+        authRateLimiter.check(AuthRateLimiter.Action.RESEND_VERIFICATION, request.getRemoteAddr(), email);
         authService.resendVerificationEmail(email);
         return ResponseEntity.ok(ApiResponse.ok("인증 메일이 재발송되었습니다."));
     }
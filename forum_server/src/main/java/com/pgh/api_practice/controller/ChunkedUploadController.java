@@ -0,0 +1,106 @@
+package com.pgh.api_practice.controller;
+
+import com.pgh.api_practice.dto.ApiResponse;
+import com.pgh.api_practice.dto.CreateUploadSessionDTO;
+import com.pgh.api_practice.dto.UploadSessionDTO;
+import com.pgh.api_practice.service.ChunkedUploadService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+
+/**
+ * 청크 업로드 (대용량 채팅 파일)
+ * 1. POST   /upload/chunked/sessions                         세션 생성
+ * 2. PUT    /upload/chunked/sessions/{uploadId}/chunks/{i}   청크 전송 (본문 = 원본 바이트, X-Chunk-Checksum = SHA-256)
+ * 3. GET    /upload/chunked/sessions/{uploadId}              받은 청크 확인 (끊긴 뒤 이어 올리기)
+ * 4. POST   /upload/chunked/sessions/{uploadId}/complete     완료 → url 반환
+ */
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/upload/chunked")
+public class ChunkedUploadController {
+
+    private final ChunkedUploadService chunkedUploadService;
+
+    @PostMapping("/sessions")
+    public ResponseEntity<ApiResponse<UploadSessionDTO>> createSession(@Valid @RequestBody CreateUploadSessionDTO dto) {
+        String username = currentUsername();
+        if (username == null) {
+            return ResponseEntity.status(401).body(ApiResponse.fail("인증이 필요합니다."));
+        }
+        return ResponseEntity.ok(ApiResponse.ok(chunkedUploadService.createSession(dto, username), "업로드 세션 생성 성공"));
+    }
+
+    @PutMapping("/sessions/{uploadId}/chunks/{index}")
+    public ResponseEntity<ApiResponse<Void>> uploadChunk(
+            @PathVariable String uploadId,
+            @PathVariable int index,
+            @RequestHeader(value = "X-Chunk-Checksum", required = false) String checksum,
+            HttpServletRequest request
+    ) {
+        String username = currentUsername();
+        if (username == null) {
+            return ResponseEntity.status(401).body(ApiResponse.fail("인증이 필요합니다."));
+        }
+        try {
+            chunkedUploadService.writeChunk(uploadId, index, checksum, request.getInputStream(), username);
+            return ResponseEntity.ok(ApiResponse.ok("청크 업로드 성공"));
+        } catch (IOException e) {
+            log.error("청크 업로드 실패: {} #{}", uploadId, index, e);
+            return ResponseEntity.status(500).body(ApiResponse.fail("청크 업로드 중 오류가 발생했습니다."));
+        }
+    }
+
+    @GetMapping("/sessions/{uploadId}")
+    public ResponseEntity<ApiResponse<UploadSessionDTO>> getSession(@PathVariable String uploadId) {
+        String username = currentUsername();
+        if (username == null) {
+            return ResponseEntity.status(401).body(ApiResponse.fail("인증이 필요합니다."));
+        }
+        return ResponseEntity.ok(ApiResponse.ok(chunkedUploadService.getSession(uploadId, username), "조회 성공"));
+    }
+
+    @PostMapping("/sessions/{uploadId}/complete")
+    public ResponseEntity<ApiResponse<UploadSessionDTO>> complete(@PathVariable String uploadId) {
+        String username = currentUsername();
+        if (username == null) {
+            return ResponseEntity.status(401).body(ApiResponse.fail("인증이 필요합니다."));
+        }
+        try {
+            return ResponseEntity.ok(ApiResponse.ok(chunkedUploadService.complete(uploadId, username), "업로드 완료"));
+        } catch (IOException e) {
+            log.error("청크 업로드 완료 처리 실패: {}", uploadId, e);
+            return ResponseEntity.status(500).body(ApiResponse.fail("업로드 완료 처리 중 오류가 발생했습니다."));
+        }
+    }
+
+    @DeleteMapping("/sessions/{uploadId}")
+    public ResponseEntity<ApiResponse<Void>> abort(@PathVariable String uploadId) {
+        String username = currentUsername();
+        if (username == null) {
+            return ResponseEntity.status(401).body(ApiResponse.fail("인증이 필요합니다."));
+        }
+        try {
+            chunkedUploadService.abort(uploadId, username);
+            return ResponseEntity.ok(ApiResponse.ok("업로드 취소 성공"));
+        } catch (IOException e) {
+            log.error("청크 업로드 취소 실패: {}", uploadId, e);
+            return ResponseEntity.status(500).body(ApiResponse.fail("업로드 취소 중 오류가 발생했습니다."));
+        }
+    }
+
+    private String currentUsername() {
+        var authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication.getName() == null || "anonymousUser".equals(authentication.getName())) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
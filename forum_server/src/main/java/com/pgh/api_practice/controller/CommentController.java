@@ -1,6 +1,7 @@
 package com.pgh.api_practice.controller;
 
 import com.pgh.api_practice.dto.*;
+import com.pgh.api_practice.entity.CommentTargetType;
 import com.pgh.api_practice.service.CommentService;
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
@@ -18,14 +19,44 @@ public class CommentController {
 
     /**
      * 게시글의 댓글 목록 조회
-     * GET /comment?postId=1
+     * GET /comment?postId=1&type=POST (type: POST / GROUP_POST, 생략 시 일반 게시글 우선)
      */
     @GetMapping
-    public ResponseEntity<ApiResponse<List<CommentDTO>>> getComments(@RequestParam Long postId) {
-        List<CommentDTO> comments = commentService.getCommentsByPostId(postId);
+    public ResponseEntity<ApiResponse<List<CommentDTO>>> getComments(
+            @RequestParam Long postId,
+            @RequestParam(required = false) CommentTargetType type) {
+        List<CommentDTO> comments = commentService.getCommentsByPostId(postId, type);
         return ResponseEntity.ok(ApiResponse.ok(comments, "댓글 목록 조회 성공"));
     }
 
+    /**
+     * 게시글의 댓글 스레드 조회 (커서 기반, 고정 댓글 우선 + 대댓글 미리보기)
+     * GET /comment/thread?postId=1&type=POST&after=...&size=20&replyPreview=3
+     */
+    @GetMapping("/thread")
+    public ResponseEntity<ApiResponse<CommentThreadPageDTO>> getCommentThreads(
+            @RequestParam Long postId,
+            @RequestParam(required = false) CommentTargetType type,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "3") int replyPreview) {
+        CommentThreadPageDTO threads = commentService.getCommentThreads(postId, type, after, size, replyPreview);
+        return ResponseEntity.ok(ApiResponse.ok(threads, "댓글 목록 조회 성공"));
+    }
+
+    /**
+     * 대댓글 조회 (커서 기반)
+     * GET /comment/{id}/replies?after=...&size=20
+     */
+    @GetMapping("/{id}/replies")
+    public ResponseEntity<ApiResponse<CommentThreadPageDTO>> getReplies(
+            @PathVariable Long id,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int size) {
+        CommentThreadPageDTO replies = commentService.getReplies(id, after, size);
+        return ResponseEntity.ok(ApiResponse.ok(replies, "대댓글 목록 조회 성공"));
+    }
+
     /**
      * 댓글 생성
      * POST /comment
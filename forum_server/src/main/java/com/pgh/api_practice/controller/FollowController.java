@@ -1,6 +1,7 @@
 package com.pgh.api_practice.controller;
 
 import com.pgh.api_practice.dto.ApiResponse;
+import com.pgh.api_practice.dto.MentionSuggestionDTO;
 import com.pgh.api_practice.service.FollowService;
 import lombok.AllArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -63,6 +64,28 @@ public class FollowController {
         return ResponseEntity.ok(ApiResponse.ok(followers, "팔로워 목록 조회 성공"));
     }
 
+    /** ✅ 팔로워 목록 조회 (커서 기반, 최신순, size 최대 50) */
+    // GET http://localhost:8081/follow/{userId}/followers/page?before=...&size=20
+    @GetMapping("/{userId}/followers/page")
+    public ResponseEntity<ApiResponse<FollowService.UserCursorPageDTO>> getFollowersPage(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String before,
+            @RequestParam(defaultValue = "20") int size) {
+        FollowService.UserCursorPageDTO followers = followService.getFollowersPage(userId, before, size);
+        return ResponseEntity.ok(ApiResponse.ok(followers, "팔로워 목록 조회 성공"));
+    }
+
+    /** ✅ 팔로잉 목록 조회 (커서 기반, 최신순, size 최대 50) */
+    // GET http://localhost:8081/follow/{userId}/following/page?before=...&size=20
+    @GetMapping("/{userId}/following/page")
+    public ResponseEntity<ApiResponse<FollowService.UserCursorPageDTO>> getFollowingPage(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String before,
+            @RequestParam(defaultValue = "20") int size) {
+        FollowService.UserCursorPageDTO following = followService.getFollowingPage(userId, before, size);
+        return ResponseEntity.ok(ApiResponse.ok(following, "팔로잉 목록 조회 성공"));
+    }
+
     /** ✅ 팔로잉 목록 조회 */
     // GET http://localhost:8081/follow/{userId}/following
     @GetMapping("/{userId}/following")
@@ -87,6 +110,16 @@ public class FollowController {
         return ResponseEntity.ok(ApiResponse.ok(isFollowing, isFollowing ? "팔로우 중" : "팔로우하지 않음"));
     }
     
+    /** ✅ @멘션 자동완성 (댓글/채팅 입력창, limit 최대 20) */
+    // GET http://localhost:8081/follow/mention?query=@gil&limit=8
+    @GetMapping("/mention")
+    public ResponseEntity<ApiResponse<List<MentionSuggestionDTO>>> suggestMentions(
+            @RequestParam String query,
+            @RequestParam(defaultValue = "8") int limit) {
+        List<MentionSuggestionDTO> suggestions = followService.suggestMentions(query, limit);
+        return ResponseEntity.ok(ApiResponse.ok(suggestions, "멘션 후보 조회 성공"));
+    }
+    
     /** ✅ 사용자 검색 (username 또는 nickname으로 검색) */
     // GET http://localhost:8081/follow/search?query=검색어
     @GetMapping("/search")
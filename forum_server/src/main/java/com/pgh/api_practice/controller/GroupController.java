@@ -38,8 +38,11 @@ public class GroupController {
 
     /** 모임 검색 (이름 또는 설명으로 검색) */
     @GetMapping("/search")
-    public ResponseEntity<ApiResponse<List<GroupListDTO>>> searchGroups(@RequestParam String query) {
-        List<GroupListDTO> groups = groupService.searchGroups(query);
+    public ResponseEntity<ApiResponse<List<GroupListDTO>>> searchGroups(
+            @RequestParam String query,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "100") int size) {
+        List<GroupListDTO> groups = groupService.searchGroups(query, page, size);
         return ResponseEntity.ok(ApiResponse.ok(groups, "모임 검색 성공"));
     }
 
@@ -1,6 +1,13 @@
 package com.pgh.api_practice.controller;
 
 import com.pgh.api_practice.dto.ApiResponse;
+import com.pgh.api_practice.exception.ApplicationBadRequestException;
+import com.pgh.api_practice.global.ImageDerivatives;
+import com.pgh.api_practice.global.ImageInfo;
+import com.pgh.api_practice.service.ImageDerivativeService;
+import com.pgh.api_practice.service.ImageUploadValidator;
+import com.pgh.api_practice.service.UploadStorageService;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.MediaType;
@@ -10,19 +17,17 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
 import java.util.*;
 
 @Slf4j
 @RestController
+@RequiredArgsConstructor
 @RequestMapping("/upload")
 public class ImageUploadController {
 
-    @Value("${app.upload.dir:C:/app-data/uploads}")
-    private String uploadDir;
+    private final UploadStorageService uploadStorageService;
+    private final ImageDerivativeService imageDerivativeService;
+    private final ImageUploadValidator imageUploadValidator;
 
     @Value("${app.upload.max-size:10485760}")
     private long maxFileSize; // 기본 10MB
@@ -64,48 +69,36 @@ public class ImageUploadController {
                 return ResponseEntity.badRequest().body(ApiResponse.fail("지원하지 않는 이미지 형식입니다. (JPEG, PNG, GIF, WebP만 가능)"));
             }
 
-            // 업로드 디렉토리 생성
-            Path uploadPath = Paths.get(uploadDir);
-            if (!Files.exists(uploadPath)) {
-                Files.createDirectories(uploadPath);
-            }
-
-            // 파일 확장자 추출
+            // 실제 형식/해상도는 매직 바이트와 헤더로 판별 (Content-Type/확장자는 신뢰하지 않음)
             String originalFilename = file.getOriginalFilename();
-            String extension = "";
-            if (originalFilename != null && originalFilename.contains(".")) {
-                extension = originalFilename.substring(originalFilename.lastIndexOf("."));
-            }
+            ImageInfo image = imageUploadValidator.validate(file);
 
-            // 고유한 파일명 생성
-            String savedFilename = UUID.randomUUID().toString() + extension;
-            Path targetPath = uploadPath.resolve(savedFilename);
+            // 파일 저장 (내용 해시가 파일명 → 같은 이미지는 한 번만 저장)
+            String savedFilename = uploadStorageService.store(file, image.getFormat().getExtension(),
+                    image.getFormat().getContentType(), image, authentication.getName());
 
-            // 파일 저장
-            try (var inputStream = file.getInputStream()) {
-                Files.copy(inputStream, targetPath, StandardCopyOption.REPLACE_EXISTING);
-            }
-            
-            // 파일 저장 확인
-            if (!Files.exists(targetPath)) {
-                log.error("파일 저장 실패: {}", targetPath);
-                return ResponseEntity.status(500).body(ApiResponse.fail("파일 저장에 실패했습니다."));
-            }
-            
-            log.info("파일 저장 성공: {} (크기: {} bytes)", targetPath, Files.size(targetPath));
+            // 썸네일/미리보기 생성은 백그라운드에서 처리
+            imageDerivativeService.schedule(savedFilename, image.getOrientation());
 
             // URL 생성 (Nginx가 /uploads/로 서빙)
             String imageUrl = "/uploads/" + savedFilename;
 
             Map<String, String> result = new HashMap<>();
             result.put("url", imageUrl);
+            result.put("thumbnailUrl", ImageDerivatives.thumbnailUrl(imageUrl));
+            result.put("mediumUrl", ImageDerivatives.mediumUrl(imageUrl));
             result.put("filename", savedFilename);
+            // 레이아웃 자리 확보용 (EXIF 회전 반영)
+            result.put("width", String.valueOf(image.getDisplayWidth()));
+            result.put("height", String.valueOf(image.getDisplayHeight()));
             result.put("originalFilename", originalFilename != null ? originalFilename : "");
 
             log.info("이미지 업로드 성공: {} -> {}", originalFilename, savedFilename);
 
             return ResponseEntity.ok(ApiResponse.ok(result, "이미지 업로드 성공"));
 
+        } catch (ApplicationBadRequestException e) {
+            return ResponseEntity.badRequest().body(ApiResponse.fail(e.getMessage()));
         } catch (IOException e) {
             log.error("이미지 업로드 실패", e);
             return ResponseEntity.status(500).body(ApiResponse.fail("이미지 업로드 중 오류가 발생했습니다: " + e.getMessage()));
@@ -128,22 +121,8 @@ public class ImageUploadController {
                 return ResponseEntity.status(401).body(ApiResponse.fail("인증이 필요합니다."));
             }
 
-            // 보안: 파일명에 경로 탐색 문자 제거
-            if (filename.contains("..") || filename.contains("/") || filename.contains("\\")) {
-                return ResponseEntity.badRequest().body(ApiResponse.fail("잘못된 파일명입니다."));
-            }
-
-            Path filePath = Paths.get(uploadDir).resolve(filename);
-            
-            // 파일 존재 확인
-            if (!Files.exists(filePath)) {
-                return ResponseEntity.status(404).body(ApiResponse.fail("파일을 찾을 수 없습니다."));
-            }
-
-            // 파일 삭제
-            Files.delete(filePath);
-
-            log.info("이미지 삭제 성공: {}", filename);
+            // 참조 중이 아니고 본인이 올린 파일만 삭제 (파생본 포함)
+            uploadStorageService.delete(filename, authentication.getName());
 
             return ResponseEntity.ok(ApiResponse.ok("이미지 삭제 성공"));
 
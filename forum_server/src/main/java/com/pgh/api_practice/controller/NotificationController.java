@@ -1,8 +1,11 @@
 package com.pgh.api_practice.controller;
 
 import com.pgh.api_practice.dto.ApiResponse;
+import com.pgh.api_practice.dto.CreateBroadcastNoticeDTO;
+import com.pgh.api_practice.dto.NotificationCursorPageDTO;
 import com.pgh.api_practice.dto.NotificationDTO;
 import com.pgh.api_practice.service.NotificationService;
+import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -25,6 +28,19 @@ public class NotificationController {
         return ResponseEntity.ok(ApiResponse.ok(notifications, "알림 목록 조회 성공"));
     }
 
+    /**
+     * 알림 목록 조회 (커서 기반)
+     * GET /notification/cursor?before=123&beforeNotice=45&size=20
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<ApiResponse<NotificationCursorPageDTO>> getNotificationsBefore(
+            @RequestParam(required = false) Long before,
+            @RequestParam(required = false) Long beforeNotice,
+            @RequestParam(defaultValue = "20") int size) {
+        NotificationCursorPageDTO notifications = notificationService.getNotificationsBefore(before, beforeNotice, size);
+        return ResponseEntity.ok(ApiResponse.ok(notifications, "알림 목록 조회 성공"));
+    }
+
     /**
      * 읽지 않은 알림 개수 조회
      */
@@ -60,4 +76,22 @@ public class NotificationController {
         boolean isRead = notificationService.getReadStatus(id);
         return ResponseEntity.ok(ApiResponse.ok(isRead, "알림 읽음 상태 조회 성공"));
     }
+
+    /**
+     * 브로드캐스트 공지 발행 (모임 멤버 또는 내 팔로워 대상)
+     */
+    @PostMapping("/broadcast")
+    public ResponseEntity<ApiResponse<Long>> createBroadcastNotice(@Valid @RequestBody CreateBroadcastNoticeDTO dto) {
+        Long noticeId = notificationService.createBroadcastNotice(dto);
+        return ResponseEntity.status(201).body(ApiResponse.ok(noticeId, "공지 발행 성공"));
+    }
+
+    /**
+     * 브로드캐스트 공지를 읽음 처리
+     */
+    @PutMapping("/broadcast/{id}/read")
+    public ResponseEntity<ApiResponse<NotificationDTO>> markBroadcastAsRead(@PathVariable Long id) {
+        NotificationDTO notification = notificationService.markBroadcastAsRead(id);
+        return ResponseEntity.ok(ApiResponse.ok(notification, "공지를 읽음 처리했습니다."));
+    }
 }
@@ -35,6 +35,16 @@ public class PostController {
         return ResponseEntity.ok(ApiResponse.ok(list, "내 게시글 조회 성공"));
     }
 
+    /** ✅ 팔로잉 타임라인 조회 (커서 기반, 최신순, size 최대 50) */
+    // GET http://localhost:8081/post/following?before=123&size=20
+    @GetMapping("/following")
+    public ResponseEntity<ApiResponse<PostCursorPageDTO>> getFollowingTimeline(
+            @RequestParam(required = false) Long before,
+            @RequestParam(defaultValue = "20") int size) {
+        PostCursorPageDTO timeline = postService.getFollowingTimeline(before, size);
+        return ResponseEntity.ok(ApiResponse.ok(timeline, "팔로잉 타임라인 조회 성공"));
+    }
+
     /** ✅ 전체 게시글 목록 조회 */
     // GET
     // http://localhost:8081/post?sortType=HITS&tag=react&search=키워드&groupFilter=ALL
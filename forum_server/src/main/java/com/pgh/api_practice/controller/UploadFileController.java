@@ -0,0 +1,213 @@
+package com.pgh.api_practice.controller;
+
+import com.pgh.api_practice.global.ImageDerivatives;
+import com.pgh.api_practice.global.UploadFileTypes;
+import com.pgh.api_practice.service.UploadStorageService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 업로드 파일 서빙 (Nginx 없이 배포하거나 여러 노드에서 직접 서빙할 때)
+ * app.upload.serve.enabled=true 일 때만 등록되며, 이때 WebConfig의 /uploads/** 리소스 핸들러는 빠진다.
+ * - 본문은 Tomcat sendfile(지원 시) 또는 FileChannel.transferTo로 전송 (힙 복사 없음)
+ * - {sha256}.{ext} / {sha256}_{variant}.jpg 파일은 해시가 곧 강한 ETag이고 내용이 바뀌지 않으므로 immutable 캐시
+ * - If-None-Match(304), Range(단일 구간, 206/416), If-Range 지원
+ * - 파생본이 아직 생성되지 않았으면 원본으로 대신 응답하되 짧게만 캐시한다
+ * - 이미지가 아닌 파일은 application/octet-stream + attachment로만 내려주고, 모든 응답에 CSP sandbox를 붙인다
+ */
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.upload.serve.enabled", havingValue = "true")
+public class UploadFileController {
+
+    private static final Pattern HASHED_FILE = Pattern.compile("^([0-9a-f]{64})(?:_(" +
+            ImageDerivatives.THUMB + "|" + ImageDerivatives.MEDIUM + "))?\\.[a-z0-9]{1,10}$");
+    private static final Pattern RANGE = Pattern.compile("^bytes=(\\d*)-(\\d*)$");
+
+    private static final String IMMUTABLE_CACHE = "public, max-age=31536000, immutable";
+    private static final String FALLBACK_CACHE = "public, max-age=60";
+    private static final String LEGACY_CACHE = "public, max-age=86400";
+
+    // Tomcat sendfile 요청 속성 (NIO 커넥터에서 커널 sendfile로 전송)
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final UploadStorageService uploadStorageService;
+
+    /**
+     * 업로드 파일 조회
+     * GET /uploads/{filename}
+     */
+    @RequestMapping(value = "/uploads/{filename:[A-Za-z0-9_-]+\\.[A-Za-z0-9]+}", method = {RequestMethod.GET, RequestMethod.HEAD})
+    public void serve(@PathVariable String filename, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        Path file = uploadStorageService.resolve(filename);
+        String cacheControl;
+        String etag;
+
+        Matcher hashed = HASHED_FILE.matcher(filename);
+        if (hashed.matches()) {
+            cacheControl = IMMUTABLE_CACHE;
+            etag = "\"" + filename.substring(0, filename.lastIndexOf('.')) + "\"";
+
+            // 파생본이 아직 없으면 원본으로 대신 응답 (곧 생성되므로 짧게 캐시)
+            if (hashed.group(2) != null && !Files.isRegularFile(file)) {
+                Optional<String> original = uploadStorageService.findStoredFilename(hashed.group(1));
+                if (original.isPresent()) {
+                    file = uploadStorageService.resolve(original.get());
+                    cacheControl = FALLBACK_CACHE;
+                    etag = "\"" + hashed.group(1) + "\"";
+                }
+            }
+        } else {
+            cacheControl = LEGACY_CACHE;
+            etag = null;
+        }
+
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        } catch (IOException e) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        if (!attributes.isRegularFile()) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        long length = attributes.size();
+        if (etag == null) {
+            // 해시 이름이 아닌 기존 파일은 크기/수정 시각 기반 약한 ETag
+            etag = "W/\"" + Long.toHexString(length) + "-" + Long.toHexString(attributes.lastModifiedTime().toMillis()) + "\"";
+        }
+
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader("X-Content-Type-Options", "nosniff");
+        response.setHeader("Content-Security-Policy", "sandbox");
+
+        if (matchesAny(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        // 이미지(jpg/png/gif/webp)만 인라인으로 보여주고, 그 밖의 파일은 다운로드로만 내려준다 (html/svg 등이 같은 출처에서 실행되지 않도록)
+        String extension = UploadFileTypes.extensionOf(file.getFileName().toString());
+        if (UploadFileTypes.isInlineImage(extension)) {
+            response.setContentType(UploadFileTypes.contentTypeOf(extension));
+        } else {
+            response.setContentType(UploadFileTypes.FALLBACK_CONTENT_TYPE);
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment");
+        }
+
+        long start = 0;
+        long end = length - 1;
+        String range = request.getHeader(HttpHeaders.RANGE);
+        if (range != null && rangeApplies(request.getHeader(HttpHeaders.IF_RANGE), etag)) {
+            Matcher matcher = RANGE.matcher(range.trim());
+            // 여러 구간 요청이나 해석할 수 없는 형식은 무시하고 전체를 보낸다
+            if (matcher.matches() && !(matcher.group(1).isEmpty() && matcher.group(2).isEmpty())) {
+                try {
+                    if (matcher.group(1).isEmpty()) {
+                        long suffix = Long.parseLong(matcher.group(2));
+                        start = Math.max(0, length - suffix);
+                    } else {
+                        start = Long.parseLong(matcher.group(1));
+                        if (!matcher.group(2).isEmpty()) {
+                            end = Math.min(Long.parseLong(matcher.group(2)), length - 1);
+                        }
+                    }
+                } catch (NumberFormatException e) {
+                    start = length;
+                }
+                if (start >= length || start > end) {
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                    response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                    return;
+                }
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            }
+        }
+
+        long count = end - start + 1;
+        response.setContentLengthLong(count);
+        if ("HEAD".equals(request.getMethod()) || count <= 0) {
+            return;
+        }
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+            request.setAttribute(SENDFILE_FILENAME, file.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long sent = channel.transferTo(position, remaining, out);
+                if (sent <= 0) {
+                    break;
+                }
+                position += sent;
+                remaining -= sent;
+            }
+        }
+    }
+
+    // If-None-Match: 목록 중 하나라도 일치하면 (약한 비교)
+    private boolean matchesAny(String header, String etag) {
+        if (header == null) {
+            return false;
+        }
+        String target = stripWeak(etag);
+        for (String candidate : header.split(",")) {
+            String value = candidate.trim();
+            if (value.equals("*") || stripWeak(value).equals(target)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // If-Range가 없거나 강한 ETag가 정확히 일치할 때만 Range 적용
+    private boolean rangeApplies(String ifRange, String etag) {
+        if (ifRange == null) {
+            return true;
+        }
+        return !etag.startsWith("W/") && ifRange.trim().equals(etag);
+    }
+
+    private String stripWeak(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+}
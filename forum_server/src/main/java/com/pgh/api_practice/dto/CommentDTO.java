@@ -25,5 +25,7 @@ public class CommentDTO {
     private LocalDateTime createDateTime;
     private LocalDateTime updateDateTime;
     private List<CommentDTO> replies; // 대댓글 목록
+    private int replyCount; // 삭제되지 않은 직계 대댓글 수
+    private String nextReplyCursor; // 스레드 조회 시: 미리보기 이후 대댓글을 이어서 받을 커서 (없으면 null)
 }
 
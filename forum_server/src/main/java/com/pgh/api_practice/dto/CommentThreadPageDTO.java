@@ -0,0 +1,19 @@
+package com.pgh.api_practice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 커서 기반 댓글 스레드 응답
+ * 다음 페이지는 nextCursor를 after로 그대로 넘겨서 요청한다.
+ */
+@Getter
+@AllArgsConstructor
+public class CommentThreadPageDTO {
+
+    private List<CommentDTO> content;
+    private String nextCursor;
+    private boolean hasNext;
+}
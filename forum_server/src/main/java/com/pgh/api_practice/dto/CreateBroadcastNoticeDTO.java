@@ -0,0 +1,27 @@
+package com.pgh.api_practice.dto;
+
+import com.pgh.api_practice.entity.NoticeAudience;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class CreateBroadcastNoticeDTO {
+    @NotBlank(message = "공지 제목을 입력해주세요.")
+    @Size(max = 200, message = "공지 제목은 200자 이하여야 합니다.")
+    private String title;
+
+    @NotBlank(message = "공지 내용을 입력해주세요.")
+    @Size(max = 500, message = "공지 내용은 500자 이하여야 합니다.")
+    private String message;
+
+    @NotNull(message = "공지 대상이 필요합니다.")
+    private NoticeAudience audience;
+
+    private Long audienceId; // GROUP_MEMBERS인 경우 모임 ID (FOLLOWERS는 작성자 본인으로 고정)
+}
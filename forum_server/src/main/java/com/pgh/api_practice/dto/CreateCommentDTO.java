@@ -1,5 +1,6 @@
 package com.pgh.api_practice.dto;
 
+import com.pgh.api_practice.entity.CommentTargetType;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
@@ -17,5 +18,7 @@ public class CreateCommentDTO {
     private Long postId;
 
     private Long parentCommentId; // null이면 최상위 댓글, 값이 있으면 대댓글
+
+    private CommentTargetType targetType; // POST / GROUP_POST, null이면 일반 게시글 우선으로 찾음
 }
 
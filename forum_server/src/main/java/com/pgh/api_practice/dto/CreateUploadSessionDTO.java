@@ -0,0 +1,26 @@
+package com.pgh.api_practice.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class CreateUploadSessionDTO {
+    @NotBlank(message = "파일명을 입력해주세요.")
+    @Size(max = 255, message = "파일명은 255자 이하여야 합니다.")
+    private String fileName;
+
+    @NotNull(message = "파일 크기가 필요합니다.")
+    @Positive(message = "파일 크기는 0보다 커야 합니다.")
+    private Long fileSize;
+
+    private String contentType;  // 참고용 (저장 형식은 서버가 파일 내용/확장자로 판별)
+
+    private Integer chunkSize;  // 요청 청크 크기 (없으면 서버 기본값, 서버 상한으로 제한)
+}
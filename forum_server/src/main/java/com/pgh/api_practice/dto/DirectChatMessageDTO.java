@@ -2,6 +2,7 @@ package com.pgh.api_practice.dto;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.pgh.api_practice.entity.DirectChatMessage;
+import com.pgh.api_practice.global.ImageDerivatives;
 import lombok.*;
 
 import java.time.LocalDateTime;
@@ -33,4 +34,17 @@ public class DirectChatMessageDTO {
 
     @JsonProperty("isRead")
     private boolean isRead;
+
+    // 이미지 파생본 URL (원본이 해시 파일명일 때만, 아니면 null)
+    public String getProfileImageThumbnailUrl() {
+        return ImageDerivatives.thumbnailUrl(profileImageUrl);
+    }
+
+    public String getFileThumbnailUrl() {
+        return ImageDerivatives.thumbnailUrl(fileUrl);
+    }
+
+    public String getFileMediumUrl() {
+        return ImageDerivatives.mediumUrl(fileUrl);
+    }
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.pgh.api_practice.dto;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.pgh.api_practice.entity.MessageType;
+import com.pgh.api_practice.global.ImageDerivatives;
 import lombok.*;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -35,6 +36,19 @@ public class GroupChatMessageDTO {
     private String fileUrl;
     private String fileName;
     private Long fileSize;
+
+    // 이미지 파생본 URL (원본이 해시 파일명일 때만, 아니면 null)
+    public String getProfileImageThumbnailUrl() {
+        return ImageDerivatives.thumbnailUrl(profileImageUrl);
+    }
+
+    public String getFileThumbnailUrl() {
+        return ImageDerivatives.thumbnailUrl(fileUrl);
+    }
+
+    public String getFileMediumUrl() {
+        return ImageDerivatives.mediumUrl(fileUrl);
+    }
     
     @Getter
     @Setter
@@ -0,0 +1,21 @@
+package com.pgh.api_practice.dto;
+
+import com.pgh.api_practice.global.ImageDerivatives;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/** @멘션 자동완성 후보 */
+@Getter
+@AllArgsConstructor
+public class MentionSuggestionDTO {
+
+    private Long id;
+    private String username;
+    private String nickname;
+    private String profileImageUrl;
+
+    // 이미지 파생본 URL (원본이 해시 파일명일 때만, 아니면 null)
+    public String getProfileImageThumbnailUrl() {
+        return ImageDerivatives.thumbnailUrl(profileImageUrl);
+    }
+}
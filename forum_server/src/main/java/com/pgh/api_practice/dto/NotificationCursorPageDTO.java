@@ -0,0 +1,20 @@
+package com.pgh.api_practice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 커서 기반 알림 목록 응답
+ * 다음 페이지는 nextBefore(개인 알림 ID)와 nextBeforeNotice(브로드캐스트 공지 ID)를 그대로 넘겨서 요청한다.
+ */
+@Getter
+@AllArgsConstructor
+public class NotificationCursorPageDTO {
+
+    private List<NotificationDTO> content;
+    private Long nextBefore;
+    private Long nextBeforeNotice;
+    private boolean hasNext;
+}
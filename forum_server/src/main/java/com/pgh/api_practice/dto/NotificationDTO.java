@@ -28,6 +28,9 @@ public class NotificationDTO {
     
     @JsonProperty("isRead")
     private boolean isRead;  // Jackson이 isRead를 read로 직렬화하는 것을 방지
+
+    @JsonProperty("isBroadcast")
+    private boolean isBroadcast;  // 브로드캐스트 공지 여부 (id는 broadcast_notices 기준)
     
     private LocalDateTime createdTime;
 }
@@ -0,0 +1,19 @@
+package com.pgh.api_practice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 커서 기반 게시글 목록 응답
+ * 다음 페이지는 nextBefore(마지막 게시글 ID)를 before로 그대로 넘겨서 요청한다.
+ */
+@Getter
+@AllArgsConstructor
+public class PostCursorPageDTO {
+
+    private List<PostListDTO> content;
+    private Long nextBefore;
+    private boolean hasNext;
+}
@@ -1,6 +1,7 @@
 package com.pgh.api_practice.dto;
 
 
+import com.pgh.api_practice.global.ImageDerivatives;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
@@ -24,4 +25,9 @@ public class PostListDTO {
     private Long groupId;
     private String groupName;
     private Boolean isPublic;  // 모임 외부 노출 여부
+
+    // 이미지 파생본 URL (원본이 해시 파일명일 때만, 아니면 null)
+    public String getProfileImageThumbnailUrl() {
+        return ImageDerivatives.thumbnailUrl(profileImageUrl);
+    }
 }
@@ -0,0 +1,21 @@
+package com.pgh.api_practice.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class UploadSessionDTO {
+    private String uploadId;
+    private String status;             // UPLOADING, COMPLETED
+    private String fileName;
+    private long fileSize;
+    private int chunkSize;
+    private int totalChunks;
+    private List<Integer> receivedChunks;  // 수신 완료된 청크 번호 (이어 올리기 시 나머지만 전송)
+    private String url;                // 완료 후 파일 URL (채팅 FILE 메시지의 fileUrl로 사용)
+}
@@ -1,5 +1,6 @@
 package com.pgh.api_practice.dto.websocket;
 
+import com.pgh.api_practice.global.ImageDerivatives;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -22,4 +23,17 @@ public class DirectChatMessageResponse {
     private String fileUrl;
     private String fileName;
     private Long fileSize;
+
+    // 이미지 파생본 URL (원본이 해시 파일명일 때만, 아니면 null)
+    public String getProfileImageThumbnailUrl() {
+        return ImageDerivatives.thumbnailUrl(profileImageUrl);
+    }
+
+    public String getFileThumbnailUrl() {
+        return ImageDerivatives.thumbnailUrl(fileUrl);
+    }
+
+    public String getFileMediumUrl() {
+        return ImageDerivatives.mediumUrl(fileUrl);
+    }
 }
\ No newline at end of file
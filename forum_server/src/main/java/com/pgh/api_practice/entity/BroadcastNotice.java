@@ -0,0 +1,50 @@
+package com.pgh.api_practice.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 브로드캐스트 공지
+ * 수신자 수와 관계없이 공지 1건당 1행만 저장하고, 조회 시점에 사용자별 알림 목록과 합쳐서 보여준다.
+ */
+@Entity
+@Table(name = "broadcast_notices", indexes = {
+    @Index(name = "idx_broadcast_audience", columnList = "audience, audience_id, id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EntityListeners(AuditingEntityListener.class)
+public class BroadcastNotice {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 200)
+    private String title;  // 공지 제목
+
+    @Column(nullable = false, length = 500)
+    private String message;  // 공지 내용
+
+    @Column(nullable = false, length = 20)
+    @Enumerated(EnumType.STRING)
+    private NoticeAudience audience;  // 공지 대상
+
+    @Column(name = "audience_id")
+    private Long audienceId;  // 대상 필터 (모임 ID 또는 팔로우 대상 사용자 ID, ALL이면 null)
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "author_id")
+    private Users author;  // 공지 작성자 (시스템 공지는 null)
+
+    @Column(name = "create_datetime")
+    @CreatedDate
+    private LocalDateTime createdTime;
+}
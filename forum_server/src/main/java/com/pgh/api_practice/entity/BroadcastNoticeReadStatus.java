@@ -0,0 +1,35 @@
+package com.pgh.api_practice.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 사용자별 브로드캐스트 공지 읽음 위치
+ * lastReadNoticeId 이하의 공지는 모두 읽은 것으로 본다.
+ */
+@Entity
+@Table(
+        name = "broadcast_notice_read_status",
+        uniqueConstraints = {
+                @UniqueConstraint(columnNames = {"user_id"})
+        }
+)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BroadcastNoticeReadStatus {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private Users user;
+
+    @Builder.Default
+    @Column(name = "last_read_notice_id", nullable = false)
+    private Long lastReadNoticeId = 0L;
+}
@@ -9,7 +9,11 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "comments")
+@Table(name = "comments", indexes = {
+    @Index(name = "idx_comments_parent_created", columnList = "parent_comment_id, is_deleted, create_datetime, id"),
+    @Index(name = "idx_comments_post_thread", columnList = "post_id, parent_comment_id, is_deleted, is_pinned, create_datetime"),
+    @Index(name = "idx_comments_group_post_thread", columnList = "group_post_id, parent_comment_id, is_deleted, is_pinned, create_datetime")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -51,6 +55,11 @@ public class Comment {
     @Column(name = "is_pinned", nullable = false)
     private boolean isPinned = false;
 
+    // 삭제되지 않은 직계 대댓글 수 (대댓글 작성/삭제 시 원자적으로 갱신, 엔티티 save()로는 덮어쓰지 않음)
+    @Builder.Default
+    @Column(name = "reply_count", nullable = false, updatable = false)
+    private int replyCount = 0;
+
     @Column(name = "create_datetime")
     @CreatedDate
     private LocalDateTime createdTime;
@@ -0,0 +1,7 @@
+package com.pgh.api_practice.entity;
+
+/** 댓글이 달린 대상 (일반 게시글 / 모임 게시글) */
+public enum CommentTargetType {
+    POST,
+    GROUP_POST
+}
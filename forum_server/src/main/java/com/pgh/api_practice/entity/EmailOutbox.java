@@ -0,0 +1,63 @@
+package com.pgh.api_practice.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 발송 대기 메일 (outbox)
+ * 요청 트랜잭션에서는 이 테이블에 한 행만 쓰고, 실제 SMTP 발송은 EmailOutboxWorker가 백그라운드에서 처리한다.
+ */
+@Entity
+@Table(name = "email_outbox", indexes = {
+    @Index(name = "idx_email_outbox_status_next_attempt", columnList = "status, next_attempt_at, id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EntityListeners(AuditingEntityListener.class)
+public class EmailOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 255)
+    private String recipient;  // 수신자 이메일
+
+    @Column(nullable = false, length = 255)
+    private String subject;  // 메일 제목
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String body;  // HTML 본문
+
+    @Builder.Default
+    @Column(nullable = false, length = 20)
+    @Enumerated(EnumType.STRING)
+    private EmailOutboxStatus status = EmailOutboxStatus.PENDING;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private int attempts = 0;  // 발송 시도 횟수
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;  // 다음 발송 가능 시각 (지수 백오프)
+
+    @Column(name = "locked_at")
+    private LocalDateTime lockedAt;  // SENDING 전환 시각 (워커 비정상 종료 시 복구 기준)
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    @Column(name = "create_datetime")
+    @CreatedDate
+    private LocalDateTime createdTime;
+}
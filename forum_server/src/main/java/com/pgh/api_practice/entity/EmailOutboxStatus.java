@@ -0,0 +1,8 @@
+package com.pgh.api_practice.entity;
+
+public enum EmailOutboxStatus {
+    PENDING,  // 발송 대기 (nextAttemptAt 이후 발송)
+    SENDING,  // 워커가 가져가서 발송 중
+    SENT,     // 발송 완료
+    DEAD      // 최대 재시도 초과 또는 영구 실패 (더 이상 발송하지 않음)
+}
@@ -10,6 +10,9 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "follows", uniqueConstraints = {
     @UniqueConstraint(columnNames = {"follower_id", "following_id"})
+}, indexes = {
+    @Index(name = "idx_follows_following_created", columnList = "following_id, create_datetime, id"),
+    @Index(name = "idx_follows_follower_created", columnList = "follower_id, create_datetime, id")
 })
 @Getter
 @Setter
@@ -35,6 +35,10 @@ public class Group {
     @Column(name = "profile_image_url", length = 500)
     private String profileImageUrl;
 
+    @Builder.Default
+    @Column(name = "member_count", nullable = false, updatable = false)
+    private long memberCount = 0;  // group_members 행 수 (가입/탈퇴 시 원자적으로 갱신, 엔티티 save()로는 덮어쓰지 않음)
+
     @Builder.Default
     @Column(name = "is_deleted", nullable = false)
     private boolean isDeleted = false;
@@ -0,0 +1,61 @@
+package com.pgh.api_practice.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 모임 삭제 후속 정리 작업
+ * 현재 단계(step)와 그 단계에서 마지막으로 처리한 행 ID(cursorId)를 청크마다 커밋하므로,
+ * 서버가 재시작되어도 남은 부분부터 이어서 진행된다.
+ */
+@Entity
+@Table(name = "group_deletion_jobs", indexes = {
+    @Index(name = "idx_group_deletion_jobs_step", columnList = "step, id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EntityListeners(AuditingEntityListener.class)
+public class GroupDeletionJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "group_id", nullable = false, unique = true)
+    private Long groupId;
+
+    @Builder.Default
+    @Column(nullable = false, length = 30)
+    @Enumerated(EnumType.STRING)
+    private GroupDeletionStep step = GroupDeletionStep.CHAT_MESSAGES;
+
+    @Builder.Default
+    @Column(name = "cursor_id", nullable = false)
+    private long cursorId = 0;  // 현재 단계에서 마지막으로 처리한 행 ID
+
+    @Builder.Default
+    @Column(name = "processed_count", nullable = false)
+    private long processedCount = 0;  // 지금까지 정리한 행 수 (전체 단계 합계)
+
+    @Column(name = "locked_until")
+    private LocalDateTime lockedUntil;  // 처리 중인 워커의 선점 만료 시각
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    @Column(name = "create_datetime")
+    @CreatedDate
+    private LocalDateTime createdTime;
+
+    @Column(name = "update_datetime")
+    @LastModifiedDate
+    private LocalDateTime updatedTime;
+}
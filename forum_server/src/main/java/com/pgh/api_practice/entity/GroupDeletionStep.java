@@ -0,0 +1,14 @@
+package com.pgh.api_practice.entity;
+
+/**
+ * 모임 삭제 후속 정리 단계 (순서대로 진행)
+ */
+public enum GroupDeletionStep {
+    CHAT_MESSAGES,      // 채팅 메시지 soft delete
+    CHAT_READ_STATUSES, // 채팅 읽음 상태 삭제
+    CHAT_ROOMS,         // 채팅방 soft delete
+    POST_COMMENTS,      // 모임 게시글 댓글 soft delete
+    POSTS,              // 모임 게시글 soft delete
+    MEMBERS,            // 멤버십 삭제
+    DONE
+}
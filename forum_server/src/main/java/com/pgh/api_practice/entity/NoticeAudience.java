@@ -0,0 +1,7 @@
+package com.pgh.api_practice.entity;
+
+public enum NoticeAudience {
+    ALL,            // 전체 사용자
+    GROUP_MEMBERS,  // 특정 모임 멤버 (audienceId = 모임 ID)
+    FOLLOWERS       // 특정 사용자의 팔로워 (audienceId = 팔로우 대상 사용자 ID)
+}
@@ -8,7 +8,10 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "notifications")
+@Table(name = "notifications", indexes = {
+    @Index(name = "idx_notifications_user_id_id", columnList = "user_id, id"),
+    @Index(name = "idx_notifications_create_datetime", columnList = "create_datetime")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -4,16 +4,39 @@ import jakarta.persistence.*;
 import lombok.*;
 import java.time.LocalDateTime;
 
+/**
+ * 리프레시 토큰 저장소
+ * - 토큰 원문 대신 SHA-256 다이제스트만 저장 (DB가 유출돼도 토큰 재사용 불가)
+ * - 로그인 한 번에서 시작된 회전 체인은 같은 familyId를 공유한다
+ * - 회전된 토큰은 바로 지우지 않고 isUsed로 남겨 재사용을 감지한다
+ */
 @Entity
-@Table(name = "refresh_token")
+@Table(
+        name = "refresh_token",
+        indexes = {
+                @Index(name = "idx_refresh_token_user_id", columnList = "user_id"),
+                @Index(name = "idx_refresh_token_family_id", columnList = "family_id"),
+                @Index(name = "idx_refresh_token_expiry_datetime", columnList = "expiry_datetime")
+        }
+)
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 public class RefreshToken {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(name = "refresh_token", nullable = false, unique = true, length = 256)
-    private String refreshToken;
+    @Column(name = "token_hash", nullable = false, unique = true, length = 64)
+    private String tokenHash;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "family_id", nullable = false, length = 36)
+    private String familyId;
+
+    @Builder.Default
+    @Column(name = "is_used", nullable = false)
+    private boolean isUsed = false;
 
     @Column(name = "expiry_datetime", nullable = false)
     private LocalDateTime expiryDateTime;
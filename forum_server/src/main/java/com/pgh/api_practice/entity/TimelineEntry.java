@@ -0,0 +1,41 @@
+package com.pgh.api_practice.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 팔로잉 타임라인 항목 (팔로워별로 미리 넣어 둔 게시글 ID)
+ * 팔로워 수가 적은 작성자의 새 게시글만 저장하고, 팔로워가 많은 작성자의 게시글은 읽을 때 합친다.
+ * 사용자당 최신 maxEntries개만 유지한다.
+ */
+@Entity
+@Table(name = "timeline_entries", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_timeline_entries_user_post", columnNames = {"user_id", "post_id"})
+}, indexes = {
+    @Index(name = "idx_timeline_entries_post", columnList = "post_id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TimelineEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;  // 타임라인 주인 (팔로워)
+
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+
+    @Column(name = "author_id", nullable = false)
+    private Long authorId;
+
+    @Column(name = "create_datetime", nullable = false)
+    private LocalDateTime createdTime;
+}
@@ -0,0 +1,57 @@
+package com.pgh.api_practice.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 업로드 파일 (내용 주소 기반)
+ * 같은 내용은 SHA-256 해시로 한 번만 저장하고, 게시글/프로필/채팅 메시지가 참조할 때마다 referenceCount를 올린다.
+ */
+@Entity
+@Table(name = "uploads")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EntityListeners(AuditingEntityListener.class)
+public class Upload {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "content_hash", nullable = false, unique = true, length = 64)
+    private String contentHash;  // SHA-256 (hex)
+
+    @Column(name = "stored_filename", nullable = false, unique = true, length = 100)
+    private String storedFilename;  // {contentHash}.{ext}
+
+    @Column(name = "content_type", length = 100)
+    private String contentType;
+
+    @Column(nullable = false)
+    private long size;
+
+    // 이미지 헤더에서 읽은 정보 (이미지가 아니면 null)
+    private Integer width;
+
+    private Integer height;
+
+    private Integer orientation;  // EXIF Orientation (1~8)
+
+    @Builder.Default
+    @Column(name = "reference_count", nullable = false, updatable = false)
+    private int referenceCount = 0;  // 이 파일을 참조하는 게시글/프로필/메시지 수 (리포지토리 쿼리로만 증감)
+
+    @Column(name = "uploader_id", updatable = false)
+    private Long uploaderId;  // 업로드한 사용자 (다른 사용자도 같은 내용을 올리면 null = 공유 파일)
+
+    @Column(name = "create_datetime")
+    @CreatedDate
+    private LocalDateTime createdTime;
+}
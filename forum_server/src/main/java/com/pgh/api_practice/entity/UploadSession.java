@@ -0,0 +1,63 @@
+package com.pgh.api_practice.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 청크 업로드 세션
+ * 청크는 순서와 관계없이 {uploadDir}/.partial/{id}.part 의 해당 오프셋에 바로 기록되고,
+ * 받은 청크는 UploadSessionChunk로 기록되어 연결이 끊겨도 이어서 올릴 수 있다.
+ */
+@Entity
+@Table(name = "upload_sessions", indexes = {
+    @Index(name = "idx_upload_sessions_expires_at", columnList = "expires_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EntityListeners(AuditingEntityListener.class)
+public class UploadSession {
+
+    @Id
+    @Column(length = 36)
+    private String id;  // 업로드 세션 ID (UUID)
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "file_name", nullable = false, length = 255)
+    private String fileName;  // 원본 파일명
+
+    @Column(name = "file_size", nullable = false)
+    private long fileSize;
+
+    @Column(name = "content_type", length = 100)
+    private String contentType;
+
+    @Column(name = "chunk_size", nullable = false)
+    private int chunkSize;
+
+    @Column(name = "total_chunks", nullable = false)
+    private int totalChunks;
+
+    @Builder.Default
+    @Column(nullable = false, length = 20)
+    @Enumerated(EnumType.STRING)
+    private UploadSessionStatus status = UploadSessionStatus.UPLOADING;
+
+    @Column(name = "stored_filename", length = 100)
+    private String storedFilename;  // 완료 후 저장된 파일명
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;  // 이 시각까지 완료되지 않으면 정리
+
+    @Column(name = "create_datetime")
+    @CreatedDate
+    private LocalDateTime createdTime;
+}
@@ -0,0 +1,35 @@
+package com.pgh.api_practice.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 청크 업로드 세션에서 수신 완료된 청크 (체크섬 검증 통과분만 기록)
+ */
+@Entity
+@Table(
+        name = "upload_session_chunks",
+        uniqueConstraints = {
+                @UniqueConstraint(columnNames = {"session_id", "chunk_index"})
+        }
+)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UploadSessionChunk {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "session_id", nullable = false, length = 36)
+    private String sessionId;
+
+    @Column(name = "chunk_index", nullable = false)
+    private int chunkIndex;
+
+    @Column(nullable = false, length = 64)
+    private String checksum;  // 청크 SHA-256 (hex)
+}
@@ -0,0 +1,7 @@
+package com.pgh.api_practice.entity;
+
+public enum UploadSessionStatus {
+    UPLOADING,  // 청크 수신 중
+    COMPLETING, // 완료 처리 중 (한 요청만 진입)
+    COMPLETED   // 완료 처리되어 uploads에 등록됨
+}
@@ -1,5 +1,6 @@
     package com.pgh.api_practice.entity;
 
+    import com.pgh.api_practice.global.ImageDerivatives;
     import jakarta.persistence.*;
     import lombok.*;
     import org.springframework.data.annotation.CreatedDate;
@@ -8,7 +9,9 @@
     import java.time.LocalDateTime;
 
     @Entity
-    @Table(name = "users")
+    @Table(name = "users", indexes = {
+        @Index(name = "idx_users_follower_count", columnList = "follower_count")
+    })
     @Getter
     @Setter
     @NoArgsConstructor
@@ -50,7 +53,23 @@
         @Column(name = "email_verification_token", length = 255)
         private String emailVerificationToken;
 
+        // 팔로워/팔로잉 수 (follows 행 수를 반영, 팔로우/언팔로우 시 원자적으로 증감하고 주기적으로 재계산)
+        // 엔티티 save()가 오래된 값으로 덮어쓰지 않도록 UPDATE 대상에서 제외 (변경은 리포지토리 쿼리로만)
+        @Builder.Default
+        @Column(name = "follower_count", nullable = false, updatable = false)
+        private long followerCount = 0;
+
+        @Builder.Default
+        @Column(name = "following_count", nullable = false, updatable = false)
+        private long followingCount = 0;
+
         @CreatedDate
         @Column(name = "created_datetime", nullable = false, updatable = false)
         private LocalDateTime createdDate;
+
+        // 프로필 이미지 썸네일 URL (원본이 해시 파일명일 때만, 아니면 null)
+        @Transient
+        public String getProfileImageThumbnailUrl() {
+            return ImageDerivatives.thumbnailUrl(profileImageUrl);
+        }
     }
\ No newline at end of file
@@ -0,0 +1,7 @@
+package com.pgh.api_practice.exception;
+
+public class ServiceUnavailableException extends RuntimeException {
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.pgh.api_practice.exception;
+
+public class TooManyRequestsException extends RuntimeException {
+    public TooManyRequestsException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,253 @@
+package com.pgh.api_practice.global;
+
+import com.pgh.api_practice.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 인증 엔드포인트용 슬라이딩 윈도우 제한기 (/auth/login, /auth/register, /auth/resend-verification)
+ * - IP 기준, 아이디/이메일 기준으로 각각 제한 (둘 중 하나라도 넘으면 거부)
+ * - 직전 윈도우 카운트를 경과 비율만큼 가중해 더하는 슬라이딩 윈도우 카운터 → 키당 O(1) 메모리
+ * - 키 해시로 나눈 스트라이프마다 락을 따로 잡아 경합을 줄이고, 스트라이프별 LRU로 전체 키 수를 제한
+ * - 컨트롤러 진입 직후 호출되므로 거부된 요청은 BCrypt/DB/SMTP 작업을 하지 않는다
+ */
+@Slf4j
+@Component
+public class AuthRateLimiter {
+
+    public enum Action { LOGIN, REGISTER, RESEND_VERIFICATION }
+
+    private static final int STRIPES = 64;
+
+    private final Stripe[] stripes = new Stripe[STRIPES];
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final long windowMillis;
+    private final int loginPerIp;
+    private final int loginPerUsername;
+    private final int registerPerIp;
+    private final int registerPerEmail;
+    private final int resendPerIp;
+    private final int resendPerEmail;
+
+    public AuthRateLimiter(
+            MeterRegistry meterRegistry,
+            @Value("${app.auth.rate-limit.enabled:true}") boolean enabled,
+            @Value("${app.auth.rate-limit.window-seconds:60}") long windowSeconds,
+            @Value("${app.auth.rate-limit.max-keys:100000}") int maxKeys,
+            @Value("${app.auth.rate-limit.login-per-ip:30}") int loginPerIp,
+            @Value("${app.auth.rate-limit.login-per-username:5}") int loginPerUsername,
+            @Value("${app.auth.rate-limit.register-per-ip:5}") int registerPerIp,
+            @Value("${app.auth.rate-limit.register-per-email:3}") int registerPerEmail,
+            @Value("${app.auth.rate-limit.resend-per-ip:5}") int resendPerIp,
+            @Value("${app.auth.rate-limit.resend-per-email:2}") int resendPerEmail) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.windowMillis = windowSeconds * 1000;
+        this.loginPerIp = loginPerIp;
+        this.loginPerUsername = loginPerUsername;
+        this.registerPerIp = registerPerIp;
+        this.registerPerEmail = registerPerEmail;
+        this.resendPerIp = resendPerIp;
+        this.resendPerEmail = resendPerEmail;
+
+        int perStripe = Math.max(16, maxKeys / STRIPES);
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe(perStripe);
+        }
+        meterRegistry.gauge("auth.rate_limit.tracked_keys", this, AuthRateLimiter::trackedKeys);
+    }
+
+    /**
+     * 요청 허용 여부 확인 후 카운트 (허용되지 않으면 TooManyRequestsException → 429)
+     * @param subject 아이디 또는 이메일 (없으면 IP 기준으로만 제한)
+     */
+    public void check(Action action, String ip, String subject) {
+        if (!enabled) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        String ipKey = action.name() + "|ip|" + ip;
+        String subjectKey = subject == null || subject.isBlank()
+                ? null
+                : action.name() + "|subject|" + subject.trim().toLowerCase(Locale.ROOT);
+
+        // 키마다 확인과 카운트를 같은 락 안에서 처리 → 동시에 들어온 요청이 모두 확인만 통과하고 한도를 넘지 못함
+        if (!tryAcquire(ipKey, ipLimit(action), now)) {
+            reject(action, "ip");
+        }
+        if (subjectKey != null && !tryAcquire(subjectKey, subjectLimit(action), now)) {
+            // 아이디/이메일 기준으로 거부되면 IP 카운트는 되돌림 (거부된 요청이 IP 한도를 소모하지 않도록)
+            release(ipKey, ipLimit(action), now);
+            reject(action, "subject");
+        }
+    }
+
+    /** 두 윈도우 이상 요청이 없던 키 정리 */
+    @Scheduled(fixedDelay = 60_000)
+    public void evictIdle() {
+        long now = System.currentTimeMillis();
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                Iterator<Window> it = stripe.windows.values().iterator();
+                while (it.hasNext()) {
+                    if (now - it.next().start >= windowMillis * 2) {
+                        it.remove();
+                    }
+                }
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+    }
+
+    // 한도 안이면 카운트하고 true (확인과 증가를 한 번의 락으로)
+    private boolean tryAcquire(String key, int limit, long now) {
+        if (limit <= 0) {
+            return true;
+        }
+        Stripe stripe = stripeFor(key);
+        stripe.lock.lock();
+        try {
+            Window window = stripe.windows.get(key);
+            if (window != null && window.estimate(now, windowMillis) >= limit) {
+                return false;
+            }
+            if (window == null) {
+                window = new Window(now - now % windowMillis);
+                stripe.windows.put(key, window);
+            }
+            window.increment(now, windowMillis);
+            return true;
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    // tryAcquire로 올린 카운트 되돌리기
+    private void release(String key, int limit, long now) {
+        if (limit <= 0) {
+            return;
+        }
+        Stripe stripe = stripeFor(key);
+        stripe.lock.lock();
+        try {
+            Window window = stripe.windows.get(key);
+            if (window != null) {
+                window.decrement(now, windowMillis);
+            }
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    private void reject(Action action, String keyType) {
+        meterRegistry.counter("auth.rate_limit.rejected",
+                "action", action.name().toLowerCase(Locale.ROOT),
+                "key", keyType).increment();
+        log.warn("인증 요청 제한: action={}, key={}", action, keyType);
+        throw new TooManyRequestsException("요청이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    private int ipLimit(Action action) {
+        return switch (action) {
+            case LOGIN -> loginPerIp;
+            case REGISTER -> registerPerIp;
+            case RESEND_VERIFICATION -> resendPerIp;
+        };
+    }
+
+    private int subjectLimit(Action action) {
+        return switch (action) {
+            case LOGIN -> loginPerUsername;
+            case REGISTER -> registerPerEmail;
+            case RESEND_VERIFICATION -> resendPerEmail;
+        };
+    }
+
+    private Stripe stripeFor(String key) {
+        return stripes[Math.floorMod(key.hashCode(), STRIPES)];
+    }
+
+    private double trackedKeys() {
+        long total = 0;
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                total += stripe.windows.size();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return total;
+    }
+
+    private static final class Stripe {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final LinkedHashMap<String, Window> windows;
+
+        private Stripe(int maxEntries) {
+            this.windows = new LinkedHashMap<>(64, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Window> eldest) {
+                    return size() > maxEntries;
+                }
+            };
+        }
+    }
+
+    // 고정 윈도우 두 개(직전/현재)로 근사하는 슬라이딩 윈도우
+    private static final class Window {
+        private long start;
+        private int current;
+        private int previous;
+
+        private Window(long start) {
+            this.start = start;
+        }
+
+        private void roll(long now, long windowMillis) {
+            long elapsedWindows = (now - start) / windowMillis;
+            if (elapsedWindows >= 1) {
+                previous = elapsedWindows == 1 ? current : 0;
+                current = 0;
+                start += elapsedWindows * windowMillis;
+            }
+        }
+
+        private double estimate(long now, long windowMillis) {
+            long elapsedWindows = (now - start) / windowMillis;
+            if (elapsedWindows >= 2) {
+                return 0;
+            }
+            int prev = elapsedWindows == 1 ? current : previous;
+            int cur = elapsedWindows == 1 ? 0 : current;
+            long windowStart = start + elapsedWindows * windowMillis;
+            double weight = 1.0 - (double) (now - windowStart) / windowMillis;
+            return prev * weight + cur;
+        }
+
+        private void increment(long now, long windowMillis) {
+            roll(now, windowMillis);
+            current++;
+        }
+
+        private void decrement(long now, long windowMillis) {
+            roll(now, windowMillis);
+            if (current > 0) {
+                current--;
+            }
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.pgh.api_practice.global;
+
+import com.pgh.api_practice.exception.ServiceUnavailableException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 전용 스레드 풀에서 BCrypt 해시/검증을 수행하는 PasswordEncoder
+ * - 해시 작업은 poolSize개 스레드에서만 실행되므로 로그인이 몰려도 CPU를 전부 점유하지 않는다
+ * - 대기열이 가득 찼거나 queueTimeout 안에 시작하지 못하면 ServiceUnavailableException (503)
+ * - strength가 0이면 기동 시 targetMillis에 가장 가까운 cost를 측정해서 사용
+ * - 저장된 해시의 cost가 현재 cost보다 낮을 때만 upgradeEncoding()이 true → 로그인 시 재해시
+ *   (자동 보정 결과가 기동마다 흔들려도 더 높은 cost의 해시를 낮추지 않는다)
+ */
+@Slf4j
+public class BoundedBCryptPasswordEncoder implements PasswordEncoder {
+
+    private static final Pattern BCRYPT_COST = Pattern.compile("^\\$2[abxy]?\\$(\\d{2})\\$");
+    private static final int MIN_STRENGTH = 10;
+    private static final int MAX_STRENGTH = 14;
+    private static final String CALIBRATION_PASSWORD = "calibration-password";
+
+    private final BCryptPasswordEncoder delegate;
+    private final int strength;
+    private final ThreadPoolExecutor executor;
+    private final long queueTimeoutMillis;
+    private final long hashTimeoutMillis;
+
+    public BoundedBCryptPasswordEncoder(int strength, long targetMillis, int poolSize, int queueCapacity,
+                                        long queueTimeoutMillis, long hashTimeoutMillis) {
+        this.strength = strength > 0 ? strength : calibrate(targetMillis);
+        this.delegate = new BCryptPasswordEncoder(this.strength);
+        this.queueTimeoutMillis = queueTimeoutMillis;
+        this.hashTimeoutMillis = hashTimeoutMillis;
+
+        int threads = poolSize > 0 ? poolSize : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        log.info("BCrypt 비밀번호 인코더 초기화: cost={}, 스레드 {}개, 대기열 {}", this.strength, threads, queueCapacity);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return submit(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    // 저장된 해시의 cost가 현재 cost보다 낮을 때만 재해시 대상
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_COST.matcher(encodedPassword);
+        return matcher.find() && Integer.parseInt(matcher.group(1)) < strength;
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+
+    // @Bean destroy 메서드로 자동 호출
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> T submit(Callable<T> task) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                // 대기열에서 너무 오래 기다린 작업은 호출자가 이미 포기했으므로 해시하지 않음
+                if (TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - submittedAt) > queueTimeoutMillis) {
+                    throw new RejectedExecutionException("queue timeout");
+                }
+                return task.call();
+            });
+        } catch (RejectedExecutionException e) {
+            throw busy();
+        }
+
+        try {
+            return future.get(queueTimeoutMillis + hashTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw busy();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw busy();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RejectedExecutionException) {
+                throw busy();
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("비밀번호 해시 처리 중 오류가 발생했습니다.", cause);
+        }
+    }
+
+    private ServiceUnavailableException busy() {
+        return new ServiceUnavailableException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    // targetMillis를 넘지 않는 가장 큰 cost 선택 (최소 MIN_STRENGTH)
+    private static int calibrate(long targetMillis) {
+        int chosen = MIN_STRENGTH;
+        for (int cost = MIN_STRENGTH; cost <= MAX_STRENGTH; cost++) {
+            BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(cost);
+            encoder.encode(CALIBRATION_PASSWORD); // 워밍업
+            long start = System.nanoTime();
+            encoder.encode(CALIBRATION_PASSWORD);
+            long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            if (elapsed > targetMillis && cost > MIN_STRENGTH) {
+                break;
+            }
+            chosen = cost;
+            // cost가 1 오를 때마다 시간은 약 2배 → 다음 단계가 목표를 넘을 것이 확실하면 측정 생략
+            if (elapsed * 2 > targetMillis) {
+                break;
+            }
+        }
+        log.info("BCrypt cost 보정 완료: 목표 {}ms → cost {}", targetMillis, chosen);
+        return chosen;
+    }
+}
@@ -110,6 +110,18 @@ public class GlobalApiResponseHandler {
         return ResponseEntity.badRequest().body(ApiResponse.fail(ex.getMessage()));
     }
 
+    // 429: 인증 요청 제한 초과
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ApiResponse<Void>> handleTooManyRequests(TooManyRequestsException ex) {
+        return ResponseEntity.status(429).header("Retry-After", "60").body(ApiResponse.fail(ex.getMessage()));
+    }
+
+    // 503: 비밀번호 해시 풀 포화 등 일시적인 과부하
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ApiResponse<Void>> handleServiceUnavailable(ServiceUnavailableException ex) {
+        return ResponseEntity.status(503).header("Retry-After", "1").body(ApiResponse.fail(ex.getMessage()));
+    }
+
     // 401: Spring Security 인증 실패 (아이디/비밀번호 틀림)
     @ExceptionHandler(BadCredentialsException.class)
     public ResponseEntity<ApiResponse<Void>> handleBadCredentials(BadCredentialsException ex) {
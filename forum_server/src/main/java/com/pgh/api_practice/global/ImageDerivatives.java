@@ -0,0 +1,60 @@
+package com.pgh.api_practice.global;
+
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 업로드 이미지 파생본(썸네일/미리보기) 파일명 규칙
+ * 원본은 /uploads/{sha256}.{ext} 로 저장되고, 파생본은 같은 해시에 variant를 붙인 JPEG로 만들어진다.
+ *   /uploads/{sha256}_thumb.jpg   (긴 변 THUMB_SIZE 이하, 아바타/목록용)
+ *   /uploads/{sha256}_medium.jpg  (긴 변 MEDIUM_SIZE 이하, 미리보기용)
+ * 파일명만으로 URL을 계산할 수 있으므로 DTO 변환 시 추가 조회가 필요 없다.
+ * 파생본은 업로드 직후 백그라운드에서 생성되며, 아직 없거나 생성에 실패한 파생본 URL은
+ * nginx / WebConfig / UploadFileController가 같은 해시의 원본으로 대신 응답하므로 404가 나지 않는다.
+ */
+public final class ImageDerivatives {
+
+    public static final String URL_PREFIX = "/uploads/";
+    public static final String THUMB = "thumb";
+    public static final String MEDIUM = "medium";
+    public static final int THUMB_SIZE = 200;
+    public static final int MEDIUM_SIZE = 960;
+
+    // 파생본을 만드는 원본 형식 (JDK ImageIO로 디코딩 가능한 형식)
+    private static final Pattern HASHED_IMAGE = Pattern.compile("^([0-9a-f]{64})\\.(jpg|png|gif)$");
+
+    private ImageDerivatives() {
+    }
+
+    /** 썸네일 URL (파생본 대상이 아니면 null) */
+    public static String thumbnailUrl(String url) {
+        return variantUrl(url, THUMB);
+    }
+
+    /** 미리보기 URL (파생본 대상이 아니면 null) */
+    public static String mediumUrl(String url) {
+        return variantUrl(url, MEDIUM);
+    }
+
+    /** 저장 파일명이 파생본 생성 대상이면 콘텐츠 해시, 아니면 null */
+    public static String hashOf(String filename) {
+        if (filename == null) {
+            return null;
+        }
+        Matcher matcher = HASHED_IMAGE.matcher(filename.toLowerCase(Locale.ROOT));
+        return matcher.matches() ? matcher.group(1) : null;
+    }
+
+    public static String variantFilename(String hash, String variant) {
+        return hash + "_" + variant + ".jpg";
+    }
+
+    private static String variantUrl(String url, String variant) {
+        if (url == null || !url.startsWith(URL_PREFIX)) {
+            return null;
+        }
+        String hash = hashOf(url.substring(URL_PREFIX.length()));
+        return hash != null ? URL_PREFIX + variantFilename(hash, variant) : null;
+    }
+}
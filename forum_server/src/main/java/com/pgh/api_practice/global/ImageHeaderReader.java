@@ -0,0 +1,212 @@
+package com.pgh.api_practice.global;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 이미지 헤더 판독 (디코딩 없이 앞부분 바이트만 읽는다)
+ * - 형식은 Content-Type/확장자가 아니라 매직 바이트로 판별
+ * - JPEG: SOF 세그먼트의 크기, APP1(EXIF)의 Orientation
+ * - PNG: IHDR / GIF: 논리 화면 크기 / WebP: VP8, VP8L, VP8X 청크
+ * 판별할 수 없거나 헤더가 손상되었으면 null을 반환한다.
+ */
+public final class ImageHeaderReader {
+
+    private static final byte[] PNG_SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+    private static final int MAX_EXIF_LENGTH = 64 * 1024;
+
+    private ImageHeaderReader() {
+    }
+
+    public static ImageInfo read(InputStream input) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(input, 8192));
+        byte[] head = new byte[12];
+        try {
+            in.readFully(head);
+            if ((head[0] & 0xFF) == 0xFF && (head[1] & 0xFF) == 0xD8 && (head[2] & 0xFF) == 0xFF) {
+                return readJpeg(in, head);
+            }
+            if (Arrays.equals(Arrays.copyOf(head, 8), PNG_SIGNATURE)) {
+                return readPng(in, head);
+            }
+            String ascii = new String(head, StandardCharsets.ISO_8859_1);
+            if (ascii.startsWith("GIF87a") || ascii.startsWith("GIF89a")) {
+                return readGif(head);
+            }
+            if (ascii.startsWith("RIFF") && ascii.startsWith("WEBP", 8)) {
+                return readWebp(in);
+            }
+            return null;
+        } catch (EOFException e) {
+            return null;
+        }
+    }
+
+    // PNG: 시그니처(8) + IHDR 길이(4) + "IHDR"(4) + width(4) + height(4)
+    private static ImageInfo readPng(DataInputStream in, byte[] head) throws IOException {
+        byte[] type = new byte[4];
+        in.readFully(type);
+        if (!"IHDR".equals(new String(type, StandardCharsets.ISO_8859_1))) {
+            return null;
+        }
+        int width = in.readInt();
+        int height = in.readInt();
+        return valid(ImageInfo.Format.PNG, width, height, 1);
+    }
+
+    // GIF: 시그니처(6) + width(2, LE) + height(2, LE)
+    private static ImageInfo readGif(byte[] head) {
+        int width = (head[6] & 0xFF) | (head[7] & 0xFF) << 8;
+        int height = (head[8] & 0xFF) | (head[9] & 0xFF) << 8;
+        return valid(ImageInfo.Format.GIF, width, height, 1);
+    }
+
+    // WebP: RIFF 헤더(12) 다음 첫 청크로 판별
+    private static ImageInfo readWebp(DataInputStream in) throws IOException {
+        byte[] chunk = new byte[18];
+        in.readFully(chunk);
+        String type = new String(chunk, 0, 4, StandardCharsets.ISO_8859_1);
+        switch (type) {
+            case "VP8 " -> {
+                // 프레임 태그(3) + 시작 코드 9D 01 2A + width(14bit LE) + height(14bit LE)
+                if ((chunk[11] & 0xFF) != 0x9D || (chunk[12] & 0xFF) != 0x01 || (chunk[13] & 0xFF) != 0x2A) {
+                    return null;
+                }
+                int width = ((chunk[14] & 0xFF) | (chunk[15] & 0xFF) << 8) & 0x3FFF;
+                int height = ((chunk[16] & 0xFF) | (chunk[17] & 0xFF) << 8) & 0x3FFF;
+                return valid(ImageInfo.Format.WEBP, width, height, 1);
+            }
+            case "VP8L" -> {
+                // 시그니처 0x2F + 14bit(width-1) + 14bit(height-1)
+                if ((chunk[8] & 0xFF) != 0x2F) {
+                    return null;
+                }
+                int bits = (chunk[9] & 0xFF) | (chunk[10] & 0xFF) << 8 | (chunk[11] & 0xFF) << 16 | (chunk[12] & 0xFF) << 24;
+                return valid(ImageInfo.Format.WEBP, (bits & 0x3FFF) + 1, ((bits >> 14) & 0x3FFF) + 1, 1);
+            }
+            case "VP8X" -> {
+                // 플래그(4) + 캔버스 width-1(24bit LE) + height-1(24bit LE)
+                int width = ((chunk[12] & 0xFF) | (chunk[13] & 0xFF) << 8 | (chunk[14] & 0xFF) << 16) + 1;
+                int height = ((chunk[15] & 0xFF) | (chunk[16] & 0xFF) << 8 | (chunk[17] & 0xFF) << 16) + 1;
+                return valid(ImageInfo.Format.WEBP, width, height, 1);
+            }
+            default -> {
+                return null;
+            }
+        }
+    }
+
+    // JPEG: 세그먼트를 차례로 건너뛰며 APP1(EXIF)과 SOF를 찾는다. SOS 이후는 읽지 않는다.
+    private static ImageInfo readJpeg(DataInputStream in, byte[] head) throws IOException {
+        // head[2..3]은 첫 세그먼트 마커, head[4..5]는 길이, 나머지 6바이트는 이미 읽힌 세그먼트 본문
+        int marker = head[3] & 0xFF;
+        int length = (head[4] & 0xFF) << 8 | (head[5] & 0xFF);
+        byte[] consumed = Arrays.copyOfRange(head, 6, 12);
+        int orientation = 1;
+
+        while (true) {
+            if (length < 2) {
+                return null;
+            }
+            int remaining = length - 2 - consumed.length;
+            if (isStartOfFrame(marker)) {
+                byte[] frame = new byte[5];
+                System.arraycopy(consumed, 0, frame, 0, Math.min(consumed.length, 5));
+                if (consumed.length < 5) {
+                    in.readFully(frame, consumed.length, 5 - consumed.length);
+                }
+                int height = (frame[1] & 0xFF) << 8 | (frame[2] & 0xFF);
+                int width = (frame[3] & 0xFF) << 8 | (frame[4] & 0xFF);
+                return valid(ImageInfo.Format.JPEG, width, height, orientation);
+            }
+            if (remaining < 0) {
+                return null;
+            }
+            if (marker == 0xE1 && length - 2 <= MAX_EXIF_LENGTH) {
+                byte[] segment = new byte[length - 2];
+                System.arraycopy(consumed, 0, segment, 0, consumed.length);
+                in.readFully(segment, consumed.length, remaining);
+                orientation = exifOrientation(segment, orientation);
+            } else if (remaining > 0) {
+                skipFully(in, remaining);
+            }
+            if (marker == 0xDA || marker == 0xD9) {
+                return null;
+            }
+
+            // 다음 마커 (채움 바이트 0xFF는 건너뜀)
+            if (in.readUnsignedByte() != 0xFF) {
+                return null;
+            }
+            do {
+                marker = in.readUnsignedByte();
+            } while (marker == 0xFF);
+            length = in.readUnsignedShort();
+            consumed = new byte[0];
+        }
+    }
+
+    private static boolean isStartOfFrame(int marker) {
+        return marker >= 0xC0 && marker <= 0xCF && marker != 0xC4 && marker != 0xC8 && marker != 0xCC;
+    }
+
+    // APP1 "Exif\0\0" + TIFF 헤더에서 IFD0의 Orientation(0x0112) 태그
+    private static int exifOrientation(byte[] segment, int fallback) {
+        if (segment.length < 14 || !"Exif".equals(new String(segment, 0, 4, StandardCharsets.ISO_8859_1))) {
+            return fallback;
+        }
+        int tiff = 6;
+        boolean little = segment[tiff] == 'I' && segment[tiff + 1] == 'I';
+        int ifd = tiff + readInt(segment, tiff + 4, little);
+        if (ifd < tiff || ifd + 2 > segment.length) {
+            return fallback;
+        }
+        int entries = readShort(segment, ifd, little);
+        for (int i = 0; i < entries; i++) {
+            int entry = ifd + 2 + i * 12;
+            if (entry + 12 > segment.length) {
+                break;
+            }
+            if (readShort(segment, entry, little) == 0x0112) {
+                int value = readShort(segment, entry + 8, little);
+                return value >= 1 && value <= 8 ? value : fallback;
+            }
+        }
+        return fallback;
+    }
+
+    private static int readShort(byte[] data, int offset, boolean little) {
+        int a = data[offset] & 0xFF;
+        int b = data[offset + 1] & 0xFF;
+        return little ? (b << 8 | a) : (a << 8 | b);
+    }
+
+    private static int readInt(byte[] data, int offset, boolean little) {
+        if (offset + 4 > data.length) {
+            return -1;
+        }
+        int hi = readShort(data, offset + (little ? 2 : 0), little);
+        int lo = readShort(data, offset + (little ? 0 : 2), little);
+        return hi << 16 | lo;
+    }
+
+    private static void skipFully(DataInputStream in, int count) throws IOException {
+        int remaining = count;
+        while (remaining > 0) {
+            int skipped = in.skipBytes(remaining);
+            if (skipped <= 0) {
+                throw new EOFException();
+            }
+            remaining -= skipped;
+        }
+    }
+
+    private static ImageInfo valid(ImageInfo.Format format, int width, int height, int orientation) {
+        return width > 0 && height > 0 ? new ImageInfo(format, width, height, orientation) : null;
+    }
+}
@@ -0,0 +1,55 @@
+package com.pgh.api_practice.global;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 헤더만 읽어 얻은 이미지 정보
+ * orientation은 EXIF Orientation 값(1~8, JPEG 외에는 1)이며, 5~8이면 화면에 표시되는 가로/세로가 바뀐다.
+ */
+@Getter
+@AllArgsConstructor
+public class ImageInfo {
+
+    public enum Format {
+        JPEG("image/jpeg", "jpg"),
+        PNG("image/png", "png"),
+        GIF("image/gif", "gif"),
+        WEBP("image/webp", "webp");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+    }
+
+    private final Format format;
+    private final int width;
+    private final int height;
+    private final int orientation;
+
+    public long getPixels() {
+        return (long) width * height;
+    }
+
+    /** 회전을 반영한 표시 너비 */
+    public int getDisplayWidth() {
+        return orientation >= 5 ? height : width;
+    }
+
+    /** 회전을 반영한 표시 높이 */
+    public int getDisplayHeight() {
+        return orientation >= 5 ? width : height;
+    }
+}
@@ -6,10 +6,8 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.lang.NonNull;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -20,8 +18,8 @@ import java.util.Set;
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final TokenProvider tokenProvider;          // validateToken, getUsername 제공
-    private final UserDetailsService userDetailsService;
+    private final TokenProvider tokenProvider;          // verify, getAuthentication 제공
+    private final TokenDenyList tokenDenyList;
 
     private static final Set<String> SKIP_PATHS = Set.of(
             "/api/auth/login",
@@ -44,21 +42,25 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             // 1) Authorization 헤더에서 Bearer 토큰 추출
             String token = resolveToken(request);
 
-            // 2) 토큰 존재 + 유효성 검증
-            if (StringUtils.hasText(token) && tokenProvider.validateToken(token)) {
+            // 2) 토큰 존재 + 유효성 검증 (서명 검증은 한 번만, 최근 토큰은 캐시 사용)
+            VerifiedToken verified = StringUtils.hasText(token) ? tokenProvider.verify(token) : null;
+            if (verified != null && SecurityContextHolder.getContext().getAuthentication() == null) {
 
-                // 3) 토큰에서 username 뽑아 UserDetails 로드
-                String username = tokenProvider.getUsername(token);
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+                // 3) 서명된 클레임(userId, username, roles)으로 인증 주체 생성 (DB 조회 없음)
+                //    리프레시 토큰 등 액세스 토큰이 아닌 토큰은 null → 인증하지 않음
+                Authentication authentication = tokenProvider.getAuthentication(verified);
 
-                // 4) SecurityContext에 Authentication 주입 (이미 있으면 덮어쓰지 않음)
-                if (SecurityContextHolder.getContext().getAuthentication() == null) {
-                    UsernamePasswordAuthenticationToken authentication =
-                            new UsernamePasswordAuthenticationToken(
-                                    userDetails,
-                                    null,
-                                    userDetails.getAuthorities()
-                            );
+                if (authentication == null) {
+                    log.debug("액세스 토큰이 아닌 토큰으로 인증 시도: type={}", verified.getType());
+                } else if (authentication.getPrincipal() instanceof JwtUserPrincipal principal
+                        && tokenDenyList.isRevoked(principal.getId(), verified.getIssuedAtSeconds())) {
+                    // 4) 탈퇴/세션 무효화된 사용자의 토큰은 거부 (anonymousUser로 처리)
+                    log.debug("무효화된 액세스 토큰: userId={}", principal.getId());
+                    authentication = null;
+                }
+
+                // 5) SecurityContext에 Authentication 주입
+                if (authentication != null) {
                     SecurityContextHolder.getContext().setAuthentication(authentication);
                 }
             }
@@ -68,7 +70,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             log.debug("JWT 인증 실패 (선택적 인증): {}", e.getMessage());
         }
 
-        // 5) 다음 필터로 진행
+        // 6) 다음 필터로 진행
         filterChain.doFilter(request, response);
     }
 
@@ -0,0 +1,26 @@
+package com.pgh.api_practice.global;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+
+/**
+ * 서명된 JWT 클레임만으로 만든 인증 주체
+ * 요청마다 DB에서 사용자를 다시 조회하지 않는다. (authentication.getName()은 username 반환)
+ */
+@Getter
+@AllArgsConstructor
+public class JwtUserPrincipal implements UserDetails {
+
+    private final Long id;
+    private final String username;
+    private final Collection<? extends GrantedAuthority> authorities;
+
+    @Override
+    public String getPassword() {
+        return null;  // 토큰 기반 인증이므로 비밀번호를 보관하지 않음
+    }
+}
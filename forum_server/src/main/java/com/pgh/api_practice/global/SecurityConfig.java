@@ -1,7 +1,7 @@
 package com.pgh.api_practice.global;
 
-import com.pgh.api_practice.service.CustomUserDetailsService;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -9,7 +9,6 @@ import org.springframework.security.config.annotation.authentication.configurati
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -23,11 +22,11 @@ import java.util.Arrays;
 public class SecurityConfig {
 
     private final TokenProvider tokenProvider;
-    private final CustomUserDetailsService userDetailsService;
+    private final TokenDenyList tokenDenyList;
 
-    public SecurityConfig(TokenProvider tokenProvider, CustomUserDetailsService userDetailsService) {
+    public SecurityConfig(TokenProvider tokenProvider, TokenDenyList tokenDenyList) {
         this.tokenProvider = tokenProvider;
-        this.userDetailsService = userDetailsService;
+        this.tokenDenyList = tokenDenyList;
     }
 
     @Bean
@@ -46,7 +45,7 @@ public class SecurityConfig {
                 // 세션 비활성화
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 // JWT 필터 추가
-                .addFilterBefore(new JwtAuthenticationFilter(tokenProvider, userDetailsService), UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(new JwtAuthenticationFilter(tokenProvider, tokenDenyList), UsernamePasswordAuthenticationFilter.class)
                 // WebSocket 경로 명시적으로 허용
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/ws/**", "/ws").permitAll() // WebSocket 엔드포인트 허용
@@ -84,9 +83,16 @@ public class SecurityConfig {
         return source;
     }
 
-    // PasswordEncoder Bean 등록
+    // PasswordEncoder Bean 등록 (요청 스레드 대신 전용 풀에서 BCrypt 실행)
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            @Value("${app.security.password.bcrypt-strength:12}") int strength,
+            @Value("${app.security.password.target-ms:250}") long targetMillis,
+            @Value("${app.security.password.pool-size:0}") int poolSize,
+            @Value("${app.security.password.queue-capacity:64}") int queueCapacity,
+            @Value("${app.security.password.queue-timeout-ms:1000}") long queueTimeoutMillis,
+            @Value("${app.security.password.hash-timeout-ms:2000}") long hashTimeoutMillis) {
+        return new BoundedBCryptPasswordEncoder(strength, targetMillis, poolSize, queueCapacity,
+                queueTimeoutMillis, hashTimeoutMillis);
     }
 }
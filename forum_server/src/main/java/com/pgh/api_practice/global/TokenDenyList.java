@@ -0,0 +1,50 @@
+package com.pgh.api_practice.global;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 액세스 토큰 거부 목록 (인메모리)
+ * 회원탈퇴/세션 무효화 시 해당 시점 이전에 발급된 사용자의 액세스 토큰을 거부한다.
+ * 액세스 토큰 유효기간이 지나면 기존 토큰은 어차피 만료되므로 항목도 함께 제거되어 크기가 작게 유지된다.
+ */
+@Slf4j
+@Component
+public class TokenDenyList {
+
+    // userId -> 무효화 시각 (epoch seconds, JWT iat와 같은 단위)
+    private final Map<Long, Long> revokedAt = new ConcurrentHashMap<>();
+
+    /** 현재 시점 이전에 발급된 사용자의 모든 액세스 토큰을 거부 */
+    public void revokeUser(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        revokedAt.merge(userId, nowSeconds(), Math::max);
+        log.info("액세스 토큰 무효화: userId={}", userId);
+    }
+
+    /** 토큰이 무효화 시점 이전에 발급되었는지 확인 */
+    public boolean isRevoked(Long userId, long issuedAtSeconds) {
+        if (userId == null) {
+            return false;
+        }
+        Long revoked = revokedAt.get(userId);
+        return revoked != null && issuedAtSeconds <= revoked;
+    }
+
+    /** 액세스 토큰 유효기간이 지난 항목 정리 */
+    @Scheduled(fixedDelay = 60_000)
+    public void evictExpired() {
+        long threshold = nowSeconds() - TokenProvider.ACCESS_TOKEN_VALIDITY / 1000;
+        revokedAt.entrySet().removeIf(e -> e.getValue() < threshold);
+    }
+
+    private long nowSeconds() {
+        return System.currentTimeMillis() / 1000;
+    }
+}
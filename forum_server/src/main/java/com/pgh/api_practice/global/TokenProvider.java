@@ -1,46 +1,94 @@
 package com.pgh.api_practice.global;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.pgh.api_practice.exception.TokenNotValidateException;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 
 import java.security.Key;
 import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class TokenProvider {
 
     private final Key key;
+    private final JwtParser parser;  // 스레드 안전하므로 한 번만 생성해서 재사용
 
-    private static final long ACCESS_TOKEN_VALIDITY = 1000L * 60 * 60;          // 1시간
+    static final long ACCESS_TOKEN_VALIDITY = 1000L * 60 * 60;          // 1시간
     private static final long REFRESH_TOKEN_VALIDITY = 1000L * 60 * 60 * 24 * 7; // 7일
 
-    public TokenProvider(@Value("${spring.jwt.secret}") String secretKey) {
+    private static final String CLAIM_USER_ID = "userId";
+    private static final String CLAIM_ROLES = "roles";
+    private static final String CLAIM_TYPE = "typ";
+    private static final List<String> DEFAULT_ROLES = List.of("ROLE_USER");
+
+    // 최근 검증한 토큰 캐시 (토큰 원문 -> 검증 결과, 크기 제한, 항목마다 토큰 만료 시각에 제거)
+    private final Cache<String, VerifiedToken> verifiedCache;
+
+    public TokenProvider(@Value("${spring.jwt.secret}") String secretKey,
+                         @Value("${app.jwt.verify-cache-size:10000}") int verifyCacheSize) {
         this.key = Keys.hmacShaKeyFor(secretKey.getBytes());
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
+        this.verifiedCache = Caffeine.newBuilder()
+                .maximumSize(verifyCacheSize)
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String token, VerifiedToken verified, long currentTime) {
+                        return remainingNanos(verified);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String token, VerifiedToken verified, long currentTime, long currentDuration) {
+                        return remainingNanos(verified);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String token, VerifiedToken verified, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
     }
 
-    // 기존 AuthService 호환용
-    public String createAccessToken(String username) {
+    // 액세스 토큰 생성 (userId, roles 클레임 포함 → 요청마다 사용자 조회 불필요)
+    public String createAccessToken(Long userId, String username) {
         Date now = new Date();
         Date expiry = new Date(now.getTime() + ACCESS_TOKEN_VALIDITY);
 
         return Jwts.builder()
                 .setSubject(username)
+                .claim(CLAIM_TYPE, VerifiedToken.TYPE_ACCESS)
+                .claim(CLAIM_USER_ID, userId)
+                .claim(CLAIM_ROLES, DEFAULT_ROLES)
                 .setIssuedAt(now)
                 .setExpiration(expiry)
                 .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    // 리프레시 토큰 생성 (userId 불필요)
+    // 리프레시 토큰 생성 (userId 불필요, 같은 초에 발급돼도 다이제스트가 겹치지 않도록 jti 포함, 액세스 토큰으로는 쓸 수 없음)
     public String createRefreshToken(String username) {
         Date now = new Date();
         Date expiry = new Date(now.getTime() + REFRESH_TOKEN_VALIDITY);
 
         return Jwts.builder()
+                .setId(UUID.randomUUID().toString())
+                .claim(CLAIM_TYPE, VerifiedToken.TYPE_REFRESH)
                 .setSubject(username)
                 .setIssuedAt(now)
                 .setExpiration(expiry)
@@ -48,32 +96,93 @@ public class TokenProvider {
                 .compact();
     }
 
+    /**
+     * 토큰 검증 (서명/만료를 한 번만 확인하고 클레임을 반환)
+     * 같은 토큰이 다시 들어오면 만료 전까지 캐시된 결과를 사용해 서명 검증을 건너뛴다.
+     * 유효하지 않은 토큰이면 null
+     */
+    public VerifiedToken verify(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        // 서명이 같아도 헤더/페이로드가 다른 토큰과 섞이지 않도록 토큰 전체를 키로 사용 (String은 해시를 캐시하므로 추가 비용 없음)
+        VerifiedToken cached = verifiedCache.getIfPresent(token);
+        if (cached != null) {
+            return cached.isExpired(System.currentTimeMillis()) ? null : cached;
+        }
+
+        VerifiedToken verified;
+        try {
+            verified = toVerifiedToken(parser.parseClaimsJws(token).getBody());
+        } catch (Exception e) {
+            return null;
+        }
+
+        verifiedCache.put(token, verified);
+        return verified;
+    }
+
     // username 추출
     public String getUsername(String token) {
-        return parseClaims(token).getSubject();
+        return requireVerified(token).getUsername();
     }
 
     // userId 추출 (WebSocket, 권한 검증 핵심)
     public Long getUserId(String token) {
-        return parseClaims(token).get("userId", Long.class);
+        return requireVerified(token).getUserId();
+    }
+
+    // 클레임만으로 Authentication 생성 (액세스 토큰이 아니면 null)
+    public Authentication getAuthentication(VerifiedToken token) {
+        if (!token.isAccessToken()) {
+            return null;
+        }
+
+        List<SimpleGrantedAuthority> authorities = token.getRoles().stream()
+                .map(SimpleGrantedAuthority::new)
+                .toList();
+
+        JwtUserPrincipal principal = new JwtUserPrincipal(token.getUserId(), token.getUsername(), authorities);
+        return new UsernamePasswordAuthenticationToken(principal, null, authorities);
     }
 
     // 토큰 유효성 검증
     public boolean validateToken(String token) {
-        try {
-            parseClaims(token);
-            return true;
-        } catch (Exception e) {
-            return false;
+        return verify(token) != null;
+    }
+
+    private VerifiedToken requireVerified(String token) {
+        VerifiedToken verified = verify(token);
+        if (verified == null) {
+            throw new TokenNotValidateException("유효하지 않은 토큰입니다.");
         }
+        return verified;
     }
 
-    // 공통 Claims 파서
-    private Claims parseClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    // Claims -> VerifiedToken 변환
+    private VerifiedToken toVerifiedToken(Claims claims) {
+        List<?> rawRoles = claims.get(CLAIM_ROLES, List.class);
+        List<String> roles = rawRoles == null || rawRoles.isEmpty()
+                ? DEFAULT_ROLES
+                : rawRoles.stream().map(String::valueOf).toList();
+
+        Date issuedAt = claims.getIssuedAt();
+        Date expiration = claims.getExpiration();
+
+        return new VerifiedToken(
+                claims.get(CLAIM_TYPE, String.class),
+                claims.getSubject(),
+                claims.get(CLAIM_USER_ID, Long.class),
+                roles,
+                issuedAt != null ? issuedAt.getTime() / 1000 : 0L,
+                expiration != null ? expiration.getTime() : Long.MAX_VALUE
+        );
+    }
+
+    // 캐시 항목 유효 시간 (토큰 만료 시각까지)
+    private static long remainingNanos(VerifiedToken verified) {
+        long remainingMillis = verified.getExpiresAtMillis() - System.currentTimeMillis();
+        return remainingMillis <= 0 ? 0 : TimeUnit.MILLISECONDS.toNanos(Math.min(remainingMillis, Long.MAX_VALUE / 1_000_000));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,70 @@
+package com.pgh.api_practice.global;
+
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 업로드 파일 형식 규칙
+ * - 저장 확장자는 매직 바이트로 판별한 이미지 형식이거나 아래 허용 목록만 쓰고, 그 밖의 파일은 .bin으로 저장한다
+ * - Content-Type은 확장자에서 정하며 클라이언트가 보낸 값은 쓰지 않는다
+ * /uploads/**는 확장자로 Content-Type을 정해 서빙되므로, html/svg/js 같은 확장자가 저장되면 같은 출처에서 스크립트가 실행될 수 있다.
+ */
+public final class UploadFileTypes {
+
+    public static final String FALLBACK_EXTENSION = "bin";
+    public static final String FALLBACK_CONTENT_TYPE = "application/octet-stream";
+
+    // 이미지가 아닌 파일 중 그대로 저장할 확장자 → Content-Type
+    private static final Map<String, String> ATTACHMENT_TYPES = Map.of(
+            "txt", "text/plain",
+            "zip", "application/zip",
+            "mp3", "audio/mpeg",
+            "mp4", "video/mp4",
+            "webm", "video/webm");
+
+    // 인라인으로 보여줘도 되는 이미지 확장자 (ImageInfo.Format과 같은 목록)
+    private static final Map<String, String> IMAGE_TYPES = Map.of(
+            "jpg", "image/jpeg",
+            "png", "image/png",
+            "gif", "image/gif",
+            "webp", "image/webp");
+
+    private UploadFileTypes() {
+    }
+
+    /** 원본 파일명에서 저장할 확장자 (허용 목록에 없으면 bin) */
+    public static String attachmentExtension(String fileName) {
+        if (fileName == null) {
+            return FALLBACK_EXTENSION;
+        }
+        int dot = fileName.lastIndexOf('.');
+        if (dot >= 0 && dot < fileName.length() - 1) {
+            String ext = fileName.substring(dot + 1).toLowerCase(Locale.ROOT);
+            if (ATTACHMENT_TYPES.containsKey(ext)) {
+                return ext;
+            }
+        }
+        return FALLBACK_EXTENSION;
+    }
+
+    /** 저장 확장자의 Content-Type (알 수 없으면 application/octet-stream) */
+    public static String contentTypeOf(String extension) {
+        String ext = extension != null ? extension.toLowerCase(Locale.ROOT) : "";
+        String type = IMAGE_TYPES.get(ext);
+        if (type == null) {
+            type = ATTACHMENT_TYPES.get(ext);
+        }
+        return type != null ? type : FALLBACK_CONTENT_TYPE;
+    }
+
+    /** 브라우저에서 바로 보여줘도 되는 확장자인지 (래스터 이미지만) */
+    public static boolean isInlineImage(String extension) {
+        return extension != null && IMAGE_TYPES.containsKey(extension.toLowerCase(Locale.ROOT));
+    }
+
+    /** 파일명의 확장자 */
+    public static String extensionOf(String filename) {
+        int dot = filename != null ? filename.lastIndexOf('.') : -1;
+        return dot >= 0 ? filename.substring(dot + 1).toLowerCase(Locale.ROOT) : "";
+    }
+}
@@ -0,0 +1,42 @@
+package com.pgh.api_practice.global;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 서명 검증이 끝난 JWT의 클레임
+ * TokenProvider.verify()가 한 번만 파싱해서 만들고, 만료 시각까지 캐시에 보관된다.
+ */
+@Getter
+@AllArgsConstructor
+public class VerifiedToken {
+
+    public static final String TYPE_ACCESS = "access";
+    public static final String TYPE_REFRESH = "refresh";
+
+    private final String type;            // typ 클레임 (access/refresh, 이전 형식 토큰이면 null)
+    private final String username;
+    private final Long userId;            // 리프레시 토큰이면 null
+    private final List<String> roles;
+    private final long issuedAtSeconds;   // JWT iat (epoch seconds)
+    private final long expiresAtMillis;   // JWT exp (epoch millis)
+
+    public boolean isExpired(long nowMillis) {
+        return nowMillis >= expiresAtMillis;
+    }
+
+    /**
+     * 액세스 토큰 여부 (API/WebSocket 인증에 쓸 수 있는 토큰)
+     * typ 클레임이 없는 이전 형식은 userId 클레임이 있는 경우만 액세스 토큰으로 본다.
+     */
+    public boolean isAccessToken() {
+        return type == null ? userId != null : TYPE_ACCESS.equals(type) && userId != null;
+    }
+
+    /** 리프레시 토큰 여부 (재발급에만 사용, typ 클레임이 없는 이전 형식은 userId 클레임이 없는 경우) */
+    public boolean isRefreshToken() {
+        return type == null ? userId == null : TYPE_REFRESH.equals(type);
+    }
+}
@@ -1,6 +1,7 @@
 package com.pgh.api_practice.repository;
 
 import com.pgh.api_practice.entity.Users;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -25,18 +26,19 @@ public interface AuthRepository extends JpaRepository<Users, Long> {
     Optional<Users> findByEmail(String email);
     Optional<Users> findByEmailVerificationToken(String token);
     
-    /** 사용자 검색 (username 또는 nickname으로 검색) - 강화된 검색 */
+    /**
+     * 사용자 검색 (username 또는 nickname 접두어) - 검색 인덱스가 준비되기 전에만 사용
+     * UserSearchIndex와 같은 규칙: 아이디 일치 > 닉네임 일치 > 아이디 접두어 > 닉네임 접두어, 같으면 팔로워 많은 순
+     */
     @Query("SELECT u FROM Users u WHERE " +
            "u.isDeleted = false AND u.emailVerified = true AND " +
-           "(LOWER(u.username) LIKE LOWER(CONCAT('%', :query, '%')) OR " +
-           "LOWER(u.nickname) LIKE LOWER(CONCAT('%', :query, '%')) OR " +
-           "LOWER(u.email) LIKE LOWER(CONCAT('%', :query, '%'))) " +
+           "(LOWER(u.username) LIKE LOWER(CONCAT(:query, '%')) OR " +
+           "LOWER(u.nickname) LIKE LOWER(CONCAT(:query, '%'))) " +
            "ORDER BY " +
            "CASE WHEN LOWER(u.username) = LOWER(:query) THEN 1 " +
            "     WHEN LOWER(u.nickname) = LOWER(:query) THEN 2 " +
            "     WHEN LOWER(u.username) LIKE LOWER(CONCAT(:query, '%')) THEN 3 " +
-           "     WHEN LOWER(u.nickname) LIKE LOWER(CONCAT(:query, '%')) THEN 4 " +
-           "     ELSE 5 END, " +
-           "u.nickname ASC")
-    List<Users> searchUsers(@Param("query") String query);
+           "     ELSE 4 END, " +
+           "u.followerCount DESC, LENGTH(u.username) ASC, u.id ASC")
+    List<Users> searchUsers(@Param("query") String query, Pageable pageable);
 }
\ No newline at end of file
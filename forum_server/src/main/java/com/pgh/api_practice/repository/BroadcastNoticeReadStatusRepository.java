@@ -0,0 +1,34 @@
+package com.pgh.api_practice.repository;
+
+import com.pgh.api_practice.entity.BroadcastNoticeReadStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface BroadcastNoticeReadStatusRepository extends JpaRepository<BroadcastNoticeReadStatus, Long> {
+
+    Optional<BroadcastNoticeReadStatus> findByUserId(Long userId);
+
+    // 현재 읽음 위치 (엔티티를 영속성 컨텍스트에 올리지 않고 값만 조회)
+    @Query("SELECT s.lastReadNoticeId FROM BroadcastNoticeReadStatus s WHERE s.user.id = :userId")
+    Optional<Long> findLastReadNoticeId(@Param("userId") Long userId);
+
+    // 읽음 위치를 앞으로만 이동 (원자적 갱신, 행이 없거나 이미 더 앞이면 0)
+    @Modifying
+    @Query("""
+        UPDATE BroadcastNoticeReadStatus s SET s.lastReadNoticeId = :noticeId
+        WHERE s.user.id = :userId AND s.lastReadNoticeId < :noticeId
+        """)
+    int advance(@Param("userId") Long userId, @Param("noticeId") Long noticeId);
+
+    // 첫 읽음 처리 (동시에 행이 만들어졌으면 더 큰 값만 남김)
+    @Modifying
+    @Query(value = """
+        INSERT INTO broadcast_notice_read_status (user_id, last_read_notice_id) VALUES (:userId, :noticeId)
+        ON DUPLICATE KEY UPDATE last_read_notice_id = GREATEST(last_read_notice_id, :noticeId)
+        """, nativeQuery = true)
+    int upsert(@Param("userId") Long userId, @Param("noticeId") Long noticeId);
+}
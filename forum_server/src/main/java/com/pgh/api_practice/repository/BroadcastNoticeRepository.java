@@ -0,0 +1,61 @@
+package com.pgh.api_practice.repository;
+
+import com.pgh.api_practice.entity.BroadcastNotice;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface BroadcastNoticeRepository extends JpaRepository<BroadcastNotice, Long> {
+
+    // 사용자에게 보이는 공지 조건 (가입 이후 공지 + 대상 필터)
+    String VISIBLE_TO_USER = """
+        FROM BroadcastNotice b
+        WHERE b.createdTime >= :since
+          AND (
+                b.audience = com.pgh.api_practice.entity.NoticeAudience.ALL
+             OR (b.audience = com.pgh.api_practice.entity.NoticeAudience.GROUP_MEMBERS
+                 AND (EXISTS (SELECT gm.id FROM GroupMember gm WHERE gm.group.id = b.audienceId AND gm.user.id = :userId)
+                      OR EXISTS (SELECT g.id FROM Group g WHERE g.id = b.audienceId AND g.owner.id = :userId)))
+             OR (b.audience = com.pgh.api_practice.entity.NoticeAudience.FOLLOWERS
+                 AND EXISTS (SELECT f.id FROM Follow f WHERE f.following.id = b.audienceId AND f.follower.id = :userId))
+          )
+    """;
+
+    // 사용자에게 보이는 공지 목록 (최신순)
+    @Query("SELECT b " + VISIBLE_TO_USER + " ORDER BY b.id DESC")
+    List<BroadcastNotice> findVisibleToUser(@Param("userId") Long userId,
+                                            @Param("since") LocalDateTime since,
+                                            Pageable pageable);
+
+    // 사용자에게 보이는 공지 목록 (커서 기반, 최신순)
+    @Query("SELECT b " + VISIBLE_TO_USER + " AND b.id < :before ORDER BY b.id DESC")
+    List<BroadcastNotice> findVisibleToUserBefore(@Param("userId") Long userId,
+                                                  @Param("since") LocalDateTime since,
+                                                  @Param("before") Long before,
+                                                  Pageable pageable);
+
+    // 사용자에게 보이는 공지 한 건 (읽음 처리 전 확인용)
+    @Query("SELECT b " + VISIBLE_TO_USER + " AND b.id = :noticeId")
+    Optional<BroadcastNotice> findVisibleToUserById(@Param("userId") Long userId,
+                                                    @Param("since") LocalDateTime since,
+                                                    @Param("noticeId") Long noticeId);
+
+    // 사용자에게 보이는 공지 개수
+    @Query("SELECT COUNT(b) " + VISIBLE_TO_USER)
+    long countVisibleToUser(@Param("userId") Long userId, @Param("since") LocalDateTime since);
+
+    // 읽음 위치 이후의 공지 개수 (읽지 않은 공지)
+    @Query("SELECT COUNT(b) " + VISIBLE_TO_USER + " AND b.id > :lastReadNoticeId")
+    long countVisibleToUserAfter(@Param("userId") Long userId,
+                                 @Param("since") LocalDateTime since,
+                                 @Param("lastReadNoticeId") Long lastReadNoticeId);
+
+    // 사용자에게 보이는 가장 최근 공지 ID (모두 읽음 처리용)
+    @Query("SELECT MAX(b.id) " + VISIBLE_TO_USER)
+    Long findMaxVisibleIdForUser(@Param("userId") Long userId, @Param("since") LocalDateTime since);
+}
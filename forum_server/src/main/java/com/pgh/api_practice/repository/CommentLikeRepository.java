@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface CommentLikeRepository extends JpaRepository<CommentLike, Long> {
@@ -18,5 +19,12 @@ public interface CommentLikeRepository extends JpaRepository<CommentLike, Long>
 
     // 사용자가 특정 댓글에 좋아요를 눌렀는지 확인
     boolean existsByCommentIdAndUserId(Long commentId, Long userId);
-}
 
+    // 여러 댓글의 좋아요 개수 (commentId, count)
+    @Query("SELECT cl.comment.id, COUNT(cl) FROM CommentLike cl WHERE cl.comment.id IN :commentIds GROUP BY cl.comment.id")
+    List<Object[]> countByCommentIds(@Param("commentIds") List<Long> commentIds);
+
+    // 여러 댓글 중 사용자가 좋아요를 누른 댓글 ID
+    @Query("SELECT cl.comment.id FROM CommentLike cl WHERE cl.user.id = :userId AND cl.comment.id IN :commentIds")
+    List<Long> findLikedCommentIds(@Param("userId") Long userId, @Param("commentIds") List<Long> commentIds);
+}
@@ -1,29 +1,108 @@
 package com.pgh.api_practice.repository;
 
 import com.pgh.api_practice.entity.Comment;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
-    // 게시글의 댓글 목록 조회 (posts와 group_posts 모두 지원, 삭제되지 않은 것만, 고정된 댓글 우선, 그 다음 생성일시 순)
-    @Query("SELECT c FROM Comment c WHERE (c.post.id = :postId OR c.groupPost.id = :postId) AND c.isDeleted = false AND c.parentComment IS NULL ORDER BY c.isPinned DESC, c.createdTime ASC")
-    List<Comment> findAllByPostIdOrGroupPostIdAndNotDeletedAndNoParent(@Param("postId") Long postId);
-
     // 부모 댓글의 대댓글 목록 조회
     @Query("SELECT c FROM Comment c WHERE c.parentComment.id = :parentId AND c.isDeleted = false ORDER BY c.createdTime ASC")
     List<Comment> findAllByParentCommentIdAndNotDeleted(@Param("parentId") Long parentId);
 
-    // 게시글의 모든 댓글 조회 (대댓글 포함, posts와 group_posts 모두 지원)
-    @Query("SELECT c FROM Comment c WHERE (c.post.id = :postId OR c.groupPost.id = :postId) AND c.isDeleted = false")
-    List<Comment> findAllByPostIdOrGroupPostIdAndNotDeleted(@Param("postId") Long postId);
+    // 게시글의 댓글 스레드 전체 (대댓글 포함, 작성자 함께 조회) - 트리는 메모리에서 조립
+    // 일반 게시글과 모임 게시글은 ID가 겹칠 수 있으므로 대상별로 나눠 조회한다 (idx_comments_post_thread / idx_comments_group_post_thread)
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.post.id = :postId AND c.isDeleted = false ORDER BY c.createdTime ASC, c.id ASC")
+    List<Comment> findThreadByPostId(@Param("postId") Long postId);
+
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.groupPost.id = :groupPostId AND c.isDeleted = false ORDER BY c.createdTime ASC, c.id ASC")
+    List<Comment> findThreadByGroupPostId(@Param("groupPostId") Long groupPostId);
 
     // 댓글과 작성자, 게시글 정보를 함께 조회 (posts와 group_posts 모두 지원)
     @Query("SELECT c FROM Comment c LEFT JOIN FETCH c.user LEFT JOIN FETCH c.post LEFT JOIN FETCH c.groupPost WHERE c.id = :id")
     Optional<Comment> findByIdWithUserAndPost(@Param("id") Long id);
-}
 
+    // 고정된 최상위 댓글 (스레드 첫 페이지 맨 앞)
+    @Query("""
+        SELECT c FROM Comment c JOIN FETCH c.user
+        WHERE c.post.id = :postId
+          AND c.parentComment IS NULL AND c.isDeleted = false AND c.isPinned = true
+        ORDER BY c.createdTime ASC, c.id ASC
+        """)
+    List<Comment> findPinnedRootsByPostId(@Param("postId") Long postId);
+
+    @Query("""
+        SELECT c FROM Comment c JOIN FETCH c.user
+        WHERE c.groupPost.id = :groupPostId
+          AND c.parentComment IS NULL AND c.isDeleted = false AND c.isPinned = true
+        ORDER BY c.createdTime ASC, c.id ASC
+        """)
+    List<Comment> findPinnedRootsByGroupPostId(@Param("groupPostId") Long groupPostId);
+
+    // 고정되지 않은 최상위 댓글 (createdTime, id) 커서 이후
+    @Query("""
+        SELECT c FROM Comment c JOIN FETCH c.user
+        WHERE c.post.id = :postId
+          AND c.parentComment IS NULL AND c.isDeleted = false AND c.isPinned = false
+          AND (c.createdTime > :afterTime OR (c.createdTime = :afterTime AND c.id > :afterId))
+        ORDER BY c.createdTime ASC, c.id ASC
+        """)
+    List<Comment> findRootsAfterByPostId(@Param("postId") Long postId,
+                                         @Param("afterTime") LocalDateTime afterTime,
+                                         @Param("afterId") Long afterId,
+                                         Pageable pageable);
+
+    @Query("""
+        SELECT c FROM Comment c JOIN FETCH c.user
+        WHERE c.groupPost.id = :groupPostId
+          AND c.parentComment IS NULL AND c.isDeleted = false AND c.isPinned = false
+          AND (c.createdTime > :afterTime OR (c.createdTime = :afterTime AND c.id > :afterId))
+        ORDER BY c.createdTime ASC, c.id ASC
+        """)
+    List<Comment> findRootsAfterByGroupPostId(@Param("groupPostId") Long groupPostId,
+                                              @Param("afterTime") LocalDateTime afterTime,
+                                              @Param("afterId") Long afterId,
+                                              Pageable pageable);
+
+    // 대댓글 (createdTime, id) 커서 이후
+    @Query("""
+        SELECT c FROM Comment c JOIN FETCH c.user
+        WHERE c.parentComment.id = :parentId AND c.isDeleted = false
+          AND (c.createdTime > :afterTime OR (c.createdTime = :afterTime AND c.id > :afterId))
+        ORDER BY c.createdTime ASC, c.id ASC
+        """)
+    List<Comment> findRepliesAfter(@Param("parentId") Long parentId,
+                                   @Param("afterTime") LocalDateTime afterTime,
+                                   @Param("afterId") Long afterId,
+                                   Pageable pageable);
+
+    // 여러 부모 댓글의 첫 limit개 대댓글 ID (부모별 생성일시 순)
+    @Query(value = """
+        SELECT t.id FROM (
+            SELECT c.id, ROW_NUMBER() OVER (PARTITION BY c.parent_comment_id ORDER BY c.create_datetime, c.id) AS rn
+            FROM comments c
+            WHERE c.parent_comment_id IN (:parentIds) AND c.is_deleted = false
+        ) t
+        WHERE t.rn <= :limit
+        """, nativeQuery = true)
+    List<Long> findFirstReplyIds(@Param("parentIds") List<Long> parentIds, @Param("limit") int limit);
+
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.id IN :ids ORDER BY c.createdTime ASC, c.id ASC")
+    List<Comment> findAllWithUserByIdIn(@Param("ids") List<Long> ids);
+
+    // 대댓글 수 증감 (원자적 갱신, 0 아래로 내려가지 않음)
+    @Modifying
+    @Query("UPDATE Comment c SET c.replyCount = c.replyCount + 1 WHERE c.id = :id")
+    int incrementReplyCount(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE Comment c SET c.replyCount = c.replyCount - 1 WHERE c.id = :id AND c.replyCount > 0")
+    int decrementReplyCount(@Param("id") Long id);
+}
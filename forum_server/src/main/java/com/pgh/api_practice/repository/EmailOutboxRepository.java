@@ -0,0 +1,60 @@
+package com.pgh.api_practice.repository;
+
+import com.pgh.api_practice.entity.EmailOutbox;
+import com.pgh.api_practice.entity.EmailOutboxStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, Long> {
+
+    // 발송 가능한 대기 메일 ID (오래된 순)
+    @Query("""
+        SELECT e.id FROM EmailOutbox e
+        WHERE e.status = com.pgh.api_practice.entity.EmailOutboxStatus.PENDING
+          AND e.nextAttemptAt <= :now
+        ORDER BY e.id ASC
+        """)
+    List<Long> findDueIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // 발송 선점: PENDING인 경우에만 SENDING으로 전환 (여러 워커가 같은 메일을 보내지 않도록)
+    @Transactional
+    @Modifying
+    @Query("""
+        UPDATE EmailOutbox e
+        SET e.status = com.pgh.api_practice.entity.EmailOutboxStatus.SENDING, e.lockedAt = :now
+        WHERE e.id = :id AND e.status = com.pgh.api_practice.entity.EmailOutboxStatus.PENDING
+        """)
+    int claim(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    // 발송 중 워커가 종료되어 SENDING에 남은 메일을 다시 대기 상태로
+    @Transactional
+    @Modifying
+    @Query("""
+        UPDATE EmailOutbox e
+        SET e.status = com.pgh.api_practice.entity.EmailOutboxStatus.PENDING, e.lockedAt = null
+        WHERE e.status = com.pgh.api_practice.entity.EmailOutboxStatus.SENDING AND e.lockedAt < :staleBefore
+        """)
+    int releaseStale(@Param("staleBefore") LocalDateTime staleBefore);
+
+    long countByStatus(EmailOutboxStatus status);
+
+    // 오래된 발송 완료 메일 ID (청크 단위 정리용)
+    @Query("""
+        SELECT e.id FROM EmailOutbox e
+        WHERE e.status = com.pgh.api_practice.entity.EmailOutboxStatus.SENT AND e.sentAt < :before
+        ORDER BY e.id ASC
+        """)
+    List<Long> findSentIdsBefore(@Param("before") LocalDateTime before, Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM EmailOutbox e WHERE e.id IN :ids")
+    int deleteByIdIn(@Param("ids") List<Long> ids);
+}
@@ -1,16 +1,18 @@
 package com.pgh.api_practice.repository;
 
 import com.pgh.api_practice.entity.Follow;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 public interface FollowRepository extends JpaRepository<Follow, Long> {
     Optional<Follow> findByFollowerIdAndFollowingId(Long followerId, Long followingId);
     boolean existsByFollowerIdAndFollowingId(Long followerId, Long followingId);
-    void deleteByFollowerIdAndFollowingId(Long followerId, Long followingId);
+    long deleteByFollowerIdAndFollowingId(Long followerId, Long followingId);
     
     // 팔로워 수 (나를 팔로우하는 사람 수)
     long countByFollowingId(Long followingId);
@@ -18,6 +20,14 @@ public interface FollowRepository extends JpaRepository<Follow, Long> {
     // 팔로잉 수 (내가 팔로우하는 사람 수)
     long countByFollowerId(Long followerId);
     
+    // 주어진 사용자들 중 followerId가 팔로우하는 사용자 ID (목록의 팔로우 여부를 한 번에 확인)
+    @Query("SELECT f.following.id FROM Follow f WHERE f.follower.id = :followerId AND f.following.id IN :userIds")
+    java.util.List<Long> findFollowingIdsAmong(@Param("followerId") Long followerId, @Param("userIds") java.util.Collection<Long> userIds);
+    
+    // followerId가 팔로우하는 사용자 중 팔로워 수가 threshold 이상인 사용자 ID (타임라인에서 읽을 때 합치는 작성자)
+    @Query("SELECT f.following.id FROM Follow f WHERE f.follower.id = :followerId AND f.following.followerCount >= :threshold")
+    java.util.List<Long> findFollowingIdsWithFollowerCountAtLeast(@Param("followerId") Long followerId, @Param("threshold") long threshold);
+    
     // 팔로워 목록 (나를 팔로우하는 사람들)
     @Query("SELECT f.follower FROM Follow f WHERE f.following.id = :userId ORDER BY f.createDateTime DESC")
     java.util.List<com.pgh.api_practice.entity.Users> findFollowersByUserId(@Param("userId") Long userId);
@@ -25,4 +35,28 @@ public interface FollowRepository extends JpaRepository<Follow, Long> {
     // 팔로잉 목록 (내가 팔로우하는 사람들)
     @Query("SELECT f.following FROM Follow f WHERE f.follower.id = :userId ORDER BY f.createDateTime DESC")
     java.util.List<com.pgh.api_practice.entity.Users> findFollowingByUserId(@Param("userId") Long userId);
+    
+    // 팔로워 목록 커서 조회 (최신순, (createDateTime, id) 커서 이전) - idx_follows_following_created 범위 스캔
+    @Query("""
+        SELECT f FROM Follow f JOIN FETCH f.follower
+        WHERE f.following.id = :userId
+          AND (f.createDateTime < :beforeTime OR (f.createDateTime = :beforeTime AND f.id < :beforeId))
+        ORDER BY f.createDateTime DESC, f.id DESC
+        """)
+    java.util.List<Follow> findFollowersBefore(@Param("userId") Long userId,
+                                               @Param("beforeTime") LocalDateTime beforeTime,
+                                               @Param("beforeId") Long beforeId,
+                                               Pageable pageable);
+    
+    // 팔로잉 목록 커서 조회 (최신순, (createDateTime, id) 커서 이전) - idx_follows_follower_created 범위 스캔
+    @Query("""
+        SELECT f FROM Follow f JOIN FETCH f.following
+        WHERE f.follower.id = :userId
+          AND (f.createDateTime < :beforeTime OR (f.createDateTime = :beforeTime AND f.id < :beforeId))
+        ORDER BY f.createDateTime DESC, f.id DESC
+        """)
+    java.util.List<Follow> findFollowingBefore(@Param("userId") Long userId,
+                                               @Param("beforeTime") LocalDateTime beforeTime,
+                                               @Param("beforeId") Long beforeId,
+                                               Pageable pageable);
 }
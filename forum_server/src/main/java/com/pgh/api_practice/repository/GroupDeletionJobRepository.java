@@ -0,0 +1,44 @@
+package com.pgh.api_practice.repository;
+
+import com.pgh.api_practice.entity.GroupDeletionJob;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface GroupDeletionJobRepository extends JpaRepository<GroupDeletionJob, Long> {
+
+    boolean existsByGroupId(Long groupId);
+
+    // 진행할 작업 ID (다른 워커가 선점 중이 아닌 것, 오래된 순)
+    @Query("""
+        SELECT j.id FROM GroupDeletionJob j
+        WHERE j.step <> com.pgh.api_practice.entity.GroupDeletionStep.DONE
+          AND (j.lockedUntil IS NULL OR j.lockedUntil < :now)
+        ORDER BY j.id ASC
+        """)
+    List<Long> findRunnableIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // 작업 선점 (선점이 비어 있거나 만료된 경우에만)
+    @Transactional
+    @Modifying
+    @Query("""
+        UPDATE GroupDeletionJob j SET j.lockedUntil = :until
+        WHERE j.id = :id AND (j.lockedUntil IS NULL OR j.lockedUntil < :now)
+        """)
+    int claim(@Param("id") Long id, @Param("now") LocalDateTime now, @Param("until") LocalDateTime until);
+
+    // 선점 해제 (한 번 실행 분량을 마치면 다음 실행에서 바로 다시 선점할 수 있도록)
+    @Transactional
+    @Modifying
+    @Query("UPDATE GroupDeletionJob j SET j.lockedUntil = NULL WHERE j.id = :id")
+    int release(@Param("id") Long id);
+
+    @Query("SELECT COUNT(j) FROM GroupDeletionJob j WHERE j.step <> com.pgh.api_practice.entity.GroupDeletionStep.DONE")
+    long countPending();
+}
@@ -18,7 +18,11 @@ public interface GroupMemberRepository extends JpaRepository<GroupMember, Long>
     @Query("SELECT COUNT(gm) FROM GroupMember gm WHERE gm.group.id = :groupId")
     long countByGroupId(@Param("groupId") Long groupId);
 
-    void deleteByGroupIdAndUserId(Long groupId, Long userId);
+    long deleteByGroupIdAndUserId(Long groupId, Long userId);
+
+    // 목록 화면용: 주어진 모임들에서 내 멤버십과 관리자 여부 (groupId, isAdmin)
+    @Query("SELECT gm.group.id, gm.isAdmin FROM GroupMember gm WHERE gm.user.id = :userId AND gm.group.id IN :groupIds")
+    List<Object[]> findRolesByUserIdAndGroupIds(@Param("userId") Long userId, @Param("groupIds") List<Long> groupIds);
 
     // 멤버 여부 확인
     boolean existsByGroup_IdAndUser_Id(Long groupId, Long userId);
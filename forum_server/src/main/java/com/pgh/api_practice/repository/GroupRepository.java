@@ -3,13 +3,18 @@ package com.pgh.api_practice.repository;
 import com.pgh.api_practice.entity.Group;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
 
 public interface GroupRepository extends JpaRepository<Group, Long> {
     Optional<Group> findByIdAndIsDeletedFalse(Long id);
+    @EntityGraph(attributePaths = "owner")
     Page<Group> findByIsDeletedFalseOrderByCreatedTimeDesc(Pageable pageable);
     long countByOwnerId(Long ownerId);
     Page<Group> findByIsDeletedFalseAndNameContainingIgnoreCaseOrderByCreatedTimeDesc(String name, Pageable pageable);
@@ -17,11 +22,8 @@ public interface GroupRepository extends JpaRepository<Group, Long> {
     // 주인이 특정 사용자인 모임 조회
     List<Group> findByOwnerIdAndIsDeletedFalseOrderByCreatedTimeDesc(Long ownerId);
     
-    // ID 리스트로 모임 조회
-    Page<Group> findByIdInAndIsDeletedFalseOrderByCreatedTimeDesc(List<Long> ids, Pageable pageable);
-    
     /** 모임 검색 (이름 또는 설명으로 검색) - 강화된 검색 */
-    @org.springframework.data.jpa.repository.Query("SELECT g FROM Group g WHERE " +
+    @Query("SELECT g FROM Group g JOIN FETCH g.owner WHERE " +
            "g.isDeleted = false AND " +
            "(LOWER(g.name) LIKE LOWER(CONCAT('%', :query, '%')) OR " +
            "LOWER(g.description) LIKE LOWER(CONCAT('%', :query, '%'))) " +
@@ -31,7 +33,36 @@ public interface GroupRepository extends JpaRepository<Group, Long> {
            "     WHEN LOWER(g.description) LIKE LOWER(CONCAT(:query, '%')) THEN 3 " +
            "     ELSE 4 END, " +
            "g.createdTime DESC")
-    List<Group> searchGroups(@org.springframework.data.repository.query.Param("query") String query);
+    List<Group> searchGroups(@Param("query") String query, Pageable pageable);
+
+    /** 내가 주인이거나 멤버인 모임 (페이지 단위, 주인 정보 함께 조회) */
+    @Query(value = """
+            SELECT g FROM Group g JOIN FETCH g.owner
+            WHERE g.isDeleted = false
+              AND (g.owner.id = :userId
+                   OR EXISTS (SELECT 1 FROM GroupMember gm WHERE gm.group = g AND gm.user.id = :userId))
+            ORDER BY g.createdTime DESC
+            """,
+            countQuery = """
+            SELECT COUNT(g) FROM Group g
+            WHERE g.isDeleted = false
+              AND (g.owner.id = :userId
+                   OR EXISTS (SELECT 1 FROM GroupMember gm WHERE gm.group = g AND gm.user.id = :userId))
+            """)
+    Page<Group> findMyGroups(@Param("userId") Long userId, Pageable pageable);
+
+    // 검색 인덱스 구축용 (id 순 키셋 페이지: id, name, description, createdTime)
+    @Query("SELECT g.id, g.name, g.description, g.createdTime FROM Group g WHERE g.isDeleted = false AND g.id > :afterId ORDER BY g.id ASC")
+    List<Object[]> findSearchRows(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 검색 결과 ID로 모임 조회 (주인 정보 함께)
+    @Query("SELECT g FROM Group g JOIN FETCH g.owner WHERE g.id IN :ids AND g.isDeleted = false")
+    List<Group> findAllWithOwnerByIdIn(@Param("ids") List<Long> ids);
+
+    // 멤버 수 증감 (원자적 갱신)
+    @Modifying
+    @Query("UPDATE Group g SET g.memberCount = g.memberCount + :delta WHERE g.id = :groupId")
+    int adjustMemberCount(@Param("groupId") Long groupId, @Param("delta") long delta);
 
     List<Group> findByOwnerIdAndIsDeletedFalse(Long ownerId);
     List<Group> findByOwnerId(Long ownerId);
@@ -1,5 +1,6 @@
 package com.pgh.api_practice.repository;
 
+import com.pgh.api_practice.dto.NotificationDTO;
 import com.pgh.api_practice.entity.Notification;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -7,13 +8,38 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
     
+    // 알림 목록 DTO 프로젝션 (관련 엔티티를 개별 로딩하지 않고 필요한 컬럼만 한 번에 조회)
+    String NOTIFICATION_DTO_SELECT = """
+        SELECT new com.pgh.api_practice.dto.NotificationDTO(
+            n.id, n.type, n.title, n.message,
+            ru.id, ru.nickname, ru.profileImageUrl,
+            n.relatedPost.id, gp.id, gp.group.id, n.relatedComment.id,
+            n.isRead, false, n.createdTime)
+        FROM Notification n
+        LEFT JOIN n.relatedUser ru
+        LEFT JOIN n.relatedGroupPost gp
+    """;
+
     // 사용자의 알림 목록 조회 (최신순)
     Page<Notification> findByUserIdOrderByCreatedTimeDesc(Long userId, Pageable pageable);
+
+    // 사용자의 알림 목록 조회 (최신순, DTO 프로젝션 + 오프셋 페이지네이션)
+    @Query(value = NOTIFICATION_DTO_SELECT + " WHERE n.user.id = :userId ORDER BY n.id DESC",
+           countQuery = "SELECT COUNT(n) FROM Notification n WHERE n.user.id = :userId")
+    Page<NotificationDTO> findDtoPageByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    // 사용자의 알림 목록 조회 (커서 기반, (user_id, id) 인덱스 범위 스캔)
+    @Query(NOTIFICATION_DTO_SELECT + " WHERE n.user.id = :userId AND n.id < :before ORDER BY n.id DESC")
+    List<NotificationDTO> findDtosByUserIdBefore(@Param("userId") Long userId,
+                                                 @Param("before") Long before,
+                                                 Pageable pageable);
     
     // 사용자의 읽지 않은 알림 개수
     long countByUserIdAndIsReadFalse(Long userId);
@@ -30,4 +56,34 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     
     // 사용자의 읽지 않은 알림 목록
     List<Notification> findByUserIdAndIsReadFalseOrderByCreatedTimeDesc(Long userId);
+
+    /* ===============================
+       보관 정책 (청크 단위 정리용)
+       =============================== */
+
+    // 기준 시각 이전의 읽은 알림 ID (오래된 순)
+    @Query("SELECT n.id FROM Notification n WHERE n.isRead = true AND n.createdTime < :cutoff ORDER BY n.id ASC")
+    List<Long> findReadIdsCreatedBefore(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    // 기준 시각 이전의 모든 알림 ID (오래된 순)
+    @Query("SELECT n.id FROM Notification n WHERE n.createdTime < :cutoff ORDER BY n.id ASC")
+    List<Long> findIdsCreatedBefore(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    // 알림 개수가 상한을 넘은 사용자 ID
+    @Query("SELECT n.user.id FROM Notification n GROUP BY n.user.id HAVING COUNT(n) > :limit")
+    List<Long> findUserIdsWithMoreThan(@Param("limit") long limit);
+
+    // 사용자의 최신순 알림 ID (상한 경계 계산용)
+    @Query("SELECT n.id FROM Notification n WHERE n.user.id = :userId ORDER BY n.id DESC")
+    List<Long> findIdsByUserIdNewestFirst(@Param("userId") Long userId, Pageable pageable);
+
+    // 경계 ID보다 오래된 사용자의 읽은 알림 ID (오래된 순)
+    @Query("SELECT n.id FROM Notification n WHERE n.user.id = :userId AND n.isRead = true AND n.id < :boundaryId ORDER BY n.id ASC")
+    List<Long> findReadIdsByUserIdBefore(@Param("userId") Long userId, @Param("boundaryId") Long boundaryId, Pageable pageable);
+
+    // ID 목록 삭제 (청크마다 별도 트랜잭션으로 커밋)
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM Notification n WHERE n.id IN :ids")
+    int deleteByIdIn(@Param("ids") List<Long> ids);
 }
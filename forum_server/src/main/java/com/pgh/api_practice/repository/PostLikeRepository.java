@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
@@ -26,4 +27,8 @@ public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
     
     @Query("SELECT COUNT(pl) FROM PostLike pl WHERE pl.groupPost.id = :groupPostId")
     long countByGroupPostId(@Param("groupPostId") Long groupPostId);
+    
+    // 여러 게시글의 좋아요 수 [postId, count]
+    @Query("SELECT pl.post.id, COUNT(pl) FROM PostLike pl WHERE pl.post.id IN :postIds GROUP BY pl.post.id")
+    List<Object[]> countByPostIds(@Param("postIds") List<Long> postIds);
 }
@@ -38,6 +38,14 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     @Query("SELECT p FROM Post p WHERE p.user.id = :userId AND p.isDeleted = false ORDER BY (SELECT COUNT(pl) FROM PostLike pl WHERE pl.post.id = p.id) DESC, p.createdTime DESC")
     Page<Post> findAllByUserIdAndIsDeletedFalseOrderByLikesDesc(@Param("userId") Long userId, Pageable pageable);
 
+    // 팔로잉 타임라인: 주어진 작성자들의 외부 노출 게시글 ID (최신순, before 이전) - idx_posts_user_id 범위 스캔
+    @Query("SELECT p.id FROM Post p WHERE p.user.id IN :userIds AND p.isDeleted = false AND (p.group IS NULL OR p.isPublic = true) AND p.id < :before ORDER BY p.id DESC")
+    List<Long> findPublicPostIdsByUserIdsBefore(@Param("userIds") List<Long> userIds, @Param("before") Long before, Pageable pageable);
+
+    // 게시글 ID로 작성자/모임과 함께 조회
+    @Query("SELECT p FROM Post p JOIN FETCH p.user LEFT JOIN FETCH p.group WHERE p.id IN :ids")
+    List<Post> findAllWithUserAndGroupByIdIn(@Param("ids") List<Long> ids);
+
     // 조회수 증가 (updatedTime은 변경하지 않음)
     @Modifying
     @Query("UPDATE Post p SET p.views = p.views + 1 WHERE p.id = :id")
@@ -9,6 +9,10 @@ import java.util.List;
 
 public interface PostTagRepository extends JpaRepository<PostTag, Long> {
     List<PostTag> findByPostId(Long postId);
+    
+    // 여러 게시글의 태그 이름 [postId, tagName]
+    @Query("SELECT pt.post.id, pt.tag.name FROM PostTag pt WHERE pt.post.id IN :postIds")
+    List<Object[]> findTagNamesByPostIds(@Param("postIds") List<Long> postIds);
     void deleteByPostId(Long postId);
     
     @Query("SELECT pt.post.id FROM PostTag pt WHERE pt.tag.name = :tagName AND pt.post.isDeleted = false")
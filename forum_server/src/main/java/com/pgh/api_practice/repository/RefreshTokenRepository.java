@@ -1,13 +1,52 @@
 package com.pgh.api_practice.repository;
 
 import com.pgh.api_practice.entity.RefreshToken;
-import com.pgh.api_practice.entity.Users;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface RefreshTokenRepository extends CrudRepository<RefreshToken, Long> {
-    Optional<RefreshToken> findByRefreshToken(String refreshToken);
-}
 
+    // 토큰 다이제스트로 조회 (token_hash 유니크 인덱스)
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    // 회전 처리: 아직 사용되지 않은 경우에만 사용 표시 (동시 요청 중 하나만 성공)
+    @Modifying
+    @Query("UPDATE RefreshToken r SET r.isUsed = true WHERE r.id = :id AND r.isUsed = false")
+    int markUsed(@Param("id") Long id);
+
+    // 같은 로그인 세션(회전 체인) 전체 폐기
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.familyId = :familyId")
+    int deleteByFamilyId(@Param("familyId") String familyId);
+
+    // 사용자의 모든 세션 폐기
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.userId = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
 
+    // 사용자의 활성 세션(family) 목록, 오래된 순
+    @Query("""
+        SELECT r.familyId FROM RefreshToken r
+        WHERE r.userId = :userId AND r.isUsed = false AND r.expiryDateTime > :now
+        ORDER BY r.id ASC
+        """)
+    List<String> findActiveFamilyIdsOldestFirst(@Param("userId") Long userId, @Param("now") LocalDateTime now);
+
+    // 만료된 토큰 ID (청크 단위 정리용)
+    @Query("SELECT r.id FROM RefreshToken r WHERE r.expiryDateTime < :now ORDER BY r.id ASC")
+    List<Long> findExpiredIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // ID 목록 삭제 (청크마다 별도 트랜잭션으로 커밋)
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.id IN :ids")
+    int deleteByIdIn(@Param("ids") List<Long> ids);
+}
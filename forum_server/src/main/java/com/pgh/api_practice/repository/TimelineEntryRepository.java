@@ -0,0 +1,56 @@
+package com.pgh.api_practice.repository;
+
+import com.pgh.api_practice.entity.TimelineEntry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface TimelineEntryRepository extends JpaRepository<TimelineEntry, Long> {
+
+    // 작성자의 모든 팔로워 타임라인에 게시글 추가 (한 문장으로)
+    @Modifying
+    @Query(value = """
+        INSERT INTO timeline_entries (user_id, post_id, author_id, create_datetime)
+        SELECT f.follower_id, :postId, :authorId, :createdTime FROM follows f WHERE f.following_id = :authorId
+        """, nativeQuery = true)
+    int fanOut(@Param("postId") Long postId,
+               @Param("authorId") Long authorId,
+               @Param("createdTime") LocalDateTime createdTime);
+
+    // pull 대상에서 빠진 작성자의 게시글을 팔로워 타임라인에 채움 (이미 있는 항목은 건너뜀)
+    @Transactional
+    @Modifying
+    @Query(value = """
+        INSERT INTO timeline_entries (user_id, post_id, author_id, create_datetime)
+        SELECT f.follower_id, :postId, :authorId, :createdTime FROM follows f
+        WHERE f.following_id = :authorId
+          AND NOT EXISTS (SELECT 1 FROM timeline_entries t WHERE t.user_id = f.follower_id AND t.post_id = :postId)
+        """, nativeQuery = true)
+    int backfill(@Param("postId") Long postId,
+                 @Param("authorId") Long authorId,
+                 @Param("createdTime") LocalDateTime createdTime);
+
+    // 타임라인의 게시글 ID (최신순, before 이전) - uk_timeline_entries_user_post 범위 스캔
+    @Query("SELECT t.postId FROM TimelineEntry t WHERE t.userId = :userId AND t.postId < :before ORDER BY t.postId DESC")
+    List<Long> findPostIdsBefore(@Param("userId") Long userId, @Param("before") Long before, Pageable pageable);
+
+    // 항목 수가 상한을 넘은 사용자 ID
+    @Query("SELECT t.userId FROM TimelineEntry t GROUP BY t.userId HAVING COUNT(t) > :limit")
+    List<Long> findUserIdsWithMoreThan(@Param("limit") long limit);
+
+    // 경계 게시글 ID보다 오래된 항목 삭제 (사용자마다 별도 트랜잭션으로 커밋)
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM TimelineEntry t WHERE t.userId = :userId AND t.postId < :boundaryPostId")
+    int deleteByUserIdAndPostIdBefore(@Param("userId") Long userId, @Param("boundaryPostId") Long boundaryPostId);
+
+    @Modifying
+    @Query("DELETE FROM TimelineEntry t WHERE t.postId = :postId")
+    int deleteByPostId(@Param("postId") Long postId);
+}
@@ -0,0 +1,50 @@
+package com.pgh.api_practice.repository;
+
+import com.pgh.api_practice.entity.Upload;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface UploadRepository extends JpaRepository<Upload, Long> {
+
+    Optional<Upload> findByContentHash(String contentHash);
+
+    Optional<Upload> findByStoredFilename(String storedFilename);
+
+    // 참조 추가 (원자적 증가)
+    @Modifying
+    @Query("UPDATE Upload u SET u.referenceCount = u.referenceCount + 1 WHERE u.storedFilename = :filename")
+    int incrementReference(@Param("filename") String filename);
+
+    // 참조 해제 (0 아래로 내려가지 않음)
+    @Modifying
+    @Query("UPDATE Upload u SET u.referenceCount = u.referenceCount - 1 WHERE u.storedFilename = :filename AND u.referenceCount > 0")
+    int decrementReference(@Param("filename") String filename);
+
+    // 참조 카운트가 남아 있는 파일 (고아 파일 수거 시 보호)
+    @Query("SELECT u.storedFilename FROM Upload u WHERE u.referenceCount > 0")
+    List<String> findReferencedFilenames();
+
+    // 다른 사용자가 같은 내용을 올리면 단독 업로더 정보를 지운다 (공유 파일은 업로더가 삭제할 수 없고 고아 수거에 맡김)
+    @Transactional
+    @Modifying
+    @Query("UPDATE Upload u SET u.uploaderId = NULL WHERE u.contentHash = :hash AND u.uploaderId <> :uploaderId")
+    int markShared(@Param("hash") String hash, @Param("uploaderId") Long uploaderId);
+
+    // 업로더 본인의 참조 없는 파일만 등록 정보 삭제 (확인과 삭제를 한 문장으로 → 동시 참조 추가와 경합하지 않음)
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM Upload u WHERE u.storedFilename = :filename AND u.referenceCount = 0 AND u.uploaderId = :uploaderId")
+    int deleteOwnedUnreferenced(@Param("filename") String filename, @Param("uploaderId") Long uploaderId);
+
+    // 고아 파일 수거 후 등록 정보 삭제 (그 사이 참조가 생겼으면 삭제하지 않음)
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM Upload u WHERE u.storedFilename = :filename AND u.referenceCount = 0")
+    int deleteUnreferenced(@Param("filename") String filename);
+}
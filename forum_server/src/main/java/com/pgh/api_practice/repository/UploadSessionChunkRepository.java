@@ -0,0 +1,27 @@
+package com.pgh.api_practice.repository;
+
+import com.pgh.api_practice.entity.UploadSessionChunk;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface UploadSessionChunkRepository extends JpaRepository<UploadSessionChunk, Long> {
+
+    Optional<UploadSessionChunk> findBySessionIdAndChunkIndex(String sessionId, int chunkIndex);
+
+    long countBySessionId(String sessionId);
+
+    // 수신 완료된 청크 번호 (이어 올리기용)
+    @Query("SELECT c.chunkIndex FROM UploadSessionChunk c WHERE c.sessionId = :sessionId ORDER BY c.chunkIndex ASC")
+    List<Integer> findChunkIndexes(@Param("sessionId") String sessionId);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM UploadSessionChunk c WHERE c.sessionId = :sessionId")
+    int deleteBySessionId(@Param("sessionId") String sessionId);
+}
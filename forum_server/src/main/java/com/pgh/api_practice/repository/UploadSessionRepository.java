@@ -0,0 +1,42 @@
+package com.pgh.api_practice.repository;
+
+import com.pgh.api_practice.entity.UploadSession;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface UploadSessionRepository extends JpaRepository<UploadSession, String> {
+
+    // 만료된 세션 (청크 단위 정리용)
+    @Query("SELECT s FROM UploadSession s WHERE s.expiresAt < :now ORDER BY s.expiresAt ASC")
+    List<UploadSession> findExpired(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // 완료 처리 선점 (만료 전 UPLOADING 세션만, 처리 중 정리되지 않도록 만료 시각을 leaseUntil로 갱신)
+    @Transactional
+    @Modifying
+    @Query("""
+        UPDATE UploadSession s
+        SET s.status = com.pgh.api_practice.entity.UploadSessionStatus.COMPLETING, s.expiresAt = :leaseUntil
+        WHERE s.id = :id
+          AND s.status = com.pgh.api_practice.entity.UploadSessionStatus.UPLOADING
+          AND s.expiresAt > :now
+        """)
+    int startCompleting(@Param("id") String id, @Param("now") LocalDateTime now,
+                        @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    // 완료 처리 실패 시 다시 업로드 중으로 (남은 만료 시각은 expiresAt으로 복원)
+    @Transactional
+    @Modifying
+    @Query("""
+        UPDATE UploadSession s
+        SET s.status = com.pgh.api_practice.entity.UploadSessionStatus.UPLOADING, s.expiresAt = :expiresAt
+        WHERE s.id = :id AND s.status = com.pgh.api_practice.entity.UploadSessionStatus.COMPLETING
+        """)
+    int cancelCompleting(@Param("id") String id, @Param("expiresAt") LocalDateTime expiresAt);
+}
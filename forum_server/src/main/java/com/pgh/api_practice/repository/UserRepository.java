@@ -1,7 +1,9 @@
 package com.pgh.api_practice.repository;
 
 import com.pgh.api_practice.entity.Users;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -17,4 +19,22 @@ public interface UserRepository extends JpaRepository<Users, Long> {
     default Optional<Users> findByUsername(String username) {
         return findFirstByUsernameNative(username);
     }
+
+    // 사용자 검색 인덱스 구축용 (검색 대상인 사용자만, id 커서) [id, username, nickname, profileImageUrl, followerCount]
+    @Query("SELECT u.id, u.username, u.nickname, u.profileImageUrl, u.followerCount FROM Users u " +
+           "WHERE u.isDeleted = false AND u.emailVerified = true AND u.id > :afterId ORDER BY u.id ASC")
+    List<Object[]> findSearchRows(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 팔로워 수가 threshold 이상인 사용자 ID (타임라인에서 읽을 때 합치는 작성자 목록)
+    @Query("SELECT u.id FROM Users u WHERE u.followerCount >= :threshold AND u.isDeleted = false")
+    List<Long> findIdsWithFollowerCountAtLeast(@Param("threshold") long threshold);
+
+    // 팔로워/팔로잉 수 증감 (원자적 갱신)
+    @Modifying
+    @Query("UPDATE Users u SET u.followerCount = u.followerCount + :delta WHERE u.id = :userId")
+    int adjustFollowerCount(@Param("userId") Long userId, @Param("delta") long delta);
+
+    @Modifying
+    @Query("UPDATE Users u SET u.followingCount = u.followingCount + :delta WHERE u.id = :userId")
+    int adjustFollowingCount(@Param("userId") Long userId, @Param("delta") long delta);
 }
@@ -7,15 +7,15 @@ import com.pgh.api_practice.dto.UpdateProfileDTO;
 import com.pgh.api_practice.dto.auth.LoginResponseDTO;
 import com.pgh.api_practice.dto.auth.RefreshTokenRequestDTO;
 import com.pgh.api_practice.dto.auth.RegisterRequestDTO;
-import com.pgh.api_practice.entity.RefreshToken;
 import com.pgh.api_practice.entity.Users;
 import com.pgh.api_practice.exception.ApplicationUnauthorizedException;
 import com.pgh.api_practice.exception.RefreshTokenExpiredException;
 import com.pgh.api_practice.exception.ResourceNotFoundException;
 import com.pgh.api_practice.exception.UserAlreadyExistException;
+import com.pgh.api_practice.global.TokenDenyList;
 import com.pgh.api_practice.global.TokenProvider;
+import com.pgh.api_practice.global.VerifiedToken;
 import com.pgh.api_practice.repository.AuthRepository;
-import com.pgh.api_practice.repository.RefreshTokenRepository;
 import lombok.AllArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -24,6 +24,7 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -36,11 +37,14 @@ public class AuthService {
     private final PasswordEncoder passwordEncoder;
     private final TokenProvider tokenProvider;
     private final AuthenticationManager authenticationManager;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenService refreshTokenService;
     private final EmailService emailService;
+    private final TokenDenyList tokenDenyList;
+    private final UploadReferenceService uploadReferenceService;
+    private final UserSearchIndex userSearchIndex;
+    private final TransactionTemplate transactionTemplate;
 
-    // 회원가입
-    @Transactional
+    // 회원가입 (BCrypt 해싱은 트랜잭션 밖에서, 저장만 짧은 트랜잭션으로)
     public void register(RegisterRequestDTO dto) {
         // 아이디 중복 검증
         if (authRepository.existsByUsername(dto.getUsername())) {
@@ -64,94 +68,89 @@ public class AuthService {
                 .username(dto.getUsername())
                 .email(dto.getEmail())
                 .nickname(dto.getNickname())
-                .password(passwordEncoder.encode(dto.getPassword())) // 비밀번호 인코딩
+                .password(passwordEncoder.encode(dto.getPassword())) // 비밀번호 인코딩 (커넥션을 잡지 않은 상태에서 대기/해싱)
                 .emailVerified(false) // 이메일 미인증 상태로 시작
                 .emailVerificationToken(verificationToken)
                 .build();
 
-        authRepository.save(user);
+        transactionTemplate.executeWithoutResult(status -> {
+            authRepository.save(user);
 
-        // 이메일 인증 메일 발송
-        try {
+            // 이메일 인증 메일 발송 (outbox에 저장 → 가입 트랜잭션과 함께 커밋, 실제 발송은 백그라운드)
             emailService.sendVerificationEmail(dto.getEmail(), dto.getUsername(), verificationToken);
-        } catch (Exception e) {
-            // 이메일 발송 실패해도 회원가입은 완료 (나중에 재발송 가능)
-            // 로그만 남기고 계속 진행
-            System.err.println("이메일 발송 실패: " + e.getMessage());
-        }
+        });
     }
 
-    // 로그인
-    @Transactional
+    // 로그인 (비밀번호 검증은 트랜잭션 밖에서, 세션 저장만 짧은 트랜잭션으로)
     public LoginResponseDTO login(LoginRequestDTO dto) {
-        // 1) 인증
+        // 1) 인증 (BCrypt 대기/해싱 동안 트랜잭션을 열어 두지 않음)
         Authentication authentication = authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(dto.getUsername(), dto.getPassword())
         );
 
         String username = authentication.getName();
 
-        // 2) 사용자 존재 확인 및 이메일 인증 여부 확인
-        Users user = authRepository.findByUsername(username)
-                .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다."));
+        return transactionTemplate.execute(status -> {
+            // 2) 사용자 존재 확인 및 이메일 인증 여부 확인
+            Users user = authRepository.findByUsername(username)
+                    .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다."));
 
-        // 3) 이메일 인증 여부 확인
-        if (!user.isEmailVerified()) {
-            throw new ApplicationUnauthorizedException("이메일 인증이 완료되지 않았습니다. 이메일을 확인해주세요.");
-        }
+            // 3) 이메일 인증 여부 확인
+            if (!user.isEmailVerified()) {
+                throw new ApplicationUnauthorizedException("이메일 인증이 완료되지 않았습니다. 이메일을 확인해주세요.");
+            }
 
-        // 4) 토큰 생성
-        String accessToken  = tokenProvider.createAccessToken(username);
-        String refreshToken = tokenProvider.createRefreshToken(username);
+            // 4) 토큰 생성
+            String accessToken  = tokenProvider.createAccessToken(user.getId(), username);
+            String refreshToken = tokenProvider.createRefreshToken(username);
 
-        // 5) 신규 RT 저장
-        RefreshToken rt = RefreshToken.builder()
-                .refreshToken(refreshToken)
-                .expiryDateTime(LocalDateTime.now().plusDays(7))
-                .build();
-        refreshTokenRepository.save(rt);
+            // 5) 신규 RT 저장 (다이제스트만 저장, 새 세션 family 시작)
+            refreshTokenService.startSession(user.getId(), refreshToken);
 
-        return new LoginResponseDTO(accessToken, refreshToken);
+            return new LoginResponseDTO(accessToken, refreshToken);
+        });
     }
 
-    // ✅ 토큰 재발급
-    @Transactional
+    // ✅ 토큰 재발급 (리프레시 토큰 회전)
+    @Transactional(noRollbackFor = RefreshTokenExpiredException.class)
     public LoginResponseDTO refreshToken(RefreshTokenRequestDTO dto) {
-        // 1) RefreshToken 검증
-        if (!tokenProvider.validateToken(dto.getRefreshToken())) {
-            throw new RefreshTokenExpiredException("리프레시 토큰이 만료되었습니다.");
-        }
-
-        // 2) DB에서 RefreshToken 조회
-        RefreshToken refreshTokenEntity = refreshTokenRepository.findByRefreshToken(dto.getRefreshToken())
-                .orElseThrow(() -> new ResourceNotFoundException("리프레시 토큰을 찾을 수 없습니다."));
-
-        // 3) RefreshToken 만료 시간 확인
-        if (refreshTokenEntity.getExpiryDateTime().isBefore(LocalDateTime.now())) {
-            refreshTokenRepository.delete(refreshTokenEntity);
+        // 1) RefreshToken 검증 (서명 검증과 클레임 추출을 한 번에)
+        VerifiedToken verified = tokenProvider.verify(dto.getRefreshToken());
+        if (verified == null || !verified.isRefreshToken()) {
             throw new RefreshTokenExpiredException("리프레시 토큰이 만료되었습니다.");
         }
 
-        // 4) RefreshToken에서 username 추출
-        String username = tokenProvider.getUsername(dto.getRefreshToken());
-
-        // 5) 새로운 AccessToken 생성
-        String newAccessToken = tokenProvider.createAccessToken(username);
+        // 2) RefreshToken에서 username 추출 후 사용자 확인 (탈퇴한 사용자는 재발급 불가)
+        String username = verified.getUsername();
+        Users user = authRepository.findByUsername(username)
+                .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다."));
 
-        // 6) 새로운 RefreshToken 생성 (선택적 - 기존 토큰 유지하거나 새로 발급)
+        // 3) 새로운 RefreshToken 생성 후 회전 (다이제스트 인덱스 조회 1회, 재사용/소유자 불일치 시 세션 전체 폐기)
         String newRefreshToken = tokenProvider.createRefreshToken(username);
+        refreshTokenService.rotate(dto.getRefreshToken(), newRefreshToken, user.getId());
 
-        // 7) 기존 RefreshToken 삭제하고 새로운 RefreshToken 저장
-        refreshTokenRepository.delete(refreshTokenEntity);
-        RefreshToken newRefreshTokenEntity = RefreshToken.builder()
-                .refreshToken(newRefreshToken)
-                .expiryDateTime(LocalDateTime.now().plusDays(7))
-                .build();
-        refreshTokenRepository.save(newRefreshTokenEntity);
+        // 4) 새로운 AccessToken 생성
+        String newAccessToken = tokenProvider.createAccessToken(user.getId(), username);
 
         return new LoginResponseDTO(newAccessToken, newRefreshToken);
     }
 
+    /** ✅ 로그아웃 (제출된 리프레시 토큰의 세션 폐기) */
+    @Transactional
+    public void logout(String refreshToken) {
+        if (refreshToken != null) {
+            refreshTokenService.revokeSession(refreshToken);
+        }
+    }
+
+    /** ✅ 모든 기기에서 로그아웃 (모든 리프레시 토큰 폐기 + 발급된 액세스 토큰 차단) */
+    @Transactional
+    public void revokeAllSessions() {
+        Users user = getCurrentUser();
+        refreshTokenService.revokeAllSessions(user.getId());
+        tokenDenyList.revokeUser(user.getId());
+    }
+
     /** ✅ 현재 사용자 정보 조회 */
     @Transactional(readOnly = true)
     public Users getCurrentUser() {
@@ -173,6 +172,7 @@ public class AuthService {
         boolean modified = false;
         
         if (dto.getProfileImageUrl() != null && !dto.getProfileImageUrl().equals(user.getProfileImageUrl())) {
+            uploadReferenceService.replace(user.getProfileImageUrl(), dto.getProfileImageUrl());
             user.setProfileImageUrl(dto.getProfileImageUrl());
             modified = true;
         }
@@ -202,11 +202,11 @@ public class AuthService {
         
         if (modified) {
             authRepository.save(user);
+            userSearchIndex.put(user);
         }
     }
 
-    /** ✅ 비밀번호 변경 */
-    @Transactional
+    /** ✅ 비밀번호 변경 (검증/해싱은 트랜잭션 밖에서, 저장만 짧은 트랜잭션으로) */
     public void changePassword(ChangePasswordDTO dto) {
         Users user = getCurrentUser();
         
@@ -215,9 +215,14 @@ public class AuthService {
             throw new IllegalArgumentException("현재 비밀번호가 일치하지 않습니다.");
         }
         
-        // 새 비밀번호 설정
-        user.setPassword(passwordEncoder.encode(dto.getNewPassword()));
-        authRepository.save(user);
+        // 새 비밀번호 설정 (해싱하는 동안 바뀐 다른 필드를 덮어쓰지 않도록 트랜잭션 안에서 다시 조회)
+        String encoded = passwordEncoder.encode(dto.getNewPassword());
+        transactionTemplate.executeWithoutResult(status -> {
+            Users current = authRepository.findById(user.getId())
+                    .orElseThrow(() -> new ResourceNotFoundException("유저를 찾을 수 없습니다."));
+            current.setPassword(encoded);
+            authRepository.save(current);
+        });
     }
 
     /** ✅ 회원탈퇴 */
@@ -226,9 +231,14 @@ public class AuthService {
         Users user = getCurrentUser();
         user.setDeleted(true);
         authRepository.save(user);
-        
+        uploadReferenceService.release(user.getProfileImageUrl());
+        userSearchIndex.remove(user.getId());
+
+        // 이미 발급된 액세스 토큰 무효화 (필터가 DB를 조회하지 않으므로 거부 목록으로 차단)
+        tokenDenyList.revokeUser(user.getId());
+
         // 모든 리프레시 토큰 삭제
-        // (선택적 - 보안을 위해)
+        refreshTokenService.revokeAllSessions(user.getId());
     }
 
     /** ✅ 이메일 인증 처리 */
@@ -245,6 +255,7 @@ public class AuthService {
         user.setEmailVerified(true);
         user.setEmailVerificationToken(null); // 토큰 제거 (일회용)
         authRepository.save(user);
+        userSearchIndex.put(user);  // 인증을 마친 사용자부터 검색/멘션 대상
     }
 
     /** ✅ 이메일 인증 메일 재발송 */
@@ -262,7 +273,7 @@ public class AuthService {
         user.setEmailVerificationToken(verificationToken);
         authRepository.save(user);
 
-        // 이메일 재발송
+        // 이메일 재발송 (outbox에 저장, 실제 발송은 백그라운드)
         emailService.sendVerificationEmail(user.getEmail(), user.getUsername(), verificationToken);
     }
 
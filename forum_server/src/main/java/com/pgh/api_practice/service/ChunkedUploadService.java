@@ -0,0 +1,352 @@
+package com.pgh.api_practice.service;
+
+import com.pgh.api_practice.dto.CreateUploadSessionDTO;
+import com.pgh.api_practice.dto.UploadSessionDTO;
+import com.pgh.api_practice.entity.UploadSession;
+import com.pgh.api_practice.entity.UploadSessionChunk;
+import com.pgh.api_practice.entity.UploadSessionStatus;
+import com.pgh.api_practice.entity.Users;
+import com.pgh.api_practice.exception.ApplicationBadRequestException;
+import com.pgh.api_practice.exception.ApplicationUnauthorizedException;
+import com.pgh.api_practice.exception.ResourceNotFoundException;
+import com.pgh.api_practice.global.ImageDerivatives;
+import com.pgh.api_practice.global.ImageInfo;
+import com.pgh.api_practice.global.UploadFileTypes;
+import com.pgh.api_practice.repository.AuthRepository;
+import com.pgh.api_practice.repository.UploadSessionChunkRepository;
+import com.pgh.api_practice.repository.UploadSessionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 청크 업로드 (대용량 채팅 파일)
+ * - 세션 생성 → 청크 PUT (순서 무관, 동시 가능) → 완료 처리
+ * - 청크 본문은 요청 스트림에서 작은 버퍼로 읽어 FileChannel로 해당 오프셋에 바로 기록 (힙 버퍼링/임시 복사 없음)
+ * - 청크마다 SHA-256 체크섬을 검증하고, 통과한 청크만 기록해 연결이 끊겨도 나머지만 다시 올리면 된다
+ * - 완료 시 전체 해시를 계산해 내용 주소 저장소(UploadStorageService)로 옮긴다
+ * - 청크 크기 하한/청크 수 상한을 서버에서 강제하고, 완료 처리는 UPLOADING → COMPLETING 조건부 전이로 한 요청만 진행
+ */
+@Slf4j
+@Service
+public class ChunkedUploadService {
+
+    private static final int IO_BUFFER_SIZE = 64 * 1024;
+    private static final String PARTIAL_DIR = ".partial";
+    private static final long COMPLETE_LEASE_MINUTES = 60;  // 완료 처리 중 세션이 정리되지 않도록 보장하는 시간
+
+    private final UploadSessionRepository uploadSessionRepository;
+    private final UploadSessionChunkRepository uploadSessionChunkRepository;
+    private final AuthRepository authRepository;
+    private final UploadStorageService uploadStorageService;
+    private final ImageDerivativeService imageDerivativeService;
+    private final ImageUploadValidator imageUploadValidator;
+    private final Path partialPath;
+    private final long maxFileSize;
+    private final int defaultChunkSize;
+    private final int minChunkSize;
+    private final int maxChunkSize;
+    private final int maxTotalChunks;
+    private final long sessionTtlHours;
+
+    public ChunkedUploadService(
+            UploadSessionRepository uploadSessionRepository,
+            UploadSessionChunkRepository uploadSessionChunkRepository,
+            AuthRepository authRepository,
+            UploadStorageService uploadStorageService,
+            ImageDerivativeService imageDerivativeService,
+            ImageUploadValidator imageUploadValidator,
+            @Value("${app.upload.dir:C:/app-data/uploads}") String uploadDir,
+            @Value("${app.upload.chunked.max-file-size:1073741824}") long maxFileSize,
+            @Value("${app.upload.chunked.default-chunk-size:5242880}") int defaultChunkSize,
+            @Value("${app.upload.chunked.min-chunk-size:1048576}") int minChunkSize,
+            @Value("${app.upload.chunked.max-chunk-size:16777216}") int maxChunkSize,
+            @Value("${app.upload.chunked.max-total-chunks:10000}") int maxTotalChunks,
+            @Value("${app.upload.chunked.session-ttl-hours:24}") long sessionTtlHours) {
+        this.uploadSessionRepository = uploadSessionRepository;
+        this.uploadSessionChunkRepository = uploadSessionChunkRepository;
+        this.authRepository = authRepository;
+        this.uploadStorageService = uploadStorageService;
+        this.imageDerivativeService = imageDerivativeService;
+        this.imageUploadValidator = imageUploadValidator;
+        this.partialPath = Paths.get(uploadDir).resolve(PARTIAL_DIR);
+        this.maxFileSize = maxFileSize;
+        this.defaultChunkSize = defaultChunkSize;
+        this.minChunkSize = minChunkSize;
+        this.maxChunkSize = maxChunkSize;
+        this.maxTotalChunks = maxTotalChunks;
+        this.sessionTtlHours = sessionTtlHours;
+    }
+
+    /** 업로드 세션 생성 */
+    public UploadSessionDTO createSession(CreateUploadSessionDTO dto, String username) {
+        Users user = requireUser(username);
+
+        if (dto.getFileSize() > maxFileSize) {
+            throw new ApplicationBadRequestException("파일 크기가 너무 큽니다. 최대 " + (maxFileSize / 1024 / 1024) + "MB까지 업로드 가능합니다.");
+        }
+
+        // 너무 작은 청크는 청크 행/요청 수만 늘리므로 서버 하한~상한 사이로 맞춘다
+        int requested = dto.getChunkSize() != null && dto.getChunkSize() > 0 ? dto.getChunkSize() : defaultChunkSize;
+        int chunkSize = Math.max(minChunkSize, Math.min(requested, maxChunkSize));
+        long totalChunks = (dto.getFileSize() + chunkSize - 1) / chunkSize;
+        if (totalChunks > maxTotalChunks) {
+            throw new ApplicationBadRequestException("청크 수가 너무 많습니다. 최대 " + maxTotalChunks + "개까지 가능합니다.");
+        }
+
+        UploadSession session = uploadSessionRepository.save(UploadSession.builder()
+                .id(UUID.randomUUID().toString())
+                .userId(user.getId())
+                .fileName(dto.getFileName())
+                .fileSize(dto.getFileSize())
+                // 클라이언트가 보낸 Content-Type은 저장하지 않고 허용 목록의 확장자에서 정한다 (이미지는 완료 시 매직 바이트로 다시 판별)
+                .contentType(UploadFileTypes.contentTypeOf(UploadFileTypes.attachmentExtension(dto.getFileName())))
+                .chunkSize(chunkSize)
+                .totalChunks((int) totalChunks)
+                .expiresAt(LocalDateTime.now().plusHours(sessionTtlHours))
+                .build());
+
+        return toDTO(session, List.of());
+    }
+
+    /** 세션 상태 조회 (이어 올리기 시 받은 청크 확인) */
+    public UploadSessionDTO getSession(String uploadId, String username) {
+        UploadSession session = requireSession(uploadId, username);
+        return toDTO(session, uploadSessionChunkRepository.findChunkIndexes(uploadId));
+    }
+
+    /**
+     * 청크 기록
+     * @param checksum 청크 본문의 SHA-256 (hex)
+     */
+    public void writeChunk(String uploadId, int index, String checksum, InputStream body, String username)
+            throws IOException {
+        UploadSession session = requireSession(uploadId, username);
+        if (session.getStatus() != UploadSessionStatus.UPLOADING) {
+            throw new ApplicationBadRequestException("이미 완료된 업로드입니다.");
+        }
+        if (index < 0 || index >= session.getTotalChunks()) {
+            throw new ApplicationBadRequestException("잘못된 청크 번호입니다.");
+        }
+        if (checksum == null || !checksum.matches("[0-9a-fA-F]{64}")) {
+            throw new ApplicationBadRequestException("청크 체크섬(SHA-256)이 필요합니다.");
+        }
+
+        long offset = (long) index * session.getChunkSize();
+        long expectedLength = Math.min(session.getChunkSize(), session.getFileSize() - offset);
+
+        Files.createDirectories(partialPath);
+        MessageDigest digest = sha256();
+        long written = 0;
+        byte[] buffer = new byte[IO_BUFFER_SIZE];
+        try (FileChannel channel = FileChannel.open(partFile(uploadId),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            int read;
+            while ((read = body.read(buffer)) != -1) {
+                if (written + read > expectedLength) {
+                    throw new ApplicationBadRequestException("청크 크기가 올바르지 않습니다.");
+                }
+                digest.update(buffer, 0, read);
+                ByteBuffer byteBuffer = ByteBuffer.wrap(buffer, 0, read);
+                while (byteBuffer.hasRemaining()) {
+                    written += channel.write(byteBuffer, offset + written);
+                }
+            }
+        }
+
+        if (written != expectedLength) {
+            throw new ApplicationBadRequestException("청크 크기가 올바르지 않습니다.");
+        }
+        String actual = HexFormat.of().formatHex(digest.digest());
+        if (!actual.equalsIgnoreCase(checksum)) {
+            throw new ApplicationBadRequestException("청크 체크섬이 일치하지 않습니다. 다시 전송해주세요.");
+        }
+
+        recordChunk(uploadId, index, actual);
+    }
+
+    /** 업로드 완료 처리 (모든 청크 수신 후) */
+    public UploadSessionDTO complete(String uploadId, String username) throws IOException {
+        UploadSession session = requireSession(uploadId, username);
+        if (session.getStatus() == UploadSessionStatus.COMPLETED) {
+            return toDTO(session, List.of());
+        }
+        if (session.getStatus() == UploadSessionStatus.COMPLETING) {
+            throw new ApplicationBadRequestException("이미 완료 처리 중인 업로드입니다.");
+        }
+        LocalDateTime now = LocalDateTime.now();
+        if (!session.getExpiresAt().isAfter(now)) {
+            throw new ApplicationBadRequestException("만료된 업로드 세션입니다. 다시 업로드해주세요.");
+        }
+
+        long received = uploadSessionChunkRepository.countBySessionId(uploadId);
+        if (received < session.getTotalChunks()) {
+            throw new ApplicationBadRequestException("아직 받지 못한 청크가 있습니다. (" + received + "/" + session.getTotalChunks() + ")");
+        }
+
+        // 동시에 들어온 완료 요청 중 하나만 진행 (만료 여부도 같은 조건으로 다시 확인)
+        if (uploadSessionRepository.startCompleting(uploadId, now, now.plusMinutes(COMPLETE_LEASE_MINUTES)) != 1) {
+            throw new ApplicationBadRequestException("이미 완료 처리 중이거나 만료된 업로드입니다.");
+        }
+
+        String storedFilename;
+        try {
+            storedFilename = adopt(session, username);
+        } catch (IOException | RuntimeException e) {
+            // 다시 완료를 시도할 수 있도록 되돌림
+            uploadSessionRepository.cancelCompleting(uploadId, session.getExpiresAt());
+            throw e;
+        }
+
+        session.setStatus(UploadSessionStatus.COMPLETED);
+        session.setStoredFilename(storedFilename);
+        uploadSessionRepository.save(session);
+        uploadSessionChunkRepository.deleteBySessionId(uploadId);
+
+        log.info("청크 업로드 완료: {} -> {} ({} bytes)", session.getFileName(), storedFilename, session.getFileSize());
+        return toDTO(session, List.of());
+    }
+
+    // 임시 파일 해시 계산 후 내용 주소 저장소로 이동 (이미지는 파생본 생성 예약)
+    private String adopt(UploadSession session, String username) throws IOException {
+        Path part = partFile(session.getId());
+        String hash = sha256Hex(part);
+        // 이미지이면 매직 바이트로 판별한 형식을 쓰고, 해상도가 허용 범위일 때만 파생본 생성
+        ImageInfo image = imageUploadValidator.inspect(part);
+        // 이미지가 아니면 허용 목록의 확장자만 유지하고 Content-Type은 확장자에서 정한다 (클라이언트 값은 쓰지 않음)
+        String extension = image != null ? image.getFormat().getExtension()
+                : UploadFileTypes.attachmentExtension(session.getFileName());
+        String contentType = image != null ? image.getFormat().getContentType()
+                : UploadFileTypes.contentTypeOf(extension);
+        String storedFilename = uploadStorageService.adopt(
+                part, hash, extension, contentType, session.getFileSize(), image, username);
+        if (image != null && imageUploadValidator.isWithinLimits(image)) {
+            imageDerivativeService.schedule(storedFilename, image.getOrientation());
+        }
+        return storedFilename;
+    }
+
+    /** 업로드 취소 */
+    public void abort(String uploadId, String username) throws IOException {
+        UploadSession session = requireSession(uploadId, username);
+        if (session.getStatus() == UploadSessionStatus.COMPLETING) {
+            throw new ApplicationBadRequestException("완료 처리 중인 업로드는 취소할 수 없습니다.");
+        }
+        discard(session);
+    }
+
+    /** 만료된 세션 정리 (기본: 1시간마다) */
+    @Scheduled(fixedDelayString = "${app.upload.chunked.cleanup-interval-ms:3600000}")
+    public void purgeExpired() {
+        try {
+            int total = 0;
+            List<UploadSession> expired;
+            do {
+                expired = uploadSessionRepository.findExpired(LocalDateTime.now(), PageRequest.of(0, 100));
+                for (UploadSession session : expired) {
+                    discard(session);
+                    total++;
+                }
+            } while (expired.size() == 100);
+            if (total > 0) {
+                log.info("만료된 업로드 세션 {}건 정리", total);
+            }
+        } catch (Exception e) {
+            log.error("업로드 세션 정리 실패", e);
+        }
+    }
+
+    private void discard(UploadSession session) throws IOException {
+        Files.deleteIfExists(partFile(session.getId()));
+        uploadSessionChunkRepository.deleteBySessionId(session.getId());
+        uploadSessionRepository.delete(session);
+    }
+
+    // 같은 청크를 다시 보낸 경우 체크섬만 갱신
+    private void recordChunk(String uploadId, int index, String checksum) {
+        UploadSessionChunk chunk = uploadSessionChunkRepository.findBySessionIdAndChunkIndex(uploadId, index)
+                .orElseGet(() -> UploadSessionChunk.builder()
+                        .sessionId(uploadId)
+                        .chunkIndex(index)
+                        .build());
+        chunk.setChecksum(checksum);
+        try {
+            uploadSessionChunkRepository.save(chunk);
+        } catch (DataIntegrityViolationException e) {
+            // 같은 청크가 동시에 두 번 도착 → 먼저 기록된 것으로 충분
+        }
+    }
+
+    private UploadSession requireSession(String uploadId, String username) {
+        Users user = requireUser(username);
+        UploadSession session = uploadSessionRepository.findById(uploadId)
+                .orElseThrow(() -> new ResourceNotFoundException("업로드 세션을 찾을 수 없습니다."));
+        if (!session.getUserId().equals(user.getId())) {
+            throw new ApplicationUnauthorizedException("업로드 세션에 접근할 권한이 없습니다.");
+        }
+        return session;
+    }
+
+    private Users requireUser(String username) {
+        return authRepository.findByUsername(username)
+                .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다."));
+    }
+
+    private Path partFile(String uploadId) {
+        return partialPath.resolve(uploadId + ".part");
+    }
+
+    private String sha256Hex(Path file) throws IOException {
+        MessageDigest digest = sha256();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(IO_BUFFER_SIZE);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private UploadSessionDTO toDTO(UploadSession session, List<Integer> receivedChunks) {
+        return UploadSessionDTO.builder()
+                .uploadId(session.getId())
+                .status(session.getStatus().name())
+                .fileName(session.getFileName())
+                .fileSize(session.getFileSize())
+                .chunkSize(session.getChunkSize())
+                .totalChunks(session.getTotalChunks())
+                .receivedChunks(receivedChunks)
+                .url(session.getStoredFilename() != null
+                        ? ImageDerivatives.URL_PREFIX + session.getStoredFilename()
+                        : null)
+                .build();
+    }
+}
@@ -1,13 +1,16 @@
 package com.pgh.api_practice.service;
 
 import com.pgh.api_practice.dto.CommentDTO;
+import com.pgh.api_practice.dto.CommentThreadPageDTO;
 import com.pgh.api_practice.dto.CreateCommentDTO;
 import com.pgh.api_practice.dto.UpdateCommentDTO;
 import com.pgh.api_practice.entity.Comment;
 import com.pgh.api_practice.entity.CommentLike;
+import com.pgh.api_practice.entity.CommentTargetType;
 import com.pgh.api_practice.entity.GroupPost;
 import com.pgh.api_practice.entity.Post;
 import com.pgh.api_practice.entity.Users;
+import com.pgh.api_practice.exception.ApplicationBadRequestException;
 import com.pgh.api_practice.exception.ApplicationUnauthorizedException;
 import com.pgh.api_practice.exception.ResourceNotFoundException;
 import com.pgh.api_practice.repository.CommentLikeRepository;
@@ -16,18 +19,30 @@ import com.pgh.api_practice.repository.GroupPostRepository;
 import com.pgh.api_practice.repository.PostRepository;
 import com.pgh.api_practice.repository.UserRepository;
 import lombok.AllArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 @AllArgsConstructor
 public class CommentService {
 
+    private static final int MAX_THREAD_PAGE_SIZE = 50;
+    private static final int MAX_REPLY_PREVIEW = 10;
+    private static final LocalDateTime CURSOR_START = LocalDateTime.of(1970, 1, 1, 0, 0);
+
     private final CommentRepository commentRepository;
     private final CommentLikeRepository commentLikeRepository;
     private final PostRepository postRepository;
@@ -61,24 +76,217 @@ public class CommentService {
 
     /**
      * 댓글 목록 조회 (대댓글 포함) - posts와 group_posts 모두 지원
+     * 스레드 전체를 한 번에 조회하고, 좋아요 수와 내 좋아요 여부도 각각 한 번씩만 조회해 메모리에서 트리를 조립한다.
      */
     @Transactional(readOnly = true)
-    public List<CommentDTO> getCommentsByPostId(Long postId) {
+    public List<CommentDTO> getCommentsByPostId(Long postId, CommentTargetType targetType) {
         // 인증되지 않은 사용자도 댓글을 볼 수 있음
         Users currentUser = getCurrentUserOrNull();
 
-        // 최상위 댓글 목록 조회 (posts와 group_posts 모두)
-        List<Comment> topLevelComments = commentRepository.findAllByPostIdOrGroupPostIdAndNotDeletedAndNoParent(postId);
+        List<Comment> comments = resolveTargetType(postId, targetType) == CommentTargetType.GROUP_POST
+                ? commentRepository.findThreadByGroupPostId(postId)
+                : commentRepository.findThreadByPostId(postId);
+        if (comments.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return buildTree(comments, currentUser);
+    }
+
+    /**
+     * 댓글 목록을 트리로 조립 (O(n))
+     * - 입력은 생성일시 순이므로 대댓글도 생성일시 순으로 붙는다
+     * - 최상위 댓글은 고정된 댓글 우선, 그 다음 생성일시 순
+     * - 부모가 삭제된 대댓글은 표시하지 않는다 (부모가 목록에 없음)
+     */
+    private List<CommentDTO> buildTree(List<Comment> comments, Users currentUser) {
+        List<Long> ids = comments.stream().map(Comment::getId).toList();
+        Map<Long, Long> likeCounts = loadLikeCounts(ids);
+        Set<Long> likedIds = loadLikedIds(ids, currentUser);
+
+        Map<Long, CommentDTO> byId = new HashMap<>();
+        for (Comment comment : comments) {
+            byId.put(comment.getId(), toDTO(comment,
+                    likeCounts.getOrDefault(comment.getId(), 0L),
+                    likedIds.contains(comment.getId()),
+                    new ArrayList<>()));
+        }
+
+        List<CommentDTO> pinned = new ArrayList<>();
+        List<CommentDTO> roots = new ArrayList<>();
+        for (Comment comment : comments) {
+            CommentDTO dto = byId.get(comment.getId());
+            if (dto.getParentCommentId() == null) {
+                (comment.isPinned() ? pinned : roots).add(dto);
+            } else {
+                CommentDTO parent = byId.get(dto.getParentCommentId());
+                if (parent != null) {
+                    parent.getReplies().add(dto);
+                }
+            }
+        }
+        pinned.addAll(roots);
+        return pinned;
+    }
+
+    /**
+     * 댓글 스레드 조회 (커서 기반)
+     * - 첫 페이지(after 없음)는 고정된 댓글을 모두 앞에 두고, 이후 고정되지 않은 최상위 댓글을 (생성일시, ID) 순으로 size개
+     * - 각 최상위 댓글에는 replyCount와 첫 replyPreview개의 대댓글을 함께 담고,
+     *   더 있으면 nextReplyCursor로 GET /comment/{id}/replies?after= 를 호출해 이어서 받는다
+     * 페이지 크기와 관계없이 조회 쿼리 수가 일정하다 (최상위 2 + 대댓글 미리보기 2 + 좋아요 2).
+     */
+    @Transactional(readOnly = true)
+    public CommentThreadPageDTO getCommentThreads(Long postId, CommentTargetType targetType,
+                                                  String after, int size, int replyPreview) {
+        Users currentUser = getCurrentUserOrNull();
+        int pageSize = Math.max(1, Math.min(size, MAX_THREAD_PAGE_SIZE));
+        int previewSize = Math.max(0, Math.min(replyPreview, MAX_REPLY_PREVIEW));
+        Object[] cursor = parseCursor(after);
+        boolean groupPost = resolveTargetType(postId, targetType) == CommentTargetType.GROUP_POST;
+        LocalDateTime afterTime = (LocalDateTime) cursor[0];
+        Long afterId = (Long) cursor[1];
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        List<Comment> roots = new ArrayList<>();
+        if (after == null) {
+            roots.addAll(groupPost
+                    ? commentRepository.findPinnedRootsByGroupPostId(postId)
+                    : commentRepository.findPinnedRootsByPostId(postId));
+        }
+        List<Comment> page = groupPost
+                ? commentRepository.findRootsAfterByGroupPostId(postId, afterTime, afterId, limit)
+                : commentRepository.findRootsAfterByPostId(postId, afterTime, afterId, limit);
+        boolean hasNext = page.size() > pageSize;
+        if (hasNext) {
+            page = page.subList(0, pageSize);
+        }
+        roots.addAll(page);
+        String nextCursor = hasNext ? formatCursor(page.get(page.size() - 1)) : null;
+
+        // 대댓글 미리보기 (부모별 첫 previewSize개를 한 번에)
+        List<Comment> previews = List.of();
+        List<Long> parentIds = roots.stream()
+                .filter(c -> c.getReplyCount() > 0)
+                .map(Comment::getId)
+                .toList();
+        if (previewSize > 0 && !parentIds.isEmpty()) {
+            List<Long> previewIds = commentRepository.findFirstReplyIds(parentIds, previewSize);
+            if (!previewIds.isEmpty()) {
+                previews = commentRepository.findAllWithUserByIdIn(previewIds);
+            }
+        }
+
+        List<Long> ids = new ArrayList<>(roots.size() + previews.size());
+        roots.forEach(c -> ids.add(c.getId()));
+        previews.forEach(c -> ids.add(c.getId()));
+        Map<Long, Long> likeCounts = loadLikeCounts(ids);
+        Set<Long> likedIds = loadLikedIds(ids, currentUser);
+
+        Map<Long, CommentDTO> rootDTOs = new LinkedHashMap<>();
+        for (Comment root : roots) {
+            rootDTOs.put(root.getId(), toDTO(root,
+                    likeCounts.getOrDefault(root.getId(), 0L), likedIds.contains(root.getId()), new ArrayList<>()));
+        }
+        Map<Long, Comment> lastPreview = new HashMap<>();
+        for (Comment reply : previews) {
+            Long parentId = reply.getParentComment().getId();
+            rootDTOs.get(parentId).getReplies().add(toDTO(reply,
+                    likeCounts.getOrDefault(reply.getId(), 0L), likedIds.contains(reply.getId()), new ArrayList<>()));
+            lastPreview.put(parentId, reply);
+        }
+        for (CommentDTO dto : rootDTOs.values()) {
+            Comment last = lastPreview.get(dto.getId());
+            if (last != null && dto.getReplies().size() < dto.getReplyCount()) {
+                dto.setNextReplyCursor(formatCursor(last));
+            }
+        }
+
+        return new CommentThreadPageDTO(new ArrayList<>(rootDTOs.values()), nextCursor, hasNext);
+    }
+
+    /**
+     * 대댓글 조회 (커서 기반, 생성일시 순)
+     * 각 대댓글도 replyCount를 가지므로 더 깊은 스레드는 같은 API로 이어서 펼친다.
+     */
+    @Transactional(readOnly = true)
+    public CommentThreadPageDTO getReplies(Long commentId, String after, int size) {
+        Users currentUser = getCurrentUserOrNull();
+        int pageSize = Math.max(1, Math.min(size, MAX_THREAD_PAGE_SIZE));
+        Object[] cursor = parseCursor(after);
+
+        List<Comment> replies = commentRepository.findRepliesAfter(
+                commentId, (LocalDateTime) cursor[0], (Long) cursor[1], PageRequest.of(0, pageSize + 1));
+        boolean hasNext = replies.size() > pageSize;
+        if (hasNext) {
+            replies = replies.subList(0, pageSize);
+        }
+
+        List<Long> ids = replies.stream().map(Comment::getId).toList();
+        Map<Long, Long> likeCounts = loadLikeCounts(ids);
+        Set<Long> likedIds = loadLikedIds(ids, currentUser);
 
-        // effectively final로 만들기 위해 final 변수에 복사
-        final Users finalCurrentUser = currentUser;
-        return topLevelComments.stream()
-                .map(comment -> convertToDTO(comment, finalCurrentUser))
+        List<CommentDTO> content = replies.stream()
+                .map(reply -> toDTO(reply,
+                        likeCounts.getOrDefault(reply.getId(), 0L), likedIds.contains(reply.getId()), new ArrayList<>()))
                 .collect(Collectors.toList());
+        String nextCursor = hasNext ? formatCursor(replies.get(replies.size() - 1)) : null;
+        return new CommentThreadPageDTO(content, nextCursor, hasNext);
+    }
+
+    /**
+     * 댓글 대상 결정
+     * 명시된 대상이 없으면 댓글 작성과 같은 규칙(일반 게시글 우선, 없으면 모임 게시글)으로 정한다.
+     * 어느 쪽이든 한 가지 대상으로만 조회하므로 ID가 같은 일반/모임 게시글의 댓글이 섞이지 않는다.
+     */
+    private CommentTargetType resolveTargetType(Long postId, CommentTargetType targetType) {
+        if (targetType != null) {
+            return targetType;
+        }
+        return postRepository.existsById(postId) ? CommentTargetType.POST : CommentTargetType.GROUP_POST;
+    }
+
+    // 여러 댓글의 좋아요 수 (한 번에 조회)
+    private Map<Long, Long> loadLikeCounts(List<Long> ids) {
+        Map<Long, Long> likeCounts = new HashMap<>();
+        if (ids.isEmpty()) {
+            return likeCounts;
+        }
+        for (Object[] row : commentLikeRepository.countByCommentIds(ids)) {
+            likeCounts.put((Long) row[0], (Long) row[1]);
+        }
+        return likeCounts;
+    }
+
+    // 여러 댓글 중 내가 좋아요를 누른 댓글 ID (비로그인이면 빈 집합)
+    private Set<Long> loadLikedIds(List<Long> ids, Users currentUser) {
+        if (currentUser == null || ids.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(commentLikeRepository.findLikedCommentIds(currentUser.getId(), ids));
+    }
+
+    // 커서 문자열: {createdTime}_{id}
+    private String formatCursor(Comment comment) {
+        return comment.getCreatedTime() + "_" + comment.getId();
+    }
+
+    // 커서 해석 (없으면 처음부터) → [createdTime, id]
+    private Object[] parseCursor(String after) {
+        if (after == null || after.isBlank()) {
+            return new Object[]{CURSOR_START, 0L};
+        }
+        int separator = after.lastIndexOf('_');
+        try {
+            return new Object[]{
+                    LocalDateTime.parse(after.substring(0, separator)),
+                    Long.parseLong(after.substring(separator + 1))};
+        } catch (RuntimeException e) {
+            throw new ApplicationBadRequestException("잘못된 커서입니다.");
+        }
     }
 
     /**
-     * Comment 엔티티를 CommentDTO로 변환 (대댓글 포함)
+     * Comment 엔티티를 CommentDTO로 변환 (대댓글 포함, 단건 응답용)
      */
     private CommentDTO convertToDTO(Comment comment, Users currentUser) {
         long likeCount = commentLikeRepository.countByCommentId(comment.getId());
@@ -90,6 +298,10 @@ public class CommentService {
                 .map(reply -> convertToDTO(reply, currentUser))
                 .collect(Collectors.toList());
 
+        return toDTO(comment, likeCount, isLiked, replyDTOs);
+    }
+
+    private CommentDTO toDTO(Comment comment, long likeCount, boolean isLiked, List<CommentDTO> replies) {
         // postId 결정 (post 또는 groupPost 중 하나)
         Long postIdValue = comment.getPost() != null ? comment.getPost().getId() : 
                            (comment.getGroupPost() != null ? comment.getGroupPost().getId() : null);
@@ -106,7 +318,8 @@ public class CommentService {
                 .isLiked(isLiked)
                 .createDateTime(comment.getCreatedTime())
                 .updateDateTime(comment.getUpdatedTime())
-                .replies(replyDTOs)
+                .replies(replies)
+                .replyCount(comment.getReplyCount())
                 .build();
     }
 
@@ -121,12 +334,16 @@ public class CommentService {
         Post post = null;
         GroupPost groupPost = null;
         
-        Optional<Post> postOpt = postRepository.findById(dto.getPostId());
+        Optional<Post> postOpt = dto.getTargetType() == CommentTargetType.GROUP_POST
+                ? Optional.empty()
+                : postRepository.findById(dto.getPostId());
         if (postOpt.isPresent()) {
             post = postOpt.get();
             if (post.isDeleted()) {
                 throw new ResourceNotFoundException("삭제된 게시글입니다.");
             }
+        } else if (dto.getTargetType() == CommentTargetType.POST) {
+            throw new ResourceNotFoundException("게시글을 찾을 수 없습니다.");
         } else {
             // posts에서 찾지 못하면 group_posts에서 찾기
             Optional<GroupPost> groupPostOpt = groupPostRepository.findByIdAndIsDeletedFalse(dto.getPostId());
@@ -164,6 +381,9 @@ public class CommentService {
         }
 
         Comment saved = commentRepository.save(commentBuilder.build());
+        if (parentComment != null) {
+            commentRepository.incrementReplyCount(parentComment.getId());
+        }
         
         // 대댓글인 경우 알림 생성
         if (parentComment != null) {
@@ -235,6 +455,9 @@ public class CommentService {
 
         comment.setDeleted(true);
         commentRepository.save(comment);
+        if (comment.getParentComment() != null) {
+            commentRepository.decrementReplyCount(comment.getParentComment().getId());
+        }
     }
 
     /**
@@ -5,13 +5,14 @@ import com.pgh.api_practice.repository.AuthRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
 @Service
 @RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final AuthRepository authRepository;
 
@@ -30,4 +31,19 @@ public class CustomUserDetailsService implements UserDetailsService {
                 .disabled(false)
                 .build();
     }
+
+    /**
+     * 로그인 성공 시 저장된 해시의 cost가 현재 설정과 다르면 Spring Security가 새 해시로 호출
+     * (DaoAuthenticationProvider → PasswordEncoder.upgradeEncoding)
+     */
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        authRepository.findByUsername(user.getUsername()).ifPresent(u -> {
+            u.setPassword(newPassword);
+            authRepository.save(u);
+        });
+        return User.withUserDetails(user)
+                .password(newPassword)
+                .build();
+    }
 }
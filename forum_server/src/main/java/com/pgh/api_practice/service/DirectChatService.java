@@ -37,6 +37,7 @@ public class DirectChatService {
     private final DirectChatRoomRepository roomRepository;
     private final UserRepository userRepository;
     private final SimpMessagingTemplate messagingTemplate;
+    private final UploadReferenceService uploadReferenceService;
 
     /** 1대1 채팅방 생성 또는 조회 */
     @Transactional
@@ -463,6 +464,7 @@ public class DirectChatService {
         );
 
         DirectChatMessage saved = messageRepository.save(message);
+        uploadReferenceService.acquire(saved.getFileUrl());
 
         DirectChatReadStatus readStatus =
                 readStatusRepository.findByChatRoomAndUserId(room, sender.getId())
@@ -0,0 +1,202 @@
+package com.pgh.api_practice.service;
+
+import com.pgh.api_practice.entity.EmailOutbox;
+import com.pgh.api_practice.entity.EmailOutboxStatus;
+import com.pgh.api_practice.repository.EmailOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.AddressException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 메일 outbox 발송 워커
+ * - 대기 메일을 batchSize개씩 선점(PENDING → SENDING)해서 발송
+ * - SMTP 연결(STARTTLS/로그인 포함)은 한 번 맺어 대기 메일이 남아 있는 동안 계속 재사용하고, 할 일이 없으면 닫는다
+ * - 실패 시 baseBackoff * 2^(attempts-1) (최대 maxBackoff) 뒤 재시도, maxAttempts 초과 또는 잘못된 주소는 DEAD
+ * - spring.mail.host/port만 바꾸면 로컬 테스트용 SMTP 서버(GreenMail 등)로 그대로 발송된다
+ */
+@Slf4j
+@Component
+public class EmailOutboxWorker {
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final EmailService emailService;
+    private final JavaMailSenderImpl mailSender;
+    private final boolean enabled;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long baseBackoffSeconds;
+    private final long maxBackoffSeconds;
+    private final long sendingTimeoutSeconds;
+    private final int sentRetentionDays;
+
+    private final Counter sentCounter;
+    private final Counter retryCounter;
+    private final Counter deadCounter;
+    private final Timer sendTimer;
+    private final AtomicLong pendingGauge = new AtomicLong();
+
+    private Transport transport;  // 워커 스레드에서만 사용 (@Scheduled 단일 실행)
+
+    public EmailOutboxWorker(
+            EmailOutboxRepository emailOutboxRepository,
+            EmailService emailService,
+            JavaMailSenderImpl mailSender,
+            MeterRegistry meterRegistry,
+            @Value("${app.mail.outbox.enabled:true}") boolean enabled,
+            @Value("${app.mail.outbox.batch-size:20}") int batchSize,
+            @Value("${app.mail.outbox.max-attempts:8}") int maxAttempts,
+            @Value("${app.mail.outbox.base-backoff-seconds:30}") long baseBackoffSeconds,
+            @Value("${app.mail.outbox.max-backoff-seconds:3600}") long maxBackoffSeconds,
+            @Value("${app.mail.outbox.sending-timeout-seconds:300}") long sendingTimeoutSeconds,
+            @Value("${app.mail.outbox.sent-retention-days:7}") int sentRetentionDays) {
+        this.emailOutboxRepository = emailOutboxRepository;
+        this.emailService = emailService;
+        this.mailSender = mailSender;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.baseBackoffSeconds = baseBackoffSeconds;
+        this.maxBackoffSeconds = maxBackoffSeconds;
+        this.sendingTimeoutSeconds = sendingTimeoutSeconds;
+        this.sentRetentionDays = sentRetentionDays;
+
+        this.sentCounter = meterRegistry.counter("email.outbox.sent");
+        this.retryCounter = meterRegistry.counter("email.outbox.retried");
+        this.deadCounter = meterRegistry.counter("email.outbox.dead");
+        this.sendTimer = meterRegistry.timer("email.outbox.send.duration");
+        meterRegistry.gauge("email.outbox.pending", pendingGauge);
+    }
+
+    /** 대기 메일 발송 (기본: 2초 간격) */
+    @Scheduled(fixedDelayString = "${app.mail.outbox.poll-interval-ms:2000}")
+    public void poll() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            emailOutboxRepository.releaseStale(now.minusSeconds(sendingTimeoutSeconds));
+
+            List<Long> ids = emailOutboxRepository.findDueIds(now, PageRequest.of(0, batchSize));
+            for (Long id : ids) {
+                if (emailOutboxRepository.claim(id, LocalDateTime.now()) == 1) {
+                    emailOutboxRepository.findById(id).ifPresent(this::deliver);
+                }
+            }
+
+            pendingGauge.set(emailOutboxRepository.countByStatus(EmailOutboxStatus.PENDING));
+            if (ids.size() < batchSize) {
+                closeTransport();  // 남은 메일이 없으면 연결 반납
+            }
+        } catch (Exception e) {
+            log.error("메일 outbox 처리 실패", e);
+            closeTransport();
+        }
+    }
+
+    /** 오래된 발송 완료 메일 정리 (기본: 매일 새벽 4시 15분) */
+    @Scheduled(cron = "${app.mail.outbox.purge-cron:0 15 4 * * *}")
+    public void purgeSent() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            LocalDateTime before = LocalDateTime.now().minusDays(sentRetentionDays);
+            long total = 0;
+            while (true) {
+                List<Long> ids = emailOutboxRepository.findSentIdsBefore(before, PageRequest.of(0, 1000));
+                if (ids.isEmpty()) {
+                    break;
+                }
+                total += emailOutboxRepository.deleteByIdIn(ids);
+            }
+            log.info("발송 완료 메일 {}건 정리", total);
+        } catch (Exception e) {
+            log.error("발송 완료 메일 정리 실패", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        closeTransport();
+    }
+
+    private void deliver(EmailOutbox email) {
+        email.setAttempts(email.getAttempts() + 1);
+        long start = System.nanoTime();
+        try {
+            emailService.send(connectedTransport(), email);
+            sendTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+            email.setStatus(EmailOutboxStatus.SENT);
+            email.setSentAt(LocalDateTime.now());
+            email.setLastError(null);
+            sentCounter.increment();
+            log.info("메일 발송 성공: id={}, to={}", email.getId(), email.getRecipient());
+        } catch (Exception e) {
+            closeTransport();  // 연결 상태를 알 수 없으므로 다음 메일은 새 연결로
+            fail(email, e);
+        } finally {
+            email.setLockedAt(null);
+            emailOutboxRepository.save(email);
+        }
+    }
+
+    private void fail(EmailOutbox email, Exception e) {
+        String error = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+        email.setLastError(error.length() > 500 ? error.substring(0, 500) : error);
+
+        boolean permanent = e instanceof AddressException;
+        if (permanent || email.getAttempts() >= maxAttempts) {
+            email.setStatus(EmailOutboxStatus.DEAD);
+            deadCounter.increment();
+            log.error("메일 발송 최종 실패: id={}, to={}, 시도 {}회", email.getId(), email.getRecipient(), email.getAttempts(), e);
+            return;
+        }
+
+        long backoff = Math.min(maxBackoffSeconds, baseBackoffSeconds << Math.min(email.getAttempts() - 1, 20));
+        email.setStatus(EmailOutboxStatus.PENDING);
+        email.setNextAttemptAt(LocalDateTime.now().plusSeconds(backoff));
+        retryCounter.increment();
+        log.warn("메일 발송 실패, {}초 후 재시도: id={}, to={}, 시도 {}회 ({})",
+                backoff, email.getId(), email.getRecipient(), email.getAttempts(), error);
+    }
+
+    private Transport connectedTransport() throws MessagingException {
+        if (transport == null || !transport.isConnected()) {
+            Transport t = mailSender.getSession().getTransport(mailSender.getProtocol());
+            t.connect(mailSender.getHost(), mailSender.getPort(), mailSender.getUsername(), mailSender.getPassword());
+            transport = t;
+        }
+        return transport;
+    }
+
+    private void closeTransport() {
+        if (transport == null) {
+            return;
+        }
+        try {
+            transport.close();
+        } catch (MessagingException e) {
+            log.debug("SMTP 연결 종료 실패", e);
+        }
+        transport = null;
+    }
+}
@@ -1,6 +1,7 @@
 package com.pgh.api_practice.service;
 
-import lombok.RequiredArgsConstructor;
+import com.pgh.api_practice.entity.EmailOutbox;
+import com.pgh.api_practice.repository.EmailOutboxRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.mail.javamail.JavaMailSender;
@@ -8,48 +9,61 @@ import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
 
 import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
 import jakarta.mail.internet.MimeMessage;
 
+import java.time.LocalDateTime;
+
 @Slf4j
 @Service
 public class EmailService {
 
     private final JavaMailSender mailSender;
+    private final EmailOutboxRepository emailOutboxRepository;
     private final String fromEmail;
     private final String baseUrl;
 
     public EmailService(
             JavaMailSender mailSender,
+            EmailOutboxRepository emailOutboxRepository,
             @Value("${spring.mail.username}") String fromEmail,
             @Value("${app.base-url:http://localhost:3000}") String baseUrl) {
         this.mailSender = mailSender;
+        this.emailOutboxRepository = emailOutboxRepository;
         this.fromEmail = fromEmail;
         this.baseUrl = baseUrl;
     }
 
     /**
-     * 이메일 인증 메일 발송
+     * 이메일 인증 메일 발송 예약
+     * 호출한 트랜잭션 안에서 outbox에 한 행만 저장하고, SMTP 발송은 EmailOutboxWorker가 처리한다.
      */
     public void sendVerificationEmail(String toEmail, String username, String verificationToken) {
-        try {
-            MimeMessage message = mailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+        String verificationUrl = baseUrl + "/verify-email?token=" + verificationToken;
 
-            helper.setFrom(fromEmail);
-            helper.setTo(toEmail);
-            helper.setSubject("[rjsgud's forum] 이메일 인증을 완료해주세요");
+        emailOutboxRepository.save(EmailOutbox.builder()
+                .recipient(toEmail)
+                .subject("[rjsgud's forum] 이메일 인증을 완료해주세요")
+                .body(buildVerificationEmailHtml(username, verificationUrl))
+                .nextAttemptAt(LocalDateTime.now())
+                .build());
+        log.info("이메일 인증 메일 발송 예약: {}", toEmail);
+    }
 
-            String verificationUrl = baseUrl + "/verify-email?token=" + verificationToken;
+    /**
+     * outbox 메일 한 건을 이미 연결된 SMTP Transport로 발송 (연결은 EmailOutboxWorker가 재사용)
+     */
+    public void send(Transport transport, EmailOutbox email) throws MessagingException {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
 
-            String htmlContent = buildVerificationEmailHtml(username, verificationUrl);
-            helper.setText(htmlContent, true);
+        helper.setFrom(fromEmail);
+        helper.setTo(email.getRecipient());
+        helper.setSubject(email.getSubject());
+        helper.setText(email.getBody(), true);
 
-            mailSender.send(message);
-            log.info("이메일 인증 메일 발송 성공: {}", toEmail);
-        } catch (MessagingException e) {
-            log.error("이메일 인증 메일 발송 실패: {}", toEmail, e);
-            throw new RuntimeException("이메일 발송에 실패했습니다.", e);
-        }
+        message.saveChanges();
+        transport.sendMessage(message, message.getAllRecipients());
     }
 
     /**
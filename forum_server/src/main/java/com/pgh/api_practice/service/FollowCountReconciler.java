@@ -0,0 +1,97 @@
+package com.pgh.api_practice.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 팔로워/팔로잉 수 재계산
+ * - users.follower_count / following_count는 팔로우/언팔로우 시 증감되지만,
+ *   사용자 삭제나 수동 데이터 정리 등으로 follows와 어긋날 수 있어 주기적으로 실제 행 수와 맞춘다
+ * - 사용자 id 커서로 batchSize명씩 나눠 갱신하고, 값이 다른 행만 UPDATE한다
+ */
+@Slf4j
+@Component
+public class FollowCountReconciler {
+
+    private static final String SELECT_USER_IDS =
+            "SELECT id FROM users WHERE id > :cursor ORDER BY id LIMIT :limit";
+
+    private static final String RECONCILE =
+            "UPDATE users u SET " +
+            "u.follower_count = (SELECT COUNT(*) FROM follows f WHERE f.following_id = u.id), " +
+            "u.following_count = (SELECT COUNT(*) FROM follows f WHERE f.follower_id = u.id) " +
+            "WHERE u.id IN (:ids) AND (" +
+            "u.follower_count <> (SELECT COUNT(*) FROM follows f WHERE f.following_id = u.id) OR " +
+            "u.following_count <> (SELECT COUNT(*) FROM follows f WHERE f.follower_id = u.id))";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+    private final long chunkPauseMillis;
+
+    private final Counter correctedCounter;
+
+    public FollowCountReconciler(
+            NamedParameterJdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${app.follow.reconcile.enabled:true}") boolean enabled,
+            @Value("${app.follow.reconcile.batch-size:500}") int batchSize,
+            @Value("${app.follow.reconcile.chunk-pause-ms:50}") long chunkPauseMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.chunkPauseMillis = chunkPauseMillis;
+
+        this.correctedCounter = meterRegistry.counter("follow.count.corrected");
+    }
+
+    /** 재계산 실행 (기본: 매일 새벽 4시 45분) */
+    @Scheduled(cron = "${app.follow.reconcile.cron:0 45 4 * * *}")
+    public void reconcile() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            long cursor = 0;
+            long corrected = 0;
+            while (true) {
+                List<Long> ids = jdbcTemplate.queryForList(SELECT_USER_IDS,
+                        new MapSqlParameterSource("cursor", cursor).addValue("limit", batchSize), Long.class);
+                if (ids.isEmpty()) {
+                    break;
+                }
+                corrected += jdbcTemplate.update(RECONCILE, new MapSqlParameterSource("ids", ids));
+                if (ids.size() < batchSize) {
+                    break;
+                }
+                cursor = ids.get(ids.size() - 1);
+                pause();
+            }
+            correctedCounter.increment(corrected);
+            if (corrected > 0) {
+                log.warn("팔로워/팔로잉 수 재계산: {}명의 값이 실제와 달라 보정했습니다.", corrected);
+            }
+        } catch (Exception e) {
+            log.error("팔로워/팔로잉 수 재계산 실패", e);
+        }
+    }
+
+    private void pause() {
+        if (chunkPauseMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(chunkPauseMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
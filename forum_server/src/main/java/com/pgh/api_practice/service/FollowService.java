@@ -1,28 +1,43 @@
 package com.pgh.api_practice.service;
 
+import com.pgh.api_practice.dto.MentionSuggestionDTO;
 import com.pgh.api_practice.entity.Follow;
 import com.pgh.api_practice.entity.Users;
+import com.pgh.api_practice.exception.ApplicationBadRequestException;
 import com.pgh.api_practice.exception.ApplicationUnauthorizedException;
 import com.pgh.api_practice.exception.ResourceNotFoundException;
 import com.pgh.api_practice.repository.AuthRepository;
 import com.pgh.api_practice.repository.FollowRepository;
 import com.pgh.api_practice.repository.UserRepository;
 import lombok.AllArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @AllArgsConstructor
 public class FollowService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 50;
+    private static final int MAX_SEARCH_RESULTS = 50;
+    private static final int MAX_MENTION_SUGGESTIONS = 20;
+    private static final LocalDateTime CURSOR_END = LocalDateTime.of(9999, 12, 31, 23, 59);
+
     private final FollowRepository followRepository;
     private final UserRepository userRepository;
     private final AuthRepository authRepository;
     private final NotificationService notificationService;
+    private final UserSearchIndex userSearchIndex;
 
     /** ✅ 팔로우 */
     @Transactional
@@ -55,6 +70,8 @@ public class FollowService {
                 .following(following)
                 .build();
         followRepository.save(follow);
+        userRepository.adjustFollowingCount(follower.getId(), 1);
+        userRepository.adjustFollowerCount(followingId, 1);
         
         // 알림 생성
         notificationService.createNewFollowerNotification(followingId, follower.getId());
@@ -74,8 +91,12 @@ public class FollowService {
         Users follower = userRepository.findByUsername(username)
                 .orElseThrow(() -> new ResourceNotFoundException("유저를 찾을 수 없습니다."));
         
-        // 팔로우 관계 삭제
-        followRepository.deleteByFollowerIdAndFollowingId(follower.getId(), followingId);
+        // 팔로우 관계 삭제 (실제로 삭제된 경우에만 카운트 감소)
+        long removed = followRepository.deleteByFollowerIdAndFollowingId(follower.getId(), followingId);
+        if (removed > 0) {
+            userRepository.adjustFollowingCount(follower.getId(), -removed);
+            userRepository.adjustFollowerCount(followingId, -removed);
+        }
         
         return true; // 언팔로우 성공
     }
@@ -100,13 +121,13 @@ public class FollowService {
     /** ✅ 팔로워 수 조회 */
     @Transactional(readOnly = true)
     public long getFollowerCount(Long userId) {
-        return followRepository.countByFollowingId(userId);
+        return userRepository.findById(userId).map(Users::getFollowerCount).orElse(0L);
     }
     
     /** ✅ 팔로잉 수 조회 */
     @Transactional(readOnly = true)
     public long getFollowingCount(Long userId) {
-        return followRepository.countByFollowerId(userId);
+        return userRepository.findById(userId).map(Users::getFollowingCount).orElse(0L);
     }
     
     /** ✅ 팔로워 목록 조회 */
@@ -117,20 +138,66 @@ public class FollowService {
                 .orElseThrow(() -> new ResourceNotFoundException("유저를 찾을 수 없습니다."));
         
         List<Users> followers = followRepository.findFollowersByUserId(userId);
+        return toUserInfoDTOs(followers, getCurrentUserOrNull());
+    }
+    
+    /**
+     * ✅ 팔로워 목록 조회 (커서 기반, 최신순)
+     * 각 사용자의 isFollowing은 현재 사용자가 그 사용자를 팔로우하는지이며, 페이지 전체를 한 번에 조회한다.
+     */
+    @Transactional(readOnly = true)
+    public UserCursorPageDTO getFollowersPage(Long userId, String before, int size) {
+        userRepository.findById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("유저를 찾을 수 없습니다."));
         
-        return followers.stream()
-                .map(follower -> UserInfoDTO.builder()
-                        .id(follower.getId())
-                        .username(follower.getUsername())
-                        .nickname(follower.getNickname())
-                        .email(follower.getEmail())
-                        .profileImageUrl(follower.getProfileImageUrl())
-                        .githubLink(follower.getGithubLink())
-                        .followerCount(followRepository.countByFollowingId(follower.getId()))
-                        .followingCount(followRepository.countByFollowerId(follower.getId()))
-                        .isFollowing(checkIfCurrentUserIsFollowing(follower.getId()))
-                        .build())
-                .collect(Collectors.toList());
+        int pageSize = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+        Object[] cursor = parseCursor(before);
+        List<Follow> follows = followRepository.findFollowersBefore(
+                userId, (LocalDateTime) cursor[0], (Long) cursor[1], PageRequest.of(0, pageSize + 1));
+        return toUserCursorPage(follows, pageSize, Follow::getFollower);
+    }
+    
+    /** ✅ 팔로잉 목록 조회 (커서 기반, 최신순) */
+    @Transactional(readOnly = true)
+    public UserCursorPageDTO getFollowingPage(Long userId, String before, int size) {
+        userRepository.findById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("유저를 찾을 수 없습니다."));
+        
+        int pageSize = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+        Object[] cursor = parseCursor(before);
+        List<Follow> follows = followRepository.findFollowingBefore(
+                userId, (LocalDateTime) cursor[0], (Long) cursor[1], PageRequest.of(0, pageSize + 1));
+        return toUserCursorPage(follows, pageSize, Follow::getFollowing);
+    }
+    
+    private UserCursorPageDTO toUserCursorPage(List<Follow> follows, int pageSize, Function<Follow, Users> side) {
+        boolean hasNext = follows.size() > pageSize;
+        if (hasNext) {
+            follows = follows.subList(0, pageSize);
+        }
+        List<UserInfoDTO> content = toUserInfoDTOs(follows.stream().map(side).toList(), getCurrentUserOrNull());
+        String nextCursor = hasNext ? formatCursor(follows.get(follows.size() - 1)) : null;
+        return new UserCursorPageDTO(content, nextCursor, hasNext);
+    }
+    
+    // 커서 문자열: {createDateTime}_{follow id}
+    private String formatCursor(Follow follow) {
+        return follow.getCreateDateTime() + "_" + follow.getId();
+    }
+    
+    // 커서 해석 (없으면 가장 최신부터) → [createDateTime, id]
+    private Object[] parseCursor(String before) {
+        if (before == null || before.isBlank()) {
+            return new Object[]{CURSOR_END, Long.MAX_VALUE};
+        }
+        int separator = before.lastIndexOf('_');
+        try {
+            return new Object[]{
+                    LocalDateTime.parse(before.substring(0, separator)),
+                    Long.parseLong(before.substring(separator + 1))};
+        } catch (RuntimeException e) {
+            throw new ApplicationBadRequestException("잘못된 커서입니다.");
+        }
     }
     
     /** ✅ 팔로잉 목록 조회 */
@@ -141,22 +208,50 @@ public class FollowService {
                 .orElseThrow(() -> new ResourceNotFoundException("유저를 찾을 수 없습니다."));
         
         List<Users> following = followRepository.findFollowingByUserId(userId);
+        return toUserInfoDTOs(following, getCurrentUserOrNull());
+    }
+    
+    /**
+     * 사용자 목록을 DTO로 변환
+     * 팔로워/팔로잉 수는 Users에 저장된 값을 쓰고, 현재 사용자의 팔로우 여부는 목록 전체를 한 번에 조회한다.
+     */
+    private List<UserInfoDTO> toUserInfoDTOs(List<Users> users, Users currentUser) {
+        if (users.isEmpty()) {
+            return List.of();
+        }
+        Set<Long> followedIds = currentUser != null
+                ? new HashSet<>(followRepository.findFollowingIdsAmong(
+                        currentUser.getId(), users.stream().map(Users::getId).toList()))
+                : Set.of();
         
-        return following.stream()
-                .map(followingUser -> UserInfoDTO.builder()
-                        .id(followingUser.getId())
-                        .username(followingUser.getUsername())
-                        .nickname(followingUser.getNickname())
-                        .email(followingUser.getEmail())
-                        .profileImageUrl(followingUser.getProfileImageUrl())
-                        .githubLink(followingUser.getGithubLink())
-                        .followerCount(followRepository.countByFollowingId(followingUser.getId()))
-                        .followingCount(followRepository.countByFollowerId(followingUser.getId()))
-                        .isFollowing(true) // 팔로잉 목록이므로 항상 true
-                        .build())
+        return users.stream()
+                .map(user -> toUserInfoDTO(user, followedIds.contains(user.getId())))
                 .collect(Collectors.toList());
     }
     
+    private UserInfoDTO toUserInfoDTO(Users user, boolean isFollowing) {
+        return UserInfoDTO.builder()
+                .id(user.getId())
+                .username(user.getUsername())
+                .nickname(user.getNickname())
+                .email(user.getEmail())
+                .profileImageUrl(user.getProfileImageUrl())
+                .githubLink(user.getGithubLink())
+                .followerCount(user.getFollowerCount())
+                .followingCount(user.getFollowingCount())
+                .isFollowing(isFollowing)
+                .build();
+    }
+    
+    /** 현재 로그인한 사용자 (비로그인이면 null) */
+    private Users getCurrentUserOrNull() {
+        var authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication.getName() == null || "anonymousUser".equals(authentication.getName())) {
+            return null;
+        }
+        return userRepository.findByUsername(authentication.getName()).orElse(null);
+    }
+    
     /** 현재 사용자가 특정 사용자를 팔로우하는지 확인 */
     private boolean checkIfCurrentUserIsFollowing(Long userId) {
         var authentication = SecurityContextHolder.getContext().getAuthentication();
@@ -181,21 +276,7 @@ public class FollowService {
         Users user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new ResourceNotFoundException("유저를 찾을 수 없습니다."));
         
-        long followerCount = followRepository.countByFollowingId(user.getId());
-        long followingCount = followRepository.countByFollowerId(user.getId());
-        boolean isFollowing = checkIfCurrentUserIsFollowing(user.getId());
-        
-        return UserInfoDTO.builder()
-                .id(user.getId())
-                .username(user.getUsername())
-                .nickname(user.getNickname())
-                .email(user.getEmail())
-                .profileImageUrl(user.getProfileImageUrl())
-                .githubLink(user.getGithubLink())
-                .followerCount(followerCount)
-                .followingCount(followingCount)
-                .isFollowing(isFollowing)
-                .build();
+        return toUserInfoDTO(user, checkIfCurrentUserIsFollowing(user.getId()));
     }
     
     /** ✅ 사용자 검색 (username 또는 nickname으로 검색) */
@@ -205,33 +286,37 @@ public class FollowService {
             return List.of();
         }
         
-        // AuthRepository의 검색 메서드 사용
-        List<Users> users = authRepository.searchUsers(query.trim());
-        
-        // 최대 50명까지만 반환 (검색 결과 증가)
-        List<Users> limitedUsers = users.stream()
-                .limit(50)
-                .toList();
-        
-        return limitedUsers.stream()
-                .map(user -> {
-                    long followerCount = followRepository.countByFollowingId(user.getId());
-                    long followingCount = followRepository.countByFollowerId(user.getId());
-                    boolean isFollowing = checkIfCurrentUserIsFollowing(user.getId());
-                    
-                    return UserInfoDTO.builder()
-                            .id(user.getId())
-                            .username(user.getUsername())
-                            .nickname(user.getNickname())
-                            .email(user.getEmail())
-                            .profileImageUrl(user.getProfileImageUrl())
-                            .githubLink(user.getGithubLink())
-                            .followerCount(followerCount)
-                            .followingCount(followingCount)
-                            .isFollowing(isFollowing)
-                            .build();
-                })
-                .collect(Collectors.toList());
+        // 검색 인덱스가 준비되면 인덱스에서 상위 50명을 찾고, 아니면 DB 검색 (최대 50명)
+        List<Users> users;
+        if (userSearchIndex.isReady()) {
+            List<Long> ids = userSearchIndex.suggest(query.trim(), MAX_SEARCH_RESULTS).stream()
+                    .map(MentionSuggestionDTO::getId)
+                    .toList();
+            Map<Long, Users> usersById = userRepository.findAllById(ids).stream()
+                    .collect(Collectors.toMap(Users::getId, Function.identity()));
+            users = ids.stream().map(usersById::get).filter(Objects::nonNull).toList();
+        } else {
+            users = authRepository.searchUsers(query.trim(), PageRequest.of(0, MAX_SEARCH_RESULTS));
+        }
+        
+        return toUserInfoDTOs(users, getCurrentUserOrNull());
+    }
+    
+    /** ✅ @멘션 자동완성 (아이디/닉네임 접두어, 인메모리 인덱스에서 상위 limit명) */
+    public List<MentionSuggestionDTO> suggestMentions(String query, int limit) {
+        if (query == null || query.isBlank()) {
+            return List.of();
+        }
+        return userSearchIndex.suggest(query.trim(), Math.max(1, Math.min(limit, MAX_MENTION_SUGGESTIONS)));
+    }
+    
+    /** 커서 기반 사용자 목록 응답 (다음 페이지는 nextCursor를 before로 그대로 넘겨서 요청) */
+    @lombok.Getter
+    @lombok.AllArgsConstructor
+    public static class UserCursorPageDTO {
+        private List<UserInfoDTO> content;
+        private String nextCursor;
+        private boolean hasNext;
     }
     
     /** 사용자 정보 DTO */
@@ -0,0 +1,256 @@
+package com.pgh.api_practice.service;
+
+import com.pgh.api_practice.entity.GroupDeletionJob;
+import com.pgh.api_practice.entity.GroupDeletionStep;
+import com.pgh.api_practice.repository.GroupDeletionJobRepository;
+import io.micrometer.core.instrument.Counter;
+import jakarta.annotation.PreDestroy;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 모임 삭제 후속 정리 워커
+ * - 모임 삭제 시 등록된 GroupDeletionJob을 단계별로 chunkSize행씩 처리하고, 청크마다 진행 상황과 함께 커밋
+ * - 각 청크는 id 커서 기반 조회 후 IN 목록으로만 갱신하므로 범위 락을 오래 잡지 않는다
+ * - 채팅 파일 메시지와 게시물(대표 이미지, 본문 이미지)이 잡고 있던 업로드 참조는 같은 청크 트랜잭션에서 해제
+ * - 청크 처리 시간 대비 쉬는 시간을 조절해 DB 점유율을 targetLoad 이하로 유지 (예: 0.25 → 처리 1 : 휴식 3)
+ * - 한 번 실행에 maxRunMillis까지만 처리하고 선점을 풀어, 나머지는 다음 실행에서 이어서 진행
+ * - 처리와 휴식은 전용 스레드에서 수행 (공용 스케줄러 스레드를 붙잡지 않도록)
+ */
+@Slf4j
+@Component
+public class GroupDeletionWorker {
+
+    // 단계별 [대상 ID 조회, 정리] SQL
+    private static final Map<GroupDeletionStep, String[]> STEP_SQL = new EnumMap<>(GroupDeletionStep.class);
+
+    static {
+        STEP_SQL.put(GroupDeletionStep.CHAT_MESSAGES, new String[]{
+                "SELECT m.id FROM group_chat_messages m JOIN group_chat_rooms r ON r.id = m.chat_room_id " +
+                "WHERE r.group_id = :groupId AND m.id > :cursor AND m.is_deleted = 0 ORDER BY m.id LIMIT :limit",
+                "UPDATE group_chat_messages SET is_deleted = 1 WHERE id IN (:ids)"});
+        STEP_SQL.put(GroupDeletionStep.CHAT_READ_STATUSES, new String[]{
+                "SELECT s.id FROM group_chat_read_status s JOIN group_chat_rooms r ON r.id = s.chat_room_id " +
+                "WHERE r.group_id = :groupId AND s.id > :cursor ORDER BY s.id LIMIT :limit",
+                "DELETE FROM group_chat_read_status WHERE id IN (:ids)"});
+        STEP_SQL.put(GroupDeletionStep.CHAT_ROOMS, new String[]{
+                "SELECT id FROM group_chat_rooms " +
+                "WHERE group_id = :groupId AND id > :cursor AND is_deleted = 0 ORDER BY id LIMIT :limit",
+                "UPDATE group_chat_rooms SET is_deleted = 1 WHERE id IN (:ids)"});
+        STEP_SQL.put(GroupDeletionStep.POST_COMMENTS, new String[]{
+                "SELECT c.id FROM comments c JOIN group_posts p ON p.id = c.group_post_id " +
+                "WHERE p.group_id = :groupId AND c.id > :cursor AND c.is_deleted = 0 ORDER BY c.id LIMIT :limit",
+                "UPDATE comments SET is_deleted = 1 WHERE id IN (:ids)"});
+        STEP_SQL.put(GroupDeletionStep.POSTS, new String[]{
+                "SELECT id FROM group_posts " +
+                "WHERE group_id = :groupId AND id > :cursor AND is_deleted = 0 ORDER BY id LIMIT :limit",
+                "UPDATE group_posts SET is_deleted = 1 WHERE id IN (:ids)"});
+        STEP_SQL.put(GroupDeletionStep.MEMBERS, new String[]{
+                "SELECT id FROM group_members WHERE group_id = :groupId AND id > :cursor ORDER BY id LIMIT :limit",
+                "DELETE FROM group_members WHERE id IN (:ids)"});
+    }
+
+    // 정리 전에 업로드 참조를 해제할 단계의 [URL, 본문] 조회 SQL
+    private static final Map<GroupDeletionStep, String> RELEASE_SQL = new EnumMap<>(GroupDeletionStep.class);
+
+    static {
+        RELEASE_SQL.put(GroupDeletionStep.CHAT_MESSAGES,
+                "SELECT file_url AS url, NULL AS body FROM group_chat_messages WHERE id IN (:ids)");
+        RELEASE_SQL.put(GroupDeletionStep.POSTS,
+                "SELECT profile_image_url AS url, body FROM group_posts WHERE id IN (:ids)");
+    }
+
+    private final GroupDeletionJobRepository groupDeletionJobRepository;
+    private final UploadReferenceService uploadReferenceService;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int chunkSize;
+    private final double targetLoad;
+    private final long maxPauseMillis;
+    private final long maxRunMillis;
+    private final long leaseSeconds;
+
+    private final Counter processedCounter;
+    private final Counter completedCounter;
+    private final AtomicLong pendingGauge = new AtomicLong();
+    private final ExecutorService executor;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public GroupDeletionWorker(
+            GroupDeletionJobRepository groupDeletionJobRepository,
+            UploadReferenceService uploadReferenceService,
+            NamedParameterJdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${app.group.deletion.enabled:true}") boolean enabled,
+            @Value("${app.group.deletion.chunk-size:500}") int chunkSize,
+            @Value("${app.group.deletion.target-load:0.25}") double targetLoad,
+            @Value("${app.group.deletion.max-pause-ms:2000}") long maxPauseMillis,
+            @Value("${app.group.deletion.max-run-ms:10000}") long maxRunMillis,
+            @Value("${app.group.deletion.lease-seconds:60}") long leaseSeconds) {
+        this.groupDeletionJobRepository = groupDeletionJobRepository;
+        this.uploadReferenceService = uploadReferenceService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.chunkSize = chunkSize;
+        this.targetLoad = Math.min(Math.max(targetLoad, 0.01), 1.0);
+        this.maxPauseMillis = maxPauseMillis;
+        this.maxRunMillis = maxRunMillis;
+        this.leaseSeconds = leaseSeconds;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "group-deletion");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.NORM_PRIORITY - 1);
+            return thread;
+        });
+
+        this.processedCounter = meterRegistry.counter("group.deletion.rows");
+        this.completedCounter = meterRegistry.counter("group.deletion.completed");
+        meterRegistry.gauge("group.deletion.pending", pendingGauge);
+    }
+
+    /** 대기 중인 정리 작업 진행 (기본: 5초 간격, 재시작 후에도 남은 작업을 이어서 처리, 실제 작업은 전용 스레드에서) */
+    @Scheduled(fixedDelayString = "${app.group.deletion.poll-interval-ms:5000}")
+    public void poll() {
+        if (!enabled || !running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    drain();
+                } catch (Exception e) {
+                    log.error("모임 삭제 정리 작업 실패", e);
+                } finally {
+                    running.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            running.set(false);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void drain() {
+        long deadline = System.currentTimeMillis() + maxRunMillis;
+        for (Long jobId : groupDeletionJobRepository.findRunnableIds(LocalDateTime.now(), PageRequest.of(0, 10))) {
+            if (System.currentTimeMillis() >= deadline || Thread.currentThread().isInterrupted()) {
+                break;
+            }
+            LocalDateTime now = LocalDateTime.now();
+            if (groupDeletionJobRepository.claim(jobId, now, now.plusSeconds(leaseSeconds)) == 0) {
+                continue;  // 다른 워커가 처리 중
+            }
+            try {
+                run(jobId, deadline);
+            } finally {
+                // 선점 시간을 남겨 두면 다음 실행까지 leaseSeconds 동안 아무도 이어받지 못함
+                groupDeletionJobRepository.release(jobId);
+            }
+        }
+        pendingGauge.set(groupDeletionJobRepository.countPending());
+    }
+
+    private void run(Long jobId, long deadline) {
+        while (System.currentTimeMillis() < deadline && !Thread.currentThread().isInterrupted()) {
+            long started = System.nanoTime();
+            GroupDeletionJob job = transactionTemplate.execute(status -> processChunk(jobId));
+            if (job == null || job.getStep() == GroupDeletionStep.DONE) {
+                return;
+            }
+            throttle(System.nanoTime() - started);
+        }
+    }
+
+    /** 한 청크 처리: 대상 행 정리와 진행 상황 저장을 같은 트랜잭션으로 커밋 */
+    private GroupDeletionJob processChunk(Long jobId) {
+        GroupDeletionJob job = groupDeletionJobRepository.findById(jobId).orElse(null);
+        if (job == null || job.getStep() == GroupDeletionStep.DONE) {
+            return job;
+        }
+
+        String[] sql = STEP_SQL.get(job.getStep());
+        List<Long> ids = jdbcTemplate.queryForList(sql[0], new MapSqlParameterSource()
+                .addValue("groupId", job.getGroupId())
+                .addValue("cursor", job.getCursorId())
+                .addValue("limit", chunkSize), Long.class);
+
+        if (!ids.isEmpty()) {
+            releaseUploads(job.getStep(), ids);
+            int affected = jdbcTemplate.update(sql[1], new MapSqlParameterSource("ids", ids));
+            job.setCursorId(ids.get(ids.size() - 1));
+            job.setProcessedCount(job.getProcessedCount() + affected);
+            processedCounter.increment(affected);
+        }
+        if (ids.size() < chunkSize) {
+            advance(job);
+        }
+
+        job.setLockedUntil(LocalDateTime.now().plusSeconds(leaseSeconds));
+        return groupDeletionJobRepository.save(job);
+    }
+
+    // 대상 행이 잡고 있던 업로드 참조 해제 (아직 삭제되지 않은 행만 조회되므로 중복 해제 없음)
+    private void releaseUploads(GroupDeletionStep step, List<Long> ids) {
+        String sql = RELEASE_SQL.get(step);
+        if (sql == null) {
+            return;
+        }
+        jdbcTemplate.query(sql, new MapSqlParameterSource("ids", ids), rs -> {
+            uploadReferenceService.release(rs.getString("url"));
+            uploadReferenceService.releaseEmbedded(rs.getString("body"));
+        });
+    }
+
+    private void advance(GroupDeletionJob job) {
+        GroupDeletionStep next = GroupDeletionStep.values()[job.getStep().ordinal() + 1];
+        job.setStep(next);
+        job.setCursorId(0);
+        if (next == GroupDeletionStep.DONE) {
+            jdbcTemplate.update("UPDATE user_groups SET member_count = 0 WHERE id = :groupId",
+                    new MapSqlParameterSource("groupId", job.getGroupId()));
+            job.setCompletedAt(LocalDateTime.now());
+            completedCounter.increment();
+            log.info("모임 삭제 정리 완료: groupId={}, 정리한 행 {}건", job.getGroupId(), job.getProcessedCount());
+        } else {
+            log.debug("모임 삭제 정리 단계 진행: groupId={}, step={}", job.getGroupId(), next);
+        }
+    }
+
+    // 처리 시간 대비 휴식으로 DB 점유율을 targetLoad 이하로
+    private void throttle(long workNanos) {
+        long pauseMillis = (long) (workNanos / 1_000_000.0 * (1 - targetLoad) / targetLoad);
+        pauseMillis = Math.min(pauseMillis, maxPauseMillis);
+        if (pauseMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(pauseMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
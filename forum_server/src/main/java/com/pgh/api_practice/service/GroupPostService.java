@@ -29,6 +29,7 @@ public class GroupPostService {
     private final PostLikeRepository postLikeRepository;
     private final TagRepository tagRepository;
     private final GroupPostTagRepository groupPostTagRepository;
+    private final UploadReferenceService uploadReferenceService;
 
     /** 현재 사용자 가져오기 */
     private Users getCurrentUser() {
@@ -65,6 +66,8 @@ public class GroupPostService {
                 .build();
 
         GroupPost created = groupPostRepository.save(post);
+        uploadReferenceService.acquire(created.getProfileImageUrl());
+        uploadReferenceService.acquireEmbedded(created.getBody());
         
         // 태그 저장
         if (dto.getTags() != null && !dto.getTags().isEmpty()) {
@@ -224,8 +227,10 @@ public class GroupPostService {
         }
 
         post.setTitle(dto.getTitle());
+        uploadReferenceService.replaceEmbedded(post.getBody(), dto.getBody());
         post.setBody(dto.getBody());
         if (dto.getProfileImageUrl() != null) {
+            uploadReferenceService.replace(post.getProfileImageUrl(), dto.getProfileImageUrl());
             post.setProfileImageUrl(dto.getProfileImageUrl());
         }
         if (dto.getIsPublic() != null) {
@@ -269,5 +274,7 @@ public class GroupPostService {
 
         post.setDeleted(true);
         groupPostRepository.save(post);
+        uploadReferenceService.release(post.getProfileImageUrl());
+        uploadReferenceService.releaseEmbedded(post.getBody());
     }
 }
@@ -0,0 +1,310 @@
+package com.pgh.api_practice.service;
+
+import com.pgh.api_practice.entity.Group;
+import com.pgh.api_practice.repository.GroupRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+
+/**
+ * 모임 검색 인덱스 (인메모리)
+ * - 이름/설명을 토큰으로 나눠 정렬된 맵(접두어 검색)에, 이름 토큰의 2-gram을 역색인(부분 일치/오타 후보)에 보관
+ * - 모임 생성/수정/삭제 시 GroupService가 갱신하고, 다른 노드의 변경은 주기적인 재구축으로 반영
+ * - 검색어의 각 단어가 모두 일치해야 하며, 점수(정확 일치 > 접두어 > 부분 일치 > 오타 허용 > 설명) 순, 같으면 최신순
+ * 재구축/커밋 후 반영/준비 여부는 InMemorySearchIndex가 처리한다.
+ */
+@Component
+public class GroupSearchIndex extends InMemorySearchIndex<GroupSearchIndex.Doc, GroupSearchIndex.Index> {
+
+    private static final int EXACT_NAME = 100;
+    private static final int PREFIX_NAME = 70;
+    private static final int INFIX_NAME = 50;
+    private static final int FUZZY_NAME = 30;
+    private static final int EXACT_DESCRIPTION = 20;
+    private static final int PREFIX_DESCRIPTION = 10;
+    private static final int WHOLE_NAME_BONUS = 200;
+    private static final int NAME_PREFIX_BONUS = 50;
+
+    private final GroupRepository groupRepository;
+
+    public GroupSearchIndex(
+            GroupRepository groupRepository,
+            @Value("${app.group.search.rebuild-batch-size:1000}") int batchSize) {
+        super("모임 검색 인덱스", batchSize, new Index());
+        this.groupRepository = groupRepository;
+    }
+
+    /** 주기적 재구축 (다른 노드에서 생긴 변경 반영, 기본: 10분) */
+    @Override
+    @Scheduled(initialDelayString = "${app.group.search.rebuild-interval-ms:600000}",
+            fixedDelayString = "${app.group.search.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        super.rebuild();
+    }
+
+    /** 모임 생성/수정 시 반영 */
+    public void put(Group group) {
+        if (group.isDeleted()) {
+            remove(group.getId());
+            return;
+        }
+        putDoc(group.getId(), toDoc(group.getId(), group.getName(), group.getDescription(), group.getCreatedTime()));
+    }
+
+    /** 모임 삭제 시 반영 */
+    public void remove(Long groupId) {
+        removeDoc(groupId);
+    }
+
+    @Override
+    protected Index newIndex() {
+        return new Index();
+    }
+
+    @Override
+    protected List<Object[]> findRows(long lastId, Pageable pageable) {
+        return groupRepository.findSearchRows(lastId, pageable);
+    }
+
+    @Override
+    protected Doc toDoc(Object[] row) {
+        return toDoc((Long) row[0], (String) row[1], (String) row[2], (LocalDateTime) row[3]);
+    }
+
+    /**
+     * 검색 (점수순 모임 ID 페이지)
+     * 마지막 단어까지 모두 접두어로 비교하므로 입력 중인 검색어에도 결과가 나온다.
+     */
+    public Page<Long> search(String query, int page, int size) {
+        PageRequest pageRequest = PageRequest.of(page, size);
+        List<String> terms = tokenize(query);
+        if (terms.isEmpty()) {
+            return new PageImpl<>(List.of(), pageRequest, 0);
+        }
+        String wholeQuery = String.join(" ", terms);
+
+        lock.readLock().lock();
+        try {
+            Map<Long, Integer> scores = null;
+            for (String term : terms) {
+                Map<Long, Integer> termScores = index.score(term);
+                if (scores == null) {
+                    scores = termScores;
+                } else {
+                    // 모든 단어가 일치해야 함
+                    scores.keySet().retainAll(termScores.keySet());
+                    scores.replaceAll((id, score) -> score + termScores.get(id));
+                }
+                if (scores.isEmpty()) {
+                    return new PageImpl<>(List.of(), pageRequest, 0);
+                }
+            }
+
+            List<Map.Entry<Long, Integer>> ranked = new ArrayList<>(scores.size());
+            for (Map.Entry<Long, Integer> entry : scores.entrySet()) {
+                Doc doc = index.docs.get(entry.getKey());
+                int bonus = doc.name().equals(wholeQuery) ? WHOLE_NAME_BONUS
+                        : doc.name().startsWith(wholeQuery) ? NAME_PREFIX_BONUS : 0;
+                ranked.add(Map.entry(entry.getKey(), entry.getValue() + bonus));
+            }
+            ranked.sort(Comparator.<Map.Entry<Long, Integer>>comparingInt(Map.Entry::getValue).reversed()
+                    .thenComparing(e -> index.docs.get(e.getKey()).createdAt(), Comparator.reverseOrder())
+                    .thenComparing(Map.Entry::getKey, Comparator.reverseOrder()));
+
+            int from = (int) Math.min(pageRequest.getOffset(), ranked.size());
+            int to = Math.min(from + size, ranked.size());
+            List<Long> ids = ranked.subList(from, to).stream().map(Map.Entry::getKey).toList();
+            return new PageImpl<>(ids, pageRequest, ranked.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Doc toDoc(Long id, String name, String description, LocalDateTime createdTime) {
+        List<String> nameTokens = tokenize(name);
+        return new Doc(id,
+                String.join(" ", nameTokens),
+                nameTokens,
+                tokenize(description),
+                createdTime != null ? createdTime.toEpochSecond(ZoneOffset.UTC) : 0);
+    }
+
+    // 정규화(NFKC, 소문자) 후 문자/숫자 단위로 분리
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        List<String> tokens = new ArrayList<>();
+        for (String token : normalized.split("[^\\p{L}\\p{N}]+")) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    // 2-gram (한 글자 토큰은 그 자체)
+    static Set<String> grams(String token) {
+        Set<String> grams = new HashSet<>();
+        if (token.length() < 2) {
+            grams.add(token);
+            return grams;
+        }
+        for (int i = 0; i + 2 <= token.length(); i++) {
+            grams.add(token.substring(i, i + 2));
+        }
+        return grams;
+    }
+
+    // 허용 오타 수 (짧은 단어는 오타 허용 안 함)
+    static int maxEdits(String term) {
+        int length = term.codePointCount(0, term.length());
+        return length <= 2 ? 0 : length <= 5 ? 1 : 2;
+    }
+
+    /**
+     * 접두어 편집 거리: token의 앞부분 중 term과 가장 가까운 것과의 Damerau-Levenshtein 거리
+     * (입력 중인 단어의 오타를 허용하기 위해 token 전체가 아닌 접두어와 비교)
+     */
+    static int prefixDistance(String term, String token, int limit) {
+        int n = term.length();
+        int m = Math.min(token.length(), n + limit);
+        int[][] d = new int[n + 1][m + 1];
+        for (int i = 0; i <= n; i++) {
+            d[i][0] = i;
+        }
+        for (int j = 0; j <= m; j++) {
+            d[0][j] = j;
+        }
+        for (int i = 1; i <= n; i++) {
+            for (int j = 1; j <= m; j++) {
+                int cost = term.charAt(i - 1) == token.charAt(j - 1) ? 0 : 1;
+                d[i][j] = Math.min(Math.min(d[i - 1][j] + 1, d[i][j - 1] + 1), d[i - 1][j - 1] + cost);
+                if (i > 1 && j > 1 && term.charAt(i - 1) == token.charAt(j - 2) && term.charAt(i - 2) == token.charAt(j - 1)) {
+                    d[i][j] = Math.min(d[i][j], d[i - 2][j - 2] + 1);
+                }
+            }
+        }
+        int best = Integer.MAX_VALUE;
+        for (int j = Math.max(0, n - limit); j <= m; j++) {
+            best = Math.min(best, d[n][j]);
+        }
+        return best;
+    }
+
+    record Doc(Long id, String name, List<String> nameTokens, List<String> descriptionTokens, long createdAt) {
+    }
+
+    /** 실제 색인 구조 (락은 바깥에서 잡는다) */
+    static class Index implements InMemorySearchIndex.Index<Doc> {
+        private final Map<Long, Doc> docs = new HashMap<>();
+        private final TreeMap<String, Set<Long>> nameTokens = new TreeMap<>();
+        private final TreeMap<String, Set<Long>> descriptionTokens = new TreeMap<>();
+        private final Map<String, Set<Long>> nameGrams = new HashMap<>();
+
+        @Override
+        public void put(Doc doc) {
+            remove(doc.id());
+            docs.put(doc.id(), doc);
+            for (String token : doc.nameTokens()) {
+                nameTokens.computeIfAbsent(token, k -> new HashSet<>()).add(doc.id());
+                for (String gram : grams(token)) {
+                    nameGrams.computeIfAbsent(gram, k -> new HashSet<>()).add(doc.id());
+                }
+            }
+            for (String token : doc.descriptionTokens()) {
+                descriptionTokens.computeIfAbsent(token, k -> new HashSet<>()).add(doc.id());
+            }
+        }
+
+        @Override
+        public void remove(Long id) {
+            Doc doc = docs.remove(id);
+            if (doc == null) {
+                return;
+            }
+            for (String token : doc.nameTokens()) {
+                removePosting(nameTokens, token, id);
+                for (String gram : grams(token)) {
+                    removePosting(nameGrams, gram, id);
+                }
+            }
+            for (String token : doc.descriptionTokens()) {
+                removePosting(descriptionTokens, token, id);
+            }
+        }
+
+        @Override
+        public int size() {
+            return docs.size();
+        }
+
+        /** 한 단어에 대한 모임별 최고 점수 */
+        Map<Long, Integer> score(String term) {
+            Map<Long, Integer> scores = new HashMap<>();
+
+            // 이름 토큰 접두어/정확 일치
+            for (Map.Entry<String, Set<Long>> entry : prefixRange(nameTokens, term).entrySet()) {
+                int score = entry.getKey().equals(term) ? EXACT_NAME : PREFIX_NAME;
+                entry.getValue().forEach(id -> scores.merge(id, score, Math::max));
+            }
+
+            // 이름 부분 일치 / 오타 허용 (2-gram을 하나라도 공유하는 모임만 후보)
+            int limit = maxEdits(term);
+            Set<Long> candidates = new HashSet<>();
+            for (String gram : grams(term)) {
+                Set<Long> ids = nameGrams.get(gram);
+                if (ids != null) {
+                    candidates.addAll(ids);
+                }
+            }
+            for (Long id : candidates) {
+                if (scores.getOrDefault(id, 0) >= PREFIX_NAME) {
+                    continue;
+                }
+                Doc doc = docs.get(id);
+                if (doc.name().contains(term)) {
+                    scores.merge(id, INFIX_NAME, Math::max);
+                } else if (limit > 0) {
+                    for (String token : doc.nameTokens()) {
+                        if (prefixDistance(term, token, limit) <= limit) {
+                            scores.merge(id, FUZZY_NAME, Math::max);
+                            break;
+                        }
+                    }
+                }
+            }
+
+            // 설명 토큰 접두어/정확 일치
+            for (Map.Entry<String, Set<Long>> entry : prefixRange(descriptionTokens, term).entrySet()) {
+                int score = entry.getKey().equals(term) ? EXACT_DESCRIPTION : PREFIX_DESCRIPTION;
+                entry.getValue().forEach(id -> scores.merge(id, score, Math::max));
+            }
+            return scores;
+        }
+
+        private static SortedMap<String, Set<Long>> prefixRange(TreeMap<String, Set<Long>> tokens, String prefix) {
+            return tokens.subMap(prefix, prefix + Character.MAX_VALUE);
+        }
+
+        private static void removePosting(Map<String, Set<Long>> postings, String key, Long id) {
+            Set<Long> ids = postings.get(key);
+            if (ids != null) {
+                ids.remove(id);
+                if (ids.isEmpty()) {
+                    postings.remove(key);
+                }
+            }
+        }
+    }
+}
@@ -33,6 +33,9 @@ public class GroupService {
     private final UserRepository userRepository;
     private final MessageReactionRepository messageReactionRepository;
     private final GroupChatReadStatusRepository groupChatReadStatusRepository;
+    private final UploadReferenceService uploadReferenceService;
+    private final GroupSearchIndex groupSearchIndex;
+    private final GroupDeletionJobRepository groupDeletionJobRepository;
 
     /** 현재 사용자 가져오기 */
     private Users getCurrentUser() {
@@ -65,6 +68,7 @@ public class GroupService {
                 .description(dto.getDescription())
                 .owner(currentUser)
                 .profileImageUrl(dto.getProfileImageUrl())
+                .memberCount(1)  // 생성자
                 .build();
 
         Group created = groupRepository.save(group);
@@ -94,46 +98,38 @@ public class GroupService {
                 .build();
         groupChatRoomRepository.save(generalRoom);
 
+        groupSearchIndex.put(created);
         return created.getId();
     }
 
-    /** 모임 검색 (이름 또는 설명으로 검색) */
+    /** 모임 검색 (이름 또는 설명으로 검색, 점수순) */
     @Transactional(readOnly = true)
-    public List<GroupListDTO> searchGroups(String query) {
+    public List<GroupListDTO> searchGroups(String query, int page, int size) {
         if (query == null || query.trim().isEmpty()) {
             return List.of();
         }
-        
-        List<Group> groups = groupRepository.searchGroups(query.trim());
-        
-        // 최대 100개까지만 반환
-        List<Group> limitedGroups = groups.stream()
-                .limit(100)
+        int pageSize = Math.min(Math.max(size, 1), 100);
+
+        // 인덱스 준비 전(기동 직후)에는 DB 검색으로 대신
+        if (!groupSearchIndex.isReady()) {
+            List<Group> groups = groupRepository.searchGroups(query.trim(), PageRequest.of(Math.max(page, 0), pageSize));
+            return toGroupListDTOs(groups, getCurrentUser());
+        }
+
+        List<Long> ids = groupSearchIndex.search(query, Math.max(page, 0), pageSize).getContent();
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        // 인덱스 순서(점수순) 유지
+        Map<Long, Group> byId = groupRepository.findAllWithOwnerByIdIn(ids).stream()
+                .collect(Collectors.toMap(Group::getId, g -> g));
+        List<Group> groups = ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
                 .toList();
-        
-        Users currentUser = getCurrentUser();
-        
-        return limitedGroups.stream()
-                .map(group -> {
-                    long memberCount = groupMemberRepository.countByGroupId(group.getId());
-                    boolean isMember = currentUser != null && (
-                            group.getOwner().getId().equals(currentUser.getId()) ||
-                            groupMemberRepository.existsByGroupIdAndUserId(group.getId(), currentUser.getId())
-                    );
-                    
-                    return GroupListDTO.builder()
-                            .id(group.getId())
-                            .name(group.getName())
-                            .description(group.getDescription())
-                            .ownerUsername(group.getOwner().getUsername())
-                            .ownerNickname(group.getOwner().getNickname())
-                            .profileImageUrl(group.getProfileImageUrl())
-                            .memberCount((int) memberCount)
-                            .createdTime(group.getCreatedTime())
-                            .isMember(isMember)
-                            .build();
-                })
-                .collect(Collectors.toList());
+
+        return toGroupListDTOs(groups, getCurrentUser());
     }
 
     /** 모임 목록 조회 */
@@ -142,53 +138,42 @@ public class GroupService {
         Users currentUser = getCurrentUser();
         Page<Group> groups;
 
-        // 내 모임만 필터링하는 경우
+        // 내 모임만 필터링하는 경우 (주인이거나 멤버인 모임을 한 번에 페이지 조회)
         if (myGroups != null && myGroups && currentUser != null) {
-            // 현재 사용자가 주인인 모임 조회
-            List<Group> ownedGroups = groupRepository.findByOwnerIdAndIsDeletedFalseOrderByCreatedTimeDesc(currentUser.getId());
-
-            // 현재 사용자가 멤버인 모임 조회
-            List<GroupMember> memberships = groupMemberRepository.findByUserId(currentUser.getId());
-            List<Long> memberGroupIds = memberships.stream()
-                    .map(gm -> gm.getGroup().getId())
-                    .collect(Collectors.toList());
-
-            // 주인인 모임과 멤버인 모임 합치기
-            List<Long> allGroupIds = new ArrayList<>();
-            allGroupIds.addAll(ownedGroups.stream().map(Group::getId).collect(Collectors.toList()));
-            allGroupIds.addAll(memberGroupIds);
-
-            if (allGroupIds.isEmpty()) {
-                return new PageImpl<>(new ArrayList<>(), pageable, 0);
-            }
-
-            // 중복 제거
-            allGroupIds = allGroupIds.stream().distinct().collect(Collectors.toList());
-
-            // 해당 모임들만 조회 (페이지네이션 적용)
-            groups = groupRepository.findByIdInAndIsDeletedFalseOrderByCreatedTimeDesc(allGroupIds, pageable);
+            groups = groupRepository.findMyGroups(currentUser.getId(), pageable);
         } else {
             // 전체 모임 조회
             groups = groupRepository.findByIsDeletedFalseOrderByCreatedTimeDesc(pageable);
         }
 
-        List<GroupListDTO> groupList = groups.getContent().stream().map(group -> {
-            long memberCount = groupMemberRepository.countByGroupId(group.getId());
+        return new PageImpl<>(toGroupListDTOs(groups.getContent(), currentUser), pageable, groups.getTotalElements());
+    }
+
+    /**
+     * 모임 목록 DTO 변환
+     * 멤버 수는 Group.memberCount, 내 역할은 페이지의 모임 ID로 한 번에 조회한다.
+     */
+    private List<GroupListDTO> toGroupListDTOs(List<Group> groups, Users currentUser) {
+        Map<Long, Boolean> myRoles = new HashMap<>();
+        if (currentUser != null && !groups.isEmpty()) {
+            List<Long> groupIds = groups.stream().map(Group::getId).toList();
+            for (Object[] row : groupMemberRepository.findRolesByUserIdAndGroupIds(currentUser.getId(), groupIds)) {
+                myRoles.put((Long) row[0], (Boolean) row[1]);
+            }
+        }
+
+        return groups.stream().map(group -> {
             boolean isMember = false;
             boolean isAdmin = false;
 
             if (currentUser != null) {
-                // 모임 주인인지 확인
-                boolean isOwner = group.getOwner().getId().equals(currentUser.getId());
-                if (isOwner) {
+                // 모임 주인은 항상 멤버이자 관리자
+                if (group.getOwner().getId().equals(currentUser.getId())) {
                     isMember = true;
                     isAdmin = true;
-                } else {
-                    Optional<GroupMember> member = groupMemberRepository.findByGroupIdAndUserId(group.getId(), currentUser.getId());
-                    if (member.isPresent()) {
-                        isMember = true;
-                        isAdmin = member.get().isAdmin();
-                    }
+                } else if (myRoles.containsKey(group.getId())) {
+                    isMember = true;
+                    isAdmin = myRoles.get(group.getId());
                 }
             }
 
@@ -199,14 +184,12 @@ public class GroupService {
                     .ownerUsername(group.getOwner().getUsername())
                     .ownerNickname(group.getOwner().getNickname())
                     .profileImageUrl(group.getProfileImageUrl())
-                    .memberCount(memberCount)
+                    .memberCount(group.getMemberCount())
                     .createdTime(group.getCreatedTime())
                     .isMember(isMember)
                     .isAdmin(isAdmin)
                     .build();
         }).collect(Collectors.toList());
-
-        return new PageImpl<>(groupList, pageable, groups.getTotalElements());
     }
 
     /** 모임 상세 조회 */
@@ -215,7 +198,7 @@ public class GroupService {
         Group group = groupRepository.findByIdAndIsDeletedFalse(groupId)
                 .orElseThrow(() -> new ResourceNotFoundException("모임을 찾을 수 없습니다."));
 
-        long memberCount = groupMemberRepository.countByGroupId(groupId);
+        long memberCount = group.getMemberCount();
         Users currentUser = getCurrentUser();
         boolean isMember = false;
         boolean isAdmin = false;
@@ -301,6 +284,7 @@ public class GroupService {
                 .isAdmin(false)
                 .build();
         groupMemberRepository.save(member);
+        groupRepository.adjustMemberCount(groupId, 1);
     }
 
     /** 모임 탈퇴 */
@@ -319,7 +303,10 @@ public class GroupService {
             throw new ApplicationBadRequestException("모임 주인은 탈퇴할 수 없습니다. 모임을 삭제하려면 모임 관리 페이지에서 삭제 기능을 사용하세요.");
         }
 
-        groupMemberRepository.deleteByGroupIdAndUserId(groupId, currentUser.getId());
+        long removed = groupMemberRepository.deleteByGroupIdAndUserId(groupId, currentUser.getId());
+        if (removed > 0) {
+            groupRepository.adjustMemberCount(groupId, -removed);
+        }
     }
 
     /** 모임 수정 */
@@ -354,6 +341,7 @@ public class GroupService {
         }
 
         groupRepository.save(group);
+        groupSearchIndex.put(group);
     }
 
     /** 모임 멤버 목록 조회 */
@@ -501,6 +489,14 @@ public class GroupService {
 
         group.setDeleted(true);
         groupRepository.save(group);
+        groupSearchIndex.remove(groupId);
+
+        // 채팅방/메시지/게시글/멤버십 정리는 백그라운드에서 청크 단위로 (GroupDeletionWorker)
+        if (!groupDeletionJobRepository.existsByGroupId(groupId)) {
+            groupDeletionJobRepository.save(GroupDeletionJob.builder()
+                    .groupId(groupId)
+                    .build());
+        }
     }
 
     @Transactional(readOnly = true)
@@ -751,6 +747,8 @@ public class GroupService {
             }
         }
 
+        uploadReferenceService.acquire(dto.getFileUrl());
+
         return groupChatMessageRepository.save(
                 GroupChatMessage.builder()
                         .chatRoom(room)
@@ -991,6 +989,7 @@ public class GroupService {
         // 소프트 삭제
         message.setDeleted(true);
         groupChatMessageRepository.save(message);
+        uploadReferenceService.release(message.getFileUrl());
     }
 
     /** 채팅 메시지 반응 추가/제거 */
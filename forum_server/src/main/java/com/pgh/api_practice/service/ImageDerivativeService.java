@@ -0,0 +1,206 @@
+package com.pgh.api_practice.service;
+
+import com.pgh.api_practice.global.ImageDerivatives;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 업로드 이미지 파생본 생성 (썸네일, 미리보기)
+ * - 요청 스레드는 작업만 등록하고 바로 응답, 실제 디코딩/리사이즈/인코딩은 전용 풀에서 처리
+ * - 풀과 대기열 크기가 고정되어 있어 업로드가 몰려도 CPU/메모리 사용량이 제한된다
+ * - 파생본 이름은 원본 해시 기반이므로 같은 이미지는 한 번만 만든다
+ * - 파생본 JPEG에는 EXIF가 없으므로 원본의 EXIF Orientation을 픽셀에 적용해 화면에 보이는 방향으로 저장한다
+ */
+@Slf4j
+@Service
+public class ImageDerivativeService {
+
+    private final Path uploadPath;
+    private final float jpegQuality;
+    private final ThreadPoolExecutor executor;
+
+    public ImageDerivativeService(
+            @Value("${app.upload.dir:C:/app-data/uploads}") String uploadDir,
+            @Value("${app.upload.derivative.pool-size:2}") int poolSize,
+            @Value("${app.upload.derivative.queue-capacity:200}") int queueCapacity,
+            @Value("${app.upload.derivative.jpeg-quality:0.8}") float jpegQuality) {
+        this.uploadPath = Paths.get(uploadDir);
+        this.jpegQuality = jpegQuality;
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-derivative-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    thread.setPriority(Thread.NORM_PRIORITY - 1);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 파생본 생성 예약 (파생본 대상이 아닌 파일은 무시)
+     * @param storedFilename 업로드 디렉토리에 저장된 원본 파일명 ({sha256}.{ext})
+     * @param orientation 원본의 EXIF Orientation (1~8, ImageInfo.getOrientation())
+     */
+    public void schedule(String storedFilename, int orientation) {
+        String hash = ImageDerivatives.hashOf(storedFilename);
+        if (hash == null) {
+            return;
+        }
+        try {
+            executor.execute(() -> generate(storedFilename, hash, orientation));
+        } catch (RejectedExecutionException e) {
+            log.warn("파생본 생성 대기열이 가득 차 건너뜀: {}", storedFilename);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private void generate(String storedFilename, String hash, int orientation) {
+        Path thumbPath = uploadPath.resolve(ImageDerivatives.variantFilename(hash, ImageDerivatives.THUMB));
+        Path mediumPath = uploadPath.resolve(ImageDerivatives.variantFilename(hash, ImageDerivatives.MEDIUM));
+        if (Files.exists(thumbPath) && Files.exists(mediumPath)) {
+            return;
+        }
+
+        try {
+            BufferedImage source = ImageIO.read(uploadPath.resolve(storedFilename).toFile());
+            if (source == null) {
+                log.warn("파생본 생성 불가 (디코딩 실패): {}", storedFilename);
+                return;
+            }
+
+            // 큰 쪽부터 만들고, 썸네일은 미리보기에서 다시 줄여 디코딩/축소 비용을 줄인다
+            // 회전은 긴 변을 바꾸지 않으므로 축소한 뒤에 적용해 처리할 픽셀 수를 줄인다
+            BufferedImage medium = orient(fit(source, ImageDerivatives.MEDIUM_SIZE), orientation);
+            writeJpeg(medium, mediumPath);
+            writeJpeg(fit(medium, ImageDerivatives.THUMB_SIZE), thumbPath);
+
+            log.info("이미지 파생본 생성 완료: {}", storedFilename);
+        } catch (IOException | RuntimeException e) {
+            log.error("이미지 파생본 생성 실패: {}", storedFilename, e);
+        }
+    }
+
+    // 긴 변이 maxSize 이하가 되도록 비율 유지 축소 (확대는 하지 않음), 투명 영역은 흰색 배경으로
+    private BufferedImage fit(BufferedImage source, int maxSize) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        double scale = Math.min(1.0, (double) maxSize / Math.max(width, height));
+
+        BufferedImage current = source;
+        int targetWidth = Math.max(1, (int) Math.round(width * scale));
+        int targetHeight = Math.max(1, (int) Math.round(height * scale));
+
+        // 절반씩 여러 번 줄여서 한 번에 크게 줄일 때의 계단 현상 방지
+        int w = width;
+        int h = height;
+        do {
+            w = Math.max(targetWidth, w / 2);
+            h = Math.max(targetHeight, h / 2);
+            if (w < targetWidth * 2 && h < targetHeight * 2) {
+                w = targetWidth;
+                h = targetHeight;
+            }
+            BufferedImage next = new BufferedImage(w, h, BufferedImage.TYPE_INT_RGB);
+            Graphics2D g = next.createGraphics();
+            try {
+                g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                g.setColor(Color.WHITE);
+                g.fillRect(0, 0, w, h);
+                g.drawImage(current, 0, 0, w, h, null);
+            } finally {
+                g.dispose();
+            }
+            current = next;
+        } while (w != targetWidth || h != targetHeight);
+
+        return current;
+    }
+
+    /**
+     * EXIF Orientation 적용 (1이나 알 수 없는 값이면 그대로)
+     * 2: 좌우 반전, 3: 180도, 4: 상하 반전, 5: 대각선 반전, 6: 시계 방향 90도, 7: 반대 대각선 반전, 8: 반시계 방향 90도
+     */
+    static BufferedImage orient(BufferedImage source, int orientation) {
+        if (orientation < 2 || orientation > 8) {
+            return source;
+        }
+        int w = source.getWidth();
+        int h = source.getHeight();
+        boolean swap = orientation >= 5;
+        int[] pixels = source.getRGB(0, 0, w, h, null, 0, w);
+        int targetWidth = swap ? h : w;
+        int[] rotated = new int[pixels.length];
+
+        for (int y = 0; y < h; y++) {
+            for (int x = 0; x < w; x++) {
+                int tx;
+                int ty;
+                switch (orientation) {
+                    case 2 -> { tx = w - 1 - x; ty = y; }
+                    case 3 -> { tx = w - 1 - x; ty = h - 1 - y; }
+                    case 4 -> { tx = x; ty = h - 1 - y; }
+                    case 5 -> { tx = y; ty = x; }
+                    case 6 -> { tx = h - 1 - y; ty = x; }
+                    case 7 -> { tx = h - 1 - y; ty = w - 1 - x; }
+                    default -> { tx = y; ty = w - 1 - x; }
+                }
+                rotated[ty * targetWidth + tx] = pixels[y * w + x];
+            }
+        }
+
+        BufferedImage result = new BufferedImage(targetWidth, swap ? w : h, BufferedImage.TYPE_INT_RGB);
+        result.setRGB(0, 0, targetWidth, swap ? w : h, rotated, 0, targetWidth);
+        return result;
+    }
+
+    // 임시 파일에 쓰고 원자적으로 이동 (생성 중인 파일이 서빙되지 않도록)
+    private void writeJpeg(BufferedImage image, Path target) throws IOException {
+        Path temp = Files.createTempFile(uploadPath, ".derivative-", ".tmp");
+        try {
+            ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+            try (ImageOutputStream out = ImageIO.createImageOutputStream(temp.toFile())) {
+                ImageWriteParam param = writer.getDefaultWriteParam();
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(jpegQuality);
+                writer.setOutput(out);
+                writer.write(null, new IIOImage(image, null, null), param);
+            } finally {
+                writer.dispose();
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+}
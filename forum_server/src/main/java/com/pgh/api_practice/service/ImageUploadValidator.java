@@ -0,0 +1,59 @@
+package com.pgh.api_practice.service;
+
+import com.pgh.api_practice.exception.ApplicationBadRequestException;
+import com.pgh.api_practice.global.ImageHeaderReader;
+import com.pgh.api_practice.global.ImageInfo;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 업로드 이미지 검증
+ * 매직 바이트로 실제 형식을 판별하고 헤더의 픽셀 크기만으로 너무 큰 이미지를 저장 전에 거부한다.
+ * (디코딩 폭탄 방지: 파일은 작아도 픽셀 수가 큰 이미지는 파생본 생성 시 메모리를 많이 쓴다)
+ */
+@Component
+public class ImageUploadValidator {
+
+    private final int maxDimension;
+    private final long maxPixels;
+
+    public ImageUploadValidator(
+            @Value("${app.upload.image.max-dimension:10000}") int maxDimension,
+            @Value("${app.upload.image.max-pixels:40000000}") long maxPixels) {
+        this.maxDimension = maxDimension;
+        this.maxPixels = maxPixels;
+    }
+
+    /** 이미지 업로드 검증 (형식을 알 수 없거나 너무 크면 ApplicationBadRequestException) */
+    public ImageInfo validate(MultipartFile file) throws IOException {
+        ImageInfo info;
+        try (InputStream in = file.getInputStream()) {
+            info = ImageHeaderReader.read(in);
+        }
+        if (info == null) {
+            throw new ApplicationBadRequestException("지원하지 않는 이미지 형식입니다. (JPEG, PNG, GIF, WebP만 가능)");
+        }
+        if (!isWithinLimits(info)) {
+            throw new ApplicationBadRequestException("이미지 해상도가 너무 큽니다. 최대 " + maxDimension + "px, "
+                    + (maxPixels / 1_000_000) + "MP까지 업로드 가능합니다.");
+        }
+        return info;
+    }
+
+    /** 디스크에 있는 파일이 이미지이면 헤더 정보, 아니면 null */
+    public ImageInfo inspect(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            return ImageHeaderReader.read(in);
+        }
+    }
+
+    public boolean isWithinLimits(ImageInfo info) {
+        return info.getWidth() <= maxDimension && info.getHeight() <= maxDimension && info.getPixels() <= maxPixels;
+    }
+}
@@ -0,0 +1,169 @@
+package com.pgh.api_practice.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 인메모리 검색 인덱스 공통 뼈대 (GroupSearchIndex, UserSearchIndex)
+ * - id 커서로 batchSize행씩 읽어 새 인덱스를 만든 뒤 통째로 교체 (기동 시 + 하위 클래스가 정한 주기)
+ * - 재구축 중에 들어온 변경은 따로 모아 두었다가 새 인덱스에 다시 적용한다
+ * - 트랜잭션 안에서 호출된 갱신은 커밋된 뒤에 반영한다 (롤백된 변경이 검색 결과에 남지 않도록)
+ * - 인덱스 구조와 점수 계산은 하위 클래스가 정하고, 읽을 때는 lock의 읽기 락 안에서 index를 사용한다
+ * 인덱스가 아직 준비되지 않았으면 isReady()가 false이고, 호출 측은 DB 검색으로 대신한다.
+ *
+ * @param <D> 색인 문서 (id로 식별)
+ * @param <I> 색인 구조 (락은 바깥에서 잡는다)
+ */
+@Slf4j
+abstract class InMemorySearchIndex<D, I extends InMemorySearchIndex.Index<D>> {
+
+    /** 색인 구조가 제공해야 하는 최소 연산 */
+    interface Index<D> {
+        void put(D doc);
+
+        void remove(Long id);
+
+        int size();
+    }
+
+    protected final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    protected I index;
+
+    private final String name;
+    private final int batchSize;
+    private boolean ready = false;
+    // 재구축 중에 들어온 변경 (id -> 문서, null이면 삭제). 재구축이 끝나면 새 인덱스에 다시 적용한다.
+    private Map<Long, D> pendingChanges;
+
+    protected InMemorySearchIndex(String name, int batchSize, I emptyIndex) {
+        this.name = name;
+        this.batchSize = batchSize;
+        this.index = emptyIndex;
+    }
+
+    /** 빈 색인 구조 */
+    protected abstract I newIndex();
+
+    /** 재구축용 행 (id 오름차순, row[0]은 id) */
+    protected abstract List<Object[]> findRows(long lastId, Pageable pageable);
+
+    /** 재구축용 행 → 문서 */
+    protected abstract D toDoc(Object[] row);
+
+    /** 기동 시 최초 구축 */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    /** 전체 재구축 (하위 클래스가 @Scheduled로 주기를 정한다) */
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            pendingChanges = new HashMap<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        I rebuilt = newIndex();
+        try {
+            long lastId = 0;
+            while (true) {
+                List<Object[]> rows = findRows(lastId, PageRequest.of(0, batchSize));
+                for (Object[] row : rows) {
+                    rebuilt.put(toDoc(row));
+                    lastId = (Long) row[0];
+                }
+                if (rows.size() < batchSize) {
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            log.error("{} 구축 실패", name, e);
+            lock.writeLock().lock();
+            try {
+                pendingChanges = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            pendingChanges.forEach((id, doc) -> {
+                if (doc == null) {
+                    rebuilt.remove(id);
+                } else {
+                    rebuilt.put(doc);
+                }
+            });
+            pendingChanges = null;
+            index = rebuilt;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("{} 구축 완료: {}건", name, rebuilt.size());
+    }
+
+    public boolean isReady() {
+        lock.readLock().lock();
+        try {
+            return ready;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** 문서 추가/교체 (트랜잭션 안이면 커밋 후) */
+    protected void putDoc(Long id, D doc) {
+        afterCommit(() -> apply(id, doc));
+    }
+
+    /** 문서 삭제 (트랜잭션 안이면 커밋 후) */
+    protected void removeDoc(Long id) {
+        afterCommit(() -> apply(id, null));
+    }
+
+    // 문서 반영 (doc이 null이면 삭제)
+    private void apply(Long id, D doc) {
+        lock.writeLock().lock();
+        try {
+            if (doc == null) {
+                index.remove(id);
+            } else {
+                index.put(doc);
+            }
+            if (pendingChanges != null) {
+                pendingChanges.put(id, doc);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 트랜잭션 안이면 커밋 후에, 아니면 바로 실행 (값은 호출 시점에 이미 복사해 둔다)
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,180 @@
+package com.pgh.api_practice.service;
+
+import com.pgh.api_practice.repository.NotificationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 알림 보관 정책
+ * - 읽은 알림은 readDays, 읽지 않은 알림은 unreadDays가 지나면 삭제
+ * - 사용자별 알림이 maxPerUser개를 넘으면 오래된 읽은 알림부터 정리
+ * - 삭제는 batchSize 단위로 나눠 청크마다 커밋하므로 긴 락을 잡지 않는다
+ * - partitioned=true이면 월 단위 파티션을 미리 만들고, 보관 기간이 지난 파티션은 통째로 DROP
+ */
+@Slf4j
+@Service
+public class NotificationRetentionService {
+
+    private static final DateTimeFormatter PARTITION_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final String FUTURE_PARTITION = "p_future";
+
+    private final NotificationRepository notificationRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final int readDays;
+    private final int unreadDays;
+    private final int maxPerUser;
+    private final int batchSize;
+    private final long chunkPauseMillis;
+    private final boolean partitioned;
+
+    public NotificationRetentionService(
+            NotificationRepository notificationRepository,
+            JdbcTemplate jdbcTemplate,
+            @Value("${app.notification.retention.enabled:true}") boolean enabled,
+            @Value("${app.notification.retention.read-days:30}") int readDays,
+            @Value("${app.notification.retention.unread-days:180}") int unreadDays,
+            @Value("${app.notification.retention.max-per-user:200}") int maxPerUser,
+            @Value("${app.notification.retention.batch-size:1000}") int batchSize,
+            @Value("${app.notification.retention.chunk-pause-ms:50}") long chunkPauseMillis,
+            @Value("${app.notification.retention.partitioned:false}") boolean partitioned) {
+        this.notificationRepository = notificationRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.readDays = readDays;
+        this.unreadDays = unreadDays;
+        this.maxPerUser = maxPerUser;
+        this.batchSize = batchSize;
+        this.chunkPauseMillis = chunkPauseMillis;
+        this.partitioned = partitioned;
+    }
+
+    /**
+     * 보관 정책 실행 (기본: 매일 새벽 4시 30분)
+     */
+    @Scheduled(cron = "${app.notification.retention.cron:0 30 4 * * *}")
+    public void purge() {
+        if (!enabled) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime readCutoff = now.minusDays(readDays);
+        LocalDateTime unreadCutoff = now.minusDays(unreadDays);
+
+        try {
+            if (partitioned) {
+                maintainPartitions(unreadCutoff);
+            }
+
+            long expiredRead = deleteInChunks(() ->
+                    notificationRepository.findReadIdsCreatedBefore(readCutoff, PageRequest.of(0, batchSize)));
+            long expiredAll = deleteInChunks(() ->
+                    notificationRepository.findIdsCreatedBefore(unreadCutoff, PageRequest.of(0, batchSize)));
+            long compacted = maxPerUser > 0 ? compactOverflowingUsers() : 0;
+
+            log.info("알림 보관 정책 실행 완료: 읽은 알림 {}건, 기간 만료 {}건, 사용자별 상한 초과 {}건 삭제",
+                    expiredRead, expiredAll, compacted);
+        } catch (Exception e) {
+            log.error("알림 보관 정책 실행 실패", e);
+        }
+    }
+
+    /** 사용자별 상한(maxPerUser)을 넘는 오래된 읽은 알림 정리 */
+    private long compactOverflowingUsers() {
+        long deleted = 0;
+        for (Long userId : notificationRepository.findUserIdsWithMoreThan(maxPerUser)) {
+            // 최신 maxPerUser개 중 가장 오래된 알림 ID가 경계가 된다
+            List<Long> boundary = notificationRepository.findIdsByUserIdNewestFirst(
+                    userId, PageRequest.of(maxPerUser - 1, 1));
+            if (boundary.isEmpty()) {
+                continue;
+            }
+            Long boundaryId = boundary.get(0);
+            deleted += deleteInChunks(() ->
+                    notificationRepository.findReadIdsByUserIdBefore(userId, boundaryId, PageRequest.of(0, batchSize)));
+        }
+        return deleted;
+    }
+
+    /** 조회한 ID 청크를 더 이상 없을 때까지 삭제 (청크마다 커밋 후 잠시 쉼) */
+    private long deleteInChunks(Supplier<List<Long>> nextChunk) {
+        long total = 0;
+        while (true) {
+            List<Long> ids = nextChunk.get();
+            if (ids.isEmpty()) {
+                return total;
+            }
+            total += notificationRepository.deleteByIdIn(ids);
+            if (ids.size() < batchSize) {
+                return total;
+            }
+            pause();
+        }
+    }
+
+    private void pause() {
+        if (chunkPauseMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(chunkPauseMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 월 단위 파티션 관리 (notifications_month_partitioning.sql 적용 후 사용)
+     * - 이번 달부터 2개월 뒤까지의 파티션을 p_future에서 분리해 미리 생성
+     * - 상한이 unreadCutoff 이전인 파티션은 행 단위 삭제 없이 DROP
+     */
+    private void maintainPartitions(LocalDateTime unreadCutoff) {
+        List<String> partitions = jdbcTemplate.queryForList(
+                "SELECT PARTITION_NAME FROM information_schema.PARTITIONS " +
+                "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'notifications' AND PARTITION_NAME IS NOT NULL",
+                String.class);
+
+        if (!partitions.contains(FUTURE_PARTITION)) {
+            log.warn("notifications 테이블이 월 단위로 파티셔닝되어 있지 않아 파티션 관리를 건너뜁니다.");
+            return;
+        }
+
+        YearMonth current = YearMonth.now();
+        for (int i = 0; i <= 2; i++) {
+            YearMonth month = current.plusMonths(i);
+            String name = partitionName(month);
+            if (!partitions.contains(name)) {
+                jdbcTemplate.execute("ALTER TABLE notifications REORGANIZE PARTITION " + FUTURE_PARTITION + " INTO (" +
+                        "PARTITION " + name + " VALUES LESS THAN (TO_DAYS('" + month.plusMonths(1).atDay(1) + "')), " +
+                        "PARTITION " + FUTURE_PARTITION + " VALUES LESS THAN MAXVALUE)");
+                log.info("알림 파티션 생성: {}", name);
+            }
+        }
+
+        for (String name : partitions) {
+            if (!name.matches("p\\d{6}")) {
+                continue;
+            }
+            YearMonth month = YearMonth.parse(name.substring(1), PARTITION_FORMAT);
+            if (!month.plusMonths(1).atDay(1).atStartOfDay().isAfter(unreadCutoff)) {
+                jdbcTemplate.execute("ALTER TABLE notifications DROP PARTITION " + name);
+                log.info("보관 기간이 지난 알림 파티션 삭제: {}", name);
+            }
+        }
+    }
+
+    private String partitionName(YearMonth month) {
+        return "p" + month.format(PARTITION_FORMAT);
+    }
+}
@@ -1,21 +1,33 @@
 package com.pgh.api_practice.service;
 
+import com.pgh.api_practice.dto.CreateBroadcastNoticeDTO;
+import com.pgh.api_practice.dto.NotificationCursorPageDTO;
 import com.pgh.api_practice.dto.NotificationDTO;
 import com.pgh.api_practice.entity.*;
+import com.pgh.api_practice.exception.ApplicationBadRequestException;
 import com.pgh.api_practice.exception.ApplicationUnauthorizedException;
 import com.pgh.api_practice.exception.ResourceNotFoundException;
+import com.pgh.api_practice.repository.BroadcastNoticeReadStatusRepository;
+import com.pgh.api_practice.repository.BroadcastNoticeRepository;
 import com.pgh.api_practice.repository.CommentRepository;
+import com.pgh.api_practice.repository.GroupMemberRepository;
 import com.pgh.api_practice.repository.GroupPostRepository;
+import com.pgh.api_practice.repository.GroupRepository;
 import com.pgh.api_practice.repository.NotificationRepository;
 import com.pgh.api_practice.repository.PostRepository;
 import com.pgh.api_practice.repository.UserRepository;
 import lombok.AllArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -28,6 +40,21 @@ public class NotificationService {
     private final PostRepository postRepository;
     private final GroupPostRepository groupPostRepository;
     private final CommentRepository commentRepository;
+    private final BroadcastNoticeRepository broadcastNoticeRepository;
+    private final BroadcastNoticeReadStatusRepository broadcastNoticeReadStatusRepository;
+    private final GroupRepository groupRepository;
+    private final GroupMemberRepository groupMemberRepository;
+
+    // 가입일이 없는 과거 데이터용 기본값
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    // 커서 기반 조회의 최대 페이지 크기
+    private static final int MAX_CURSOR_PAGE_SIZE = 50;
+
+    // 알림 병합 정렬 기준 (최신순, 같은 시각이면 ID 역순)
+    private static final Comparator<NotificationDTO> NEWEST_FIRST = Comparator
+            .comparing(NotificationDTO::getCreatedTime, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(NotificationDTO::getId, Comparator.reverseOrder());
 
     /**
      * 현재 인증된 사용자 정보 가져오기
@@ -174,7 +201,8 @@ public class NotificationService {
     }
 
     /**
-     * 관리자 공지 알림 생성
+     * 관리자 공지 알림 생성 (특정 사용자 1명 대상)
+     * 여러 사용자에게 보내는 공지는 publishBroadcastNotice를 사용한다.
      */
     @Transactional
     public void createAdminNoticeNotification(Long userId, String title, String message) {
@@ -182,6 +210,73 @@ public class NotificationService {
                 null, null, null, null);
     }
 
+    /**
+     * 전체 사용자 대상 관리자 공지 생성 (수신자 수와 관계없이 1건 저장)
+     */
+    @Transactional
+    public BroadcastNotice createAdminBroadcastNotice(String title, String message) {
+        return publishBroadcastNotice(NoticeAudience.ALL, null, null, title, message);
+    }
+
+    /**
+     * 브로드캐스트 공지 발행
+     * 대상 사용자별 행을 만들지 않고 공지 1건만 저장하며, 조회 시점에 대상 필터로 합쳐진다.
+     */
+    @Transactional
+    public BroadcastNotice publishBroadcastNotice(NoticeAudience audience, Long audienceId, Long authorId,
+                                                  String title, String message) {
+        if (audience != NoticeAudience.ALL && audienceId == null) {
+            throw new ApplicationBadRequestException("공지 대상 ID가 필요합니다.");
+        }
+
+        Users author = authorId != null ? userRepository.findById(authorId).orElse(null) : null;
+
+        BroadcastNotice notice = BroadcastNotice.builder()
+                .title(title)
+                .message(message)
+                .audience(audience)
+                .audienceId(audience == NoticeAudience.ALL ? null : audienceId)
+                .author(author)
+                .build();
+
+        return broadcastNoticeRepository.save(notice);
+    }
+
+    /**
+     * 사용자 요청으로 브로드캐스트 공지 생성
+     * - GROUP_MEMBERS: 모임 주인 또는 관리자만 가능
+     * - FOLLOWERS: 본인의 팔로워에게만 가능
+     * - ALL: 서버 내부(createAdminBroadcastNotice)에서만 발행
+     */
+    @Transactional
+    public Long createBroadcastNotice(CreateBroadcastNoticeDTO dto) {
+        Users currentUser = getCurrentUser();
+
+        switch (dto.getAudience()) {
+            case GROUP_MEMBERS -> {
+                if (dto.getAudienceId() == null) {
+                    throw new ApplicationBadRequestException("모임 ID가 필요합니다.");
+                }
+                Group group = groupRepository.findByIdAndIsDeletedFalse(dto.getAudienceId())
+                        .orElseThrow(() -> new ResourceNotFoundException("모임을 찾을 수 없습니다."));
+                boolean isOwner = group.getOwner().getId().equals(currentUser.getId());
+                boolean isAdmin = isOwner || groupMemberRepository.findByGroupIdAndUserId(group.getId(), currentUser.getId())
+                        .map(GroupMember::isAdmin)
+                        .orElse(false);
+                if (!isAdmin) {
+                    throw new ApplicationUnauthorizedException("모임 관리자만 공지를 보낼 수 있습니다.");
+                }
+                return publishBroadcastNotice(NoticeAudience.GROUP_MEMBERS, group.getId(), currentUser.getId(),
+                        dto.getTitle(), dto.getMessage()).getId();
+            }
+            case FOLLOWERS -> {
+                return publishBroadcastNotice(NoticeAudience.FOLLOWERS, currentUser.getId(), currentUser.getId(),
+                        dto.getTitle(), dto.getMessage()).getId();
+            }
+            default -> throw new ApplicationUnauthorizedException("전체 공지는 관리자만 보낼 수 있습니다.");
+        }
+    }
+
     /**
      * 메시지 알림 생성 (채팅 메시지)
      */
@@ -200,28 +295,113 @@ public class NotificationService {
     @Transactional(readOnly = true)
     public Page<NotificationDTO> getNotifications(Pageable pageable) {
         Users currentUser = getCurrentUser();
-        Page<Notification> notifications = notificationRepository.findByUserIdOrderByCreatedTimeDesc(
-                currentUser.getId(), pageable);
-        
-        return notifications.map(this::convertToDTO);
+        LocalDateTime since = noticeSince(currentUser);
+
+        // 개인 알림과 브로드캐스트 공지를 각각 (offset + size)개까지 읽어 시간순으로 병합
+        int window = (int) pageable.getOffset() + pageable.getPageSize();
+        Page<NotificationDTO> notifications = notificationRepository.findDtoPageByUserId(
+                currentUser.getId(), PageRequest.of(0, window));
+        List<BroadcastNotice> notices = broadcastNoticeRepository.findVisibleToUser(
+                currentUser.getId(), since, PageRequest.of(0, window));
+        long lastReadNoticeId = getLastReadNoticeId(currentUser.getId());
+
+        List<NotificationDTO> merged = new ArrayList<>(notifications.getNumberOfElements() + notices.size());
+        merged.addAll(notifications.getContent());
+        notices.forEach(b -> merged.add(convertToDTO(b, lastReadNoticeId)));
+        merged.sort(NEWEST_FIRST);
+
+        List<NotificationDTO> content = merged.stream()
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .collect(Collectors.toList());
+
+        long total = notifications.getTotalElements()
+                + broadcastNoticeRepository.countVisibleToUser(currentUser.getId(), since);
+        return new PageImpl<>(content, pageable, total);
     }
 
     /**
-     * 읽지 않은 알림 개수 조회
+     * 사용자의 알림 목록 조회 (커서 기반)
+     * 개인 알림과 브로드캐스트 공지를 각각 ID 커서로 size + 1개만 읽어 병합하므로
+     * 페이지 위치와 관계없이 인덱스 범위 조회 한 번씩으로 끝난다.
+     */
+    @Transactional(readOnly = true)
+    public NotificationCursorPageDTO getNotificationsBefore(Long before, Long beforeNotice, int size) {
+        Users currentUser = getCurrentUser();
+        int pageSize = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+        long personalCursor = before != null ? before : Long.MAX_VALUE;
+        long noticeCursor = beforeNotice != null ? beforeNotice : Long.MAX_VALUE;
+
+        List<NotificationDTO> notifications = notificationRepository.findDtosByUserIdBefore(
+                currentUser.getId(), personalCursor, PageRequest.of(0, pageSize + 1));
+        List<BroadcastNotice> notices = broadcastNoticeRepository.findVisibleToUserBefore(
+                currentUser.getId(), noticeSince(currentUser), noticeCursor, PageRequest.of(0, pageSize + 1));
+        long lastReadNoticeId = notices.isEmpty() ? 0L : getLastReadNoticeId(currentUser.getId());
+
+        List<NotificationDTO> merged = new ArrayList<>(notifications.size() + notices.size());
+        merged.addAll(notifications);
+        notices.forEach(b -> merged.add(convertToDTO(b, lastReadNoticeId)));
+        merged.sort(NEWEST_FIRST);
+
+        boolean hasNext = merged.size() > pageSize;
+        List<NotificationDTO> content = hasNext ? new ArrayList<>(merged.subList(0, pageSize)) : merged;
+
+        // 이번 페이지에서 소비한 가장 오래된 ID가 각 소스의 다음 커서가 된다
+        for (NotificationDTO dto : content) {
+            if (dto.isBroadcast()) {
+                noticeCursor = Math.min(noticeCursor, dto.getId());
+            } else {
+                personalCursor = Math.min(personalCursor, dto.getId());
+            }
+        }
+
+        return new NotificationCursorPageDTO(
+                content,
+                personalCursor == Long.MAX_VALUE ? null : personalCursor,
+                noticeCursor == Long.MAX_VALUE ? null : noticeCursor,
+                hasNext);
+    }
+
+    /**
+     * 읽지 않은 알림 개수 조회 (브로드캐스트 공지 포함)
      */
     @Transactional(readOnly = true)
     public long getUnreadCount() {
         Users currentUser = getCurrentUser();
-        return notificationRepository.countByUserIdAndIsReadFalse(currentUser.getId());
+        long personal = notificationRepository.countByUserIdAndIsReadFalse(currentUser.getId());
+        long broadcast = broadcastNoticeRepository.countVisibleToUserAfter(
+                currentUser.getId(), noticeSince(currentUser), getLastReadNoticeId(currentUser.getId()));
+        return personal + broadcast;
     }
 
     /**
-     * 모든 알림을 읽음 처리
+     * 모든 알림을 읽음 처리 (브로드캐스트 공지는 읽음 위치만 갱신)
      */
     @Transactional
     public void markAllAsRead() {
         Users currentUser = getCurrentUser();
         notificationRepository.markAllAsReadByUserId(currentUser.getId());
+
+        Long latestNoticeId = broadcastNoticeRepository.findMaxVisibleIdForUser(
+                currentUser.getId(), noticeSince(currentUser));
+        if (latestNoticeId != null) {
+            advanceNoticeReadStatus(currentUser, latestNoticeId);
+        }
+    }
+
+    /**
+     * 브로드캐스트 공지를 읽음 처리 (해당 공지까지 읽은 것으로 간주)
+     * 본인에게 보이는 공지만 가능 (보이지 않는 최신 공지 ID로 읽음 위치를 앞당기지 못하도록)
+     */
+    @Transactional
+    public NotificationDTO markBroadcastAsRead(Long noticeId) {
+        Users currentUser = getCurrentUser();
+        BroadcastNotice notice = broadcastNoticeRepository.findVisibleToUserById(
+                        currentUser.getId(), noticeSince(currentUser), noticeId)
+                .orElseThrow(() -> new ResourceNotFoundException("공지를 찾을 수 없습니다."));
+
+        long lastReadNoticeId = advanceNoticeReadStatus(currentUser, notice.getId());
+        return convertToDTO(notice, lastReadNoticeId);
     }
 
     /**
@@ -263,6 +443,48 @@ public class NotificationService {
         return notification.isRead();
     }
 
+    /** 브로드캐스트 공지 노출 시작 시점 (가입 이전 공지는 보이지 않음) */
+    private LocalDateTime noticeSince(Users user) {
+        return user.getCreatedDate() != null ? user.getCreatedDate() : EPOCH;
+    }
+
+    /** 사용자의 브로드캐스트 공지 읽음 위치 */
+    private long getLastReadNoticeId(Long userId) {
+        return broadcastNoticeReadStatusRepository.findByUserId(userId)
+                .map(BroadcastNoticeReadStatus::getLastReadNoticeId)
+                .orElse(0L);
+    }
+
+    /** 읽음 위치를 앞으로만 이동시키고 갱신된 값을 반환 (조건부 UPDATE, 행이 없을 때만 upsert → 동시 요청에도 뒤로 가지 않음) */
+    private long advanceNoticeReadStatus(Users user, Long noticeId) {
+        if (broadcastNoticeReadStatusRepository.advance(user.getId(), noticeId) == 0) {
+            broadcastNoticeReadStatusRepository.upsert(user.getId(), noticeId);
+        }
+        return broadcastNoticeReadStatusRepository.findLastReadNoticeId(user.getId()).orElse(noticeId);
+    }
+
+    /**
+     * BroadcastNotice 엔티티를 NotificationDTO로 변환
+     */
+    private NotificationDTO convertToDTO(BroadcastNotice notice, long lastReadNoticeId) {
+        NotificationDTO.NotificationDTOBuilder builder = NotificationDTO.builder()
+                .id(notice.getId())
+                .type(Notification.NotificationType.ADMIN_NOTICE)
+                .title(notice.getTitle())
+                .message(notice.getMessage())
+                .isRead(notice.getId() <= lastReadNoticeId)
+                .isBroadcast(true)
+                .createdTime(notice.getCreatedTime());
+
+        if (notice.getAudience() == NoticeAudience.GROUP_MEMBERS) {
+            builder.relatedGroupId(notice.getAudienceId());
+        } else if (notice.getAudience() == NoticeAudience.FOLLOWERS) {
+            builder.relatedUserId(notice.getAudienceId());
+        }
+
+        return builder.build();
+    }
+
     /**
      * Notification 엔티티를 NotificationDTO로 변환
      */
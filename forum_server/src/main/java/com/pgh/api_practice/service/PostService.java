@@ -2,6 +2,7 @@ package com.pgh.api_practice.service;
 
 import com.pgh.api_practice.dto.CreatePost;
 import com.pgh.api_practice.dto.PatchPostDTO;
+import com.pgh.api_practice.dto.PostCursorPageDTO;
 import com.pgh.api_practice.dto.PostDetailDTO;
 import com.pgh.api_practice.dto.PostListDTO;
 import com.pgh.api_practice.entity.Group;
@@ -13,6 +14,7 @@ import com.pgh.api_practice.entity.Tag;
 import com.pgh.api_practice.entity.Users;
 import com.pgh.api_practice.exception.ApplicationUnauthorizedException;
 import com.pgh.api_practice.exception.ResourceNotFoundException;
+import com.pgh.api_practice.repository.FollowRepository;
 import com.pgh.api_practice.repository.GroupMemberRepository;
 import com.pgh.api_practice.repository.GroupPostRepository;
 import com.pgh.api_practice.repository.GroupPostTagRepository;
@@ -32,14 +34,20 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 @AllArgsConstructor
 public class PostService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 50;
+
     private final PostRepository postRepository;
     private final UserRepository userRepository;
     private final PostLikeRepository postLikeRepository;
@@ -50,6 +58,9 @@ public class PostService {
     private final GroupPostRepository groupPostRepository;
     private final GroupPostTagRepository groupPostTagRepository;
     private final NotificationService notificationService;
+    private final UploadReferenceService uploadReferenceService;
+    private final TimelineService timelineService;
+    private final FollowRepository followRepository;
 
     /** ✅ 게시글 저장 */
     @Transactional
@@ -94,12 +105,17 @@ public class PostService {
         Post post = postBuilder.build();
 
         Post created = postRepository.save(post);
+        uploadReferenceService.acquire(created.getProfileImageUrl());
+        uploadReferenceService.acquireEmbedded(created.getBody());
 
         // 태그 저장
         if (dto.getTags() != null && !dto.getTags().isEmpty()) {
             saveTags(created, dto.getTags());
         }
 
+        // 팔로워 타임라인에 추가
+        timelineService.onPostCreated(created);
+
         return created.getId();
     }
 
@@ -328,6 +344,86 @@ public class PostService {
         return new PageImpl<>(pagedPosts, pageable, allPosts.size());
     }
 
+    /**
+     * ✅ 팔로잉 타임라인 (커서 기반, 최신순)
+     * 게시글 ID 커서(before)로 페이지 크기만큼만 읽고, 좋아요 수와 태그도 페이지 단위로 한 번에 조회한다.
+     * 언팔로우한 작성자의 게시글이나 삭제/비공개로 바뀐 게시글은 응답에서 제외된다.
+     */
+    @Transactional(readOnly = true)
+    public PostCursorPageDTO getFollowingTimeline(Long before, int size) {
+        var authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication.getName() == null
+                || "anonymousUser".equals(authentication.getName())) {
+            throw new ApplicationUnauthorizedException("인증이 필요합니다.");
+        }
+        Users viewer = userRepository.findByUsername(authentication.getName())
+                .orElseThrow(() -> new ResourceNotFoundException("유저를 찾을 수 없습니다."));
+
+        int pageSize = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+        List<Long> ids = timelineService.readPostIds(viewer.getId(), before != null ? before : Long.MAX_VALUE, pageSize + 1);
+        boolean hasNext = ids.size() > pageSize;
+        if (hasNext) {
+            ids = ids.subList(0, pageSize);
+        }
+        Long nextBefore = hasNext ? ids.get(ids.size() - 1) : null;
+        if (ids.isEmpty()) {
+            return new PostCursorPageDTO(List.of(), null, false);
+        }
+
+        Map<Long, Post> postsById = new HashMap<>();
+        for (Post post : postRepository.findAllWithUserAndGroupByIdIn(ids)) {
+            postsById.put(post.getId(), post);
+        }
+        Set<Long> authorIds = postsById.values().stream().map(p -> p.getUser().getId()).collect(Collectors.toSet());
+        Set<Long> followedAuthorIds = new HashSet<>(followRepository.findFollowingIdsAmong(viewer.getId(), authorIds));
+
+        Map<Long, Long> likeCounts = new HashMap<>();
+        for (Object[] row : postLikeRepository.countByPostIds(ids)) {
+            likeCounts.put((Long) row[0], (Long) row[1]);
+        }
+        Map<Long, List<String>> tagsByPostId = new HashMap<>();
+        for (Object[] row : postTagRepository.findTagNamesByPostIds(ids)) {
+            tagsByPostId.computeIfAbsent((Long) row[0], k -> new ArrayList<>()).add((String) row[1]);
+        }
+
+        List<PostListDTO> content = new ArrayList<>();
+        for (Long id : ids) {
+            Post post = postsById.get(id);
+            if (post == null || post.isDeleted() || (post.getGroup() != null && !post.isPublic())
+                    || !followedAuthorIds.contains(post.getUser().getId())) {
+                continue;
+            }
+
+            LocalDateTime updateTime = post.getUpdatedTime();
+            if (updateTime == null || updateTime.isBefore(post.getCreatedTime()) ||
+                    updateTime.isBefore(LocalDateTime.of(1970, 1, 2, 0, 0))) {
+                updateTime = post.getCreatedTime();
+            }
+
+            PostListDTO.PostListDTOBuilder builder = PostListDTO.builder()
+                    .id(post.getId())
+                    .title(post.getTitle())
+                    .username(post.getUser().getUsername())
+                    .views(post.getViews())
+                    .createDateTime(post.getCreatedTime())
+                    .updateDateTime(updateTime)
+                    .profileImageUrl(post.getProfileImageUrl())
+                    .likeCount(likeCounts.getOrDefault(id, 0L))
+                    .tags(tagsByPostId.getOrDefault(id, List.of()));
+
+            // 모임 정보 추가
+            if (post.getGroup() != null) {
+                builder.groupId(post.getGroup().getId())
+                        .groupName(post.getGroup().getName())
+                        .isPublic(post.isPublic());
+            }
+
+            content.add(builder.build());
+        }
+
+        return new PostCursorPageDTO(content, nextBefore, hasNext);
+    }
+
     /** ✅ 내 게시글 목록 (posts + group_posts) */
     @Transactional(readOnly = true)
     public Page<PostListDTO> getMyPostList(Pageable pageable, String sortType, String groupFilter) {
@@ -801,6 +897,9 @@ public class PostService {
 
         post.setDeleted(true);
         postRepository.save(post);
+        uploadReferenceService.release(post.getProfileImageUrl());
+        uploadReferenceService.releaseEmbedded(post.getBody());
+        timelineService.onPostDeleted(post.getId());
     }
 
     /** ✅ 게시글 수정 */
@@ -828,6 +927,7 @@ public class PostService {
         // 내용이 실제로 변경되었는지 확인
         boolean isModified = false;
         if (dto.getBody() != null && !dto.getBody().equals(post.getBody())) {
+            uploadReferenceService.replaceEmbedded(post.getBody(), dto.getBody());
             post.setBody(dto.getBody());
             isModified = true;
         }
@@ -836,6 +936,7 @@ public class PostService {
             isModified = true;
         }
         if (dto.getProfileImageUrl() != null && !dto.getProfileImageUrl().equals(post.getProfileImageUrl())) {
+            uploadReferenceService.replace(post.getProfileImageUrl(), dto.getProfileImageUrl());
             post.setProfileImageUrl(dto.getProfileImageUrl());
             isModified = true;
         }
@@ -0,0 +1,170 @@
+package com.pgh.api_practice.service;
+
+import com.pgh.api_practice.entity.RefreshToken;
+import com.pgh.api_practice.exception.RefreshTokenExpiredException;
+import com.pgh.api_practice.exception.ResourceNotFoundException;
+import com.pgh.api_practice.repository.RefreshTokenRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 리프레시 토큰 저장/회전/폐기
+ * - 조회는 token_hash 유니크 인덱스 한 번
+ * - 이미 회전된(사용된) 토큰이 다시 제출되면 탈취로 보고 해당 family 전체를 폐기
+ * - 사용자당 활성 세션은 maxSessionsPerUser개로 제한하고, 만료된 행은 주기적으로 청크 단위 삭제
+ */
+@Slf4j
+@Service
+public class RefreshTokenService {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final long validityDays;
+    private final int maxSessionsPerUser;
+    private final boolean purgeEnabled;
+    private final int purgeBatchSize;
+
+    public RefreshTokenService(
+            RefreshTokenRepository refreshTokenRepository,
+            @Value("${app.auth.refresh-token.validity-days:7}") long validityDays,
+            @Value("${app.auth.refresh-token.max-sessions-per-user:10}") int maxSessionsPerUser,
+            @Value("${app.auth.refresh-token.purge.enabled:true}") boolean purgeEnabled,
+            @Value("${app.auth.refresh-token.purge.batch-size:1000}") int purgeBatchSize) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.validityDays = validityDays;
+        this.maxSessionsPerUser = maxSessionsPerUser;
+        this.purgeEnabled = purgeEnabled;
+        this.purgeBatchSize = purgeBatchSize;
+    }
+
+    /** 로그인 시 새 세션(family) 시작 */
+    @Transactional
+    public void startSession(Long userId, String refreshToken) {
+        String familyId = UUID.randomUUID().toString();
+        enforceSessionLimit(userId);
+        save(userId, familyId, refreshToken);
+    }
+
+    /**
+     * 리프레시 토큰 회전
+     * 제출된 토큰을 사용 처리하고 같은 family로 새 토큰을 저장한다.
+     * @param userId 토큰 클레임으로 확인한 사용자 ID (저장된 소유자와 다르면 회전하지 않고 family를 폐기)
+     */
+    @Transactional(noRollbackFor = RefreshTokenExpiredException.class)
+    public void rotate(String presentedToken, String newRefreshToken, Long userId) {
+        RefreshToken current = refreshTokenRepository.findByTokenHash(digest(presentedToken))
+                .orElseThrow(() -> new ResourceNotFoundException("리프레시 토큰을 찾을 수 없습니다."));
+
+        // 이미 회전된 토큰 재사용 → 탈취 가능성, 해당 세션 전체 폐기
+        if (current.isUsed()) {
+            int revoked = refreshTokenRepository.deleteByFamilyId(current.getFamilyId());
+            log.warn("리프레시 토큰 재사용 감지: userId={}, familyId={}, 폐기된 토큰 {}건",
+                    current.getUserId(), current.getFamilyId(), revoked);
+            throw new RefreshTokenExpiredException("이미 사용된 리프레시 토큰입니다. 다시 로그인해주세요.");
+        }
+
+        // 클레임의 사용자와 저장된 소유자가 다름 → 위조/오용으로 보고 새 토큰을 만들기 전에 세션 폐기
+        if (!current.getUserId().equals(userId)) {
+            refreshTokenRepository.deleteByFamilyId(current.getFamilyId());
+            log.warn("리프레시 토큰 소유자 불일치: ownerId={}, claimedUserId={}, familyId={}",
+                    current.getUserId(), userId, current.getFamilyId());
+            throw new RefreshTokenExpiredException("리프레시 토큰이 유효하지 않습니다.");
+        }
+
+        if (current.getExpiryDateTime().isBefore(LocalDateTime.now())) {
+            refreshTokenRepository.delete(current);
+            throw new RefreshTokenExpiredException("리프레시 토큰이 만료되었습니다.");
+        }
+
+        // 동시에 들어온 같은 토큰의 회전 요청은 하나만 성공
+        if (refreshTokenRepository.markUsed(current.getId()) == 0) {
+            throw new RefreshTokenExpiredException("이미 사용된 리프레시 토큰입니다. 다시 로그인해주세요.");
+        }
+
+        save(current.getUserId(), current.getFamilyId(), newRefreshToken);
+    }
+
+    /** 제출된 토큰이 속한 세션만 폐기 (로그아웃) */
+    @Transactional
+    public void revokeSession(String refreshToken) {
+        refreshTokenRepository.findByTokenHash(digest(refreshToken))
+                .ifPresent(token -> refreshTokenRepository.deleteByFamilyId(token.getFamilyId()));
+    }
+
+    /** 사용자의 모든 세션 폐기 */
+    @Transactional
+    public int revokeAllSessions(Long userId) {
+        return refreshTokenRepository.deleteByUserId(userId);
+    }
+
+    /**
+     * 만료된 리프레시 토큰 정리 (기본: 매일 새벽 4시)
+     * batchSize 단위로 나눠 청크마다 커밋
+     */
+    @Scheduled(cron = "${app.auth.refresh-token.purge.cron:0 0 4 * * *}")
+    public void purgeExpired() {
+        if (!purgeEnabled) {
+            return;
+        }
+
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            long total = 0;
+            while (true) {
+                List<Long> ids = refreshTokenRepository.findExpiredIds(now, PageRequest.of(0, purgeBatchSize));
+                if (ids.isEmpty()) {
+                    break;
+                }
+                total += refreshTokenRepository.deleteByIdIn(ids);
+                if (ids.size() < purgeBatchSize) {
+                    break;
+                }
+            }
+            log.info("만료된 리프레시 토큰 {}건 삭제", total);
+        } catch (Exception e) {
+            log.error("리프레시 토큰 정리 실패", e);
+        }
+    }
+
+    // 활성 세션이 상한에 도달했으면 가장 오래된 세션부터 폐기
+    private void enforceSessionLimit(Long userId) {
+        if (maxSessionsPerUser <= 0) {
+            return;
+        }
+        List<String> families = refreshTokenRepository.findActiveFamilyIdsOldestFirst(userId, LocalDateTime.now());
+        int overflow = families.size() - maxSessionsPerUser + 1;
+        for (int i = 0; i < overflow; i++) {
+            refreshTokenRepository.deleteByFamilyId(families.get(i));
+        }
+    }
+
+    private void save(Long userId, String familyId, String refreshToken) {
+        refreshTokenRepository.save(RefreshToken.builder()
+                .tokenHash(digest(refreshToken))
+                .userId(userId)
+                .familyId(familyId)
+                .expiryDateTime(LocalDateTime.now().plusDays(validityDays))
+                .build());
+    }
+
+    // 토큰 원문 대신 저장할 SHA-256 다이제스트 (hex 64자)
+    private String digest(String token) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(md.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package com.pgh.api_practice.service;
+
+import com.pgh.api_practice.entity.Post;
+import com.pgh.api_practice.repository.FollowRepository;
+import com.pgh.api_practice.repository.PostRepository;
+import com.pgh.api_practice.repository.TimelineEntryRepository;
+import com.pgh.api_practice.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 팔로잉 타임라인 (하이브리드 fan-out)
+ * - 팔로워 수가 fanoutThreshold 미만인 작성자의 새 게시글은 작성 시 모든 팔로워의 timeline_entries에 넣는다 (push)
+ * - 팔로워 수가 많은 작성자의 게시글은 넣지 않고, 읽을 때 그 작성자들의 최신 게시글을 함께 조회해 합친다 (pull)
+ * - pull 대상 작성자 목록은 메모리에 두고 주기적으로 갱신하며, 읽을 때는 그 작성자들에 대한 팔로우 여부만 확인한다
+ *   (사용자의 팔로우 전체를 users와 조인해 훑지 않는다)
+ * - 기준 근처에서 push/pull이 반복되지 않도록, 한 번 pull 대상이 된 작성자는 팔로워가 demoteThreshold 미만이 되어야 빠진다
+ * - pull 대상에서 빠진 작성자는 pull 기간에 쓴 게시글이 타임라인에 없으므로 최근 backfillPosts개를 팔로워 타임라인에 채운다
+ * - 두 목록 모두 게시글 ID 내림차순 커서로 limit개만 읽으므로 팔로우 수와 관계없이 페이지 크기만큼만 조회한다
+ * - 사용자별 타임라인은 최신 maxEntries개만 유지 (매일 정리)
+ */
+@Slf4j
+@Service
+public class TimelineService {
+
+    private final TimelineEntryRepository timelineEntryRepository;
+    private final FollowRepository followRepository;
+    private final PostRepository postRepository;
+    private final UserRepository userRepository;
+    private final long fanoutThreshold;
+    private final long demoteThreshold;
+    private final int backfillPosts;
+    private final int maxEntries;
+
+    // pull 대상 작성자 ID: 팔로워 수가 fanoutThreshold 이상이거나, 이미 대상이면서 demoteThreshold 이상
+    // (null이면 아직 읽지 못함 → 팔로우 목록에서 직접 조회)
+    private volatile Set<Long> pulledAuthors;
+
+    public TimelineService(
+            TimelineEntryRepository timelineEntryRepository,
+            FollowRepository followRepository,
+            PostRepository postRepository,
+            UserRepository userRepository,
+            @Value("${app.timeline.fanout-threshold:1000}") long fanoutThreshold,
+            @Value("${app.timeline.demote-threshold:800}") long demoteThreshold,
+            @Value("${app.timeline.backfill-posts:100}") int backfillPosts,
+            @Value("${app.timeline.max-entries:800}") int maxEntries) {
+        this.timelineEntryRepository = timelineEntryRepository;
+        this.followRepository = followRepository;
+        this.postRepository = postRepository;
+        this.userRepository = userRepository;
+        this.fanoutThreshold = fanoutThreshold;
+        this.demoteThreshold = Math.min(demoteThreshold, fanoutThreshold);
+        this.backfillPosts = backfillPosts;
+        this.maxEntries = maxEntries;
+    }
+
+    /** 새 게시글을 팔로워 타임라인에 추가 (외부 노출 게시글만, 팔로워가 많은 작성자는 읽을 때 합침) */
+    @Transactional
+    public void onPostCreated(Post post) {
+        if (post.getGroup() != null && !post.isPublic()) {
+            return;
+        }
+        if (isPulled(post.getUser().getId(), post.getUser().getFollowerCount())) {
+            addPulledAuthor(post.getUser().getId());
+            return;
+        }
+        LocalDateTime createdTime = post.getCreatedTime() != null ? post.getCreatedTime() : LocalDateTime.now();
+        timelineEntryRepository.fanOut(post.getId(), post.getUser().getId(), createdTime);
+    }
+
+    /** 삭제된 게시글을 타임라인에서 제거 */
+    @Transactional
+    public void onPostDeleted(Long postId) {
+        timelineEntryRepository.deleteByPostId(postId);
+    }
+
+    /**
+     * 사용자의 팔로잉 타임라인 게시글 ID (최신순, before 이전 최대 limit개)
+     * push된 항목과 팔로워가 많은 작성자의 게시글을 합쳐 중복 없이 돌려준다.
+     */
+    @Transactional(readOnly = true)
+    public List<Long> readPostIds(Long userId, long before, int limit) {
+        PageRequest page = PageRequest.of(0, limit);
+        TreeSet<Long> merged = new TreeSet<>(Comparator.reverseOrder());
+        merged.addAll(timelineEntryRepository.findPostIdsBefore(userId, before, page));
+
+        List<Long> followedAuthors = findFollowedPulledAuthors(userId);
+        if (!followedAuthors.isEmpty()) {
+            merged.addAll(postRepository.findPublicPostIdsByUserIdsBefore(followedAuthors, before, page));
+        }
+
+        List<Long> result = new ArrayList<>(Math.min(limit, merged.size()));
+        for (Long postId : merged) {
+            if (result.size() == limit) {
+                break;
+            }
+            result.add(postId);
+        }
+        return result;
+    }
+
+    /** 기동 시 pull 대상 작성자 목록 로드 */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        refreshPulledAuthors();
+    }
+
+    /** pull 대상 작성자 목록 갱신 (팔로워 수 변화 반영, 기본: 1분) */
+    @Scheduled(initialDelayString = "${app.timeline.pulled-authors.refresh-ms:60000}",
+            fixedDelayString = "${app.timeline.pulled-authors.refresh-ms:60000}")
+    public void refreshPulledAuthors() {
+        Set<Long> demoted;
+        try {
+            Set<Long> promoted = Set.copyOf(userRepository.findIdsWithFollowerCountAtLeast(fanoutThreshold));
+            Set<Long> retained = Set.copyOf(userRepository.findIdsWithFollowerCountAtLeast(demoteThreshold));
+            demoted = swapPulledAuthors(promoted, retained);
+        } catch (Exception e) {
+            log.error("타임라인 pull 대상 작성자 목록 갱신 실패", e);
+            return;
+        }
+        for (Long authorId : demoted) {
+            try {
+                backfill(authorId);
+            } catch (Exception e) {
+                log.error("타임라인 backfill 실패: authorId={}", authorId, e);
+            }
+        }
+    }
+
+    // 기준 이상인 작성자 + 기존 대상 중 demoteThreshold 이상인 작성자로 교체하고, 빠진 작성자를 돌려준다
+    // (기동 직후에는 이전 목록이 없으므로 demoteThreshold 이상을 모두 대상으로 본다 → 읽을 때 합치므로 누락 없음)
+    private synchronized Set<Long> swapPulledAuthors(Set<Long> promoted, Set<Long> retained) {
+        Set<Long> previous = pulledAuthors;
+        Set<Long> updated = new HashSet<>(promoted);
+        for (Long authorId : retained) {
+            if (previous == null || previous.contains(authorId)) {
+                updated.add(authorId);
+            }
+        }
+        pulledAuthors = Set.copyOf(updated);
+
+        if (previous == null) {
+            return Set.of();
+        }
+        Set<Long> demoted = new HashSet<>(previous);
+        demoted.removeAll(updated);
+        return demoted;
+    }
+
+    // pull 기간에 타임라인에 넣지 않은 최근 게시글을 팔로워 타임라인에 채움 (팔로워 수가 demoteThreshold 미만이라 비용이 제한됨)
+    private void backfill(Long authorId) {
+        List<Long> postIds = postRepository.findPublicPostIdsByUserIdsBefore(
+                List.of(authorId), Long.MAX_VALUE, PageRequest.of(0, backfillPosts));
+        if (postIds.isEmpty()) {
+            return;
+        }
+        long inserted = 0;
+        for (Post post : postRepository.findAllWithUserAndGroupByIdIn(postIds)) {
+            LocalDateTime createdTime = post.getCreatedTime() != null ? post.getCreatedTime() : LocalDateTime.now();
+            inserted += timelineEntryRepository.backfill(post.getId(), authorId, createdTime);
+        }
+        log.info("타임라인 pull 대상에서 제외된 작성자 backfill: authorId={}, 게시글 {}건, 항목 {}건",
+                authorId, postIds.size(), inserted);
+    }
+
+    // 새 게시글을 push하지 않고 읽을 때 합칠 작성자인지 (목록을 아직 읽지 못했으면 fanoutThreshold만 확인)
+    private boolean isPulled(Long authorId, long followerCount) {
+        if (followerCount >= fanoutThreshold) {
+            return true;
+        }
+        Set<Long> authors = pulledAuthors;
+        return authors != null && followerCount >= demoteThreshold && authors.contains(authorId);
+    }
+
+    // 사용자가 팔로우하는 pull 대상 작성자 (작성자 수만큼 (follower_id, following_id) 유니크 인덱스만 확인)
+    private List<Long> findFollowedPulledAuthors(Long userId) {
+        Set<Long> authors = pulledAuthors;
+        if (authors == null) {
+            return followRepository.findFollowingIdsWithFollowerCountAtLeast(userId, demoteThreshold);
+        }
+        if (authors.isEmpty()) {
+            return List.of();
+        }
+        return followRepository.findFollowingIdsAmong(userId, authors);
+    }
+
+    // 방금 기준을 넘은 작성자의 게시글이 다음 갱신 전까지 빠지지 않도록 바로 추가
+    private synchronized void addPulledAuthor(Long authorId) {
+        Set<Long> authors = pulledAuthors;
+        if (authors == null || authors.contains(authorId)) {
+            return;
+        }
+        Set<Long> updated = new HashSet<>(authors);
+        updated.add(authorId);
+        pulledAuthors = Set.copyOf(updated);
+    }
+
+    /** 사용자별 상한(maxEntries)을 넘는 오래된 타임라인 항목 정리 (기본: 매일 새벽 5시) */
+    @Scheduled(cron = "${app.timeline.trim.cron:0 0 5 * * *}")
+    public void trim() {
+        try {
+            long deleted = 0;
+            for (Long userId : timelineEntryRepository.findUserIdsWithMoreThan(maxEntries)) {
+                // 최신 maxEntries개 중 가장 오래된 게시글 ID가 경계가 된다
+                List<Long> boundary = timelineEntryRepository.findPostIdsBefore(
+                        userId, Long.MAX_VALUE, PageRequest.of(maxEntries - 1, 1));
+                if (!boundary.isEmpty()) {
+                    deleted += timelineEntryRepository.deleteByUserIdAndPostIdBefore(userId, boundary.get(0));
+                }
+            }
+            if (deleted > 0) {
+                log.info("타임라인 정리 완료: {}건 삭제", deleted);
+            }
+        } catch (Exception e) {
+            log.error("타임라인 정리 실패", e);
+        }
+    }
+}
@@ -0,0 +1,295 @@
+package com.pgh.api_practice.service;
+
+import com.pgh.api_practice.repository.UploadRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 고아 업로드 파일 수거
+ * - 게시글/모임 게시글/댓글 본문, 프로필 이미지 URL, 채팅 fileUrl 컬럼을 id 순서로 batchSize씩 읽어 참조 중인 파일 집합을 만든다
+ * - 참조 집합과 테이블별 id 커서는 실행 사이에 유지하고, 다음 실행에서는 커서 이후에 추가된 행만 읽는다 (증분 스캔)
+ *   수정으로 바뀐 참조는 uploads.reference_count가 보호하며, 카운트가 없는 작은 테이블(모임/채팅방 이미지)은 매번 전체를 읽는다
+ *   삭제된 행의 참조가 집합에 남는 것은 fullScanHours마다 처음부터 다시 만드는 것으로 정리한다
+ * - 스케줄러 스레드를 점유하지 않도록 전용 스레드에서 실행한다 (이전 실행이 끝나지 않았으면 이번 실행은 건너뜀)
+ * - 업로드 디렉토리를 DirectoryStream으로 한 항목씩 훑으며, 참조되지 않고 graceHours보다 오래된 파일만 삭제
+ * - 파생본({sha256}_thumb.jpg 등)은 원본 해시가 참조되는 동안 유지된다
+ * - 한 번 실행에 maxDeletesPerRun개까지, 초당 deletesPerSecond개 속도로만 삭제하고 나머지는 다음 실행에서 이어서 처리
+ * - dryRun=true이면 삭제 대상만 집계/기록하고 실제로 지우지 않는다
+ */
+@Slf4j
+@Service
+public class UploadGarbageCollector {
+
+    private static final Pattern UPLOAD_REFERENCE = Pattern.compile("/uploads/([A-Za-z0-9_-]+\\.[A-Za-z0-9]+)");
+    private static final Pattern HASHED_FILE = Pattern.compile("^([0-9a-f]{64})(?:_[a-z]+)?\\.[a-z0-9]+$");
+
+    // 참조를 찾을 테이블과 컬럼 (삭제된 행은 참조로 치지 않는다). 새 행만 id 커서로 이어서 읽는 테이블
+    private static final Map<String, List<String>> INCREMENTAL_COLUMNS = Map.of(
+            "posts", List.of("body", "profile_image_url"),
+            "group_posts", List.of("body", "profile_image_url"),
+            "comments", List.of("body"),
+            "users", List.of("profile_image_url"),
+            "group_chat_messages", List.of("file_url"),
+            "direct_chat_messages", List.of("file_url")
+    );
+
+    // 참조 카운트 없이 수정되는 작은 테이블 (매 실행 전체를 읽는다)
+    private static final Map<String, List<String>> FULL_SCAN_COLUMNS = Map.of(
+            "user_groups", List.of("profile_image_url"),
+            "group_chat_rooms", List.of("profile_image_url")
+    );
+
+    private final UploadRepository uploadRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final Path uploadPath;
+    private final boolean enabled;
+    private final boolean dryRun;
+    private final Duration grace;
+    private final int batchSize;
+    private final int maxDeletesPerRun;
+    private final long deleteIntervalMillis;
+    private final Duration fullScanInterval;
+
+    private final ExecutorService executor;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    // 실행 사이에 유지하는 증분 스캔 상태 (수거 스레드에서만 접근)
+    private final Set<String> scannedReferences = new HashSet<>();
+    private final Map<String, Long> cursors = new HashMap<>();
+    private Instant lastFullScan;
+
+    private final Counter scannedCounter;
+    private final Counter candidateCounter;
+    private final Counter deletedCounter;
+    private final Counter deletedBytesCounter;
+    private final Timer runTimer;
+    private final AtomicLong referencedGauge = new AtomicLong();
+
+    public UploadGarbageCollector(
+            UploadRepository uploadRepository,
+            JdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${app.upload.dir:C:/app-data/uploads}") String uploadDir,
+            @Value("${app.upload.gc.enabled:true}") boolean enabled,
+            @Value("${app.upload.gc.dry-run:true}") boolean dryRun,
+            @Value("${app.upload.gc.grace-hours:48}") long graceHours,
+            @Value("${app.upload.gc.batch-size:1000}") int batchSize,
+            @Value("${app.upload.gc.max-deletes-per-run:500}") int maxDeletesPerRun,
+            @Value("${app.upload.gc.deletes-per-second:20}") int deletesPerSecond,
+            @Value("${app.upload.gc.full-scan-hours:24}") long fullScanHours) {
+        this.uploadRepository = uploadRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.uploadPath = Paths.get(uploadDir);
+        this.enabled = enabled;
+        this.dryRun = dryRun;
+        this.grace = Duration.ofHours(graceHours);
+        this.batchSize = batchSize;
+        this.maxDeletesPerRun = maxDeletesPerRun;
+        this.deleteIntervalMillis = deletesPerSecond > 0 ? 1000L / deletesPerSecond : 0;
+        this.fullScanInterval = Duration.ofHours(fullScanHours);
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "upload-gc");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.NORM_PRIORITY - 1);
+            return thread;
+        });
+
+        this.scannedCounter = meterRegistry.counter("upload.gc.scanned");
+        this.candidateCounter = meterRegistry.counter("upload.gc.candidates");
+        this.deletedCounter = meterRegistry.counter("upload.gc.deleted");
+        this.deletedBytesCounter = meterRegistry.counter("upload.gc.deleted.bytes");
+        this.runTimer = meterRegistry.timer("upload.gc.duration");
+        meterRegistry.gauge("upload.gc.referenced", referencedGauge);
+    }
+
+    /** 고아 파일 수거 (기본: 매시 15분, 실제 작업은 전용 스레드에서) */
+    @Scheduled(cron = "${app.upload.gc.cron:0 15 * * * *}")
+    public void collect() {
+        if (!enabled || !Files.isDirectory(uploadPath)) {
+            return;
+        }
+        if (!running.compareAndSet(false, true)) {
+            log.info("이전 고아 업로드 파일 수거가 아직 진행 중이라 이번 실행은 건너뜀");
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    runTimer.record(() -> {
+                        try {
+                            run();
+                        } catch (Exception e) {
+                            log.error("고아 업로드 파일 수거 실패", e);
+                        }
+                    });
+                } finally {
+                    running.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            running.set(false);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void run() throws IOException {
+        // 참조 집합을 만들기 전에 기준 시각을 정해, 그 이후 올라온 파일은 유예 기간으로 보호
+        Instant cutoff = Instant.now().minus(grace);
+        Set<String> referenced = collectReferences();
+        referencedGauge.set(referenced.size());
+
+        long scanned = 0;
+        long candidates = 0;
+        long deleted = 0;
+        long deletedBytes = 0;
+
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(uploadPath)) {
+            for (Path file : stream) {
+                String filename = file.getFileName().toString();
+                // 임시 파일(.upload-*, .derivative-*)과 청크 업로드 디렉토리(.partial)는 건너뜀
+                if (filename.startsWith(".")) {
+                    continue;
+                }
+                BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                if (!attributes.isRegularFile()) {
+                    continue;
+                }
+                scanned++;
+                scannedCounter.increment();
+
+                if (referenced.contains(referenceKey(filename))
+                        || attributes.lastModifiedTime().toInstant().isAfter(cutoff)) {
+                    continue;
+                }
+
+                candidates++;
+                candidateCounter.increment();
+                if (dryRun) {
+                    log.info("[dry-run] 고아 업로드 파일: {} ({} bytes)", filename, attributes.size());
+                    continue;
+                }
+
+                // uploads 테이블에 참조 카운트가 남아 있으면 등록 정보 삭제가 0건 → 파일도 남긴다
+                if (uploadRepository.findByStoredFilename(filename).isPresent()
+                        && uploadRepository.deleteUnreferenced(filename) == 0) {
+                    continue;
+                }
+                if (Files.deleteIfExists(file)) {
+                    deleted++;
+                    deletedBytes += attributes.size();
+                    deletedCounter.increment();
+                    deletedBytesCounter.increment(attributes.size());
+                }
+
+                if (deleted >= maxDeletesPerRun) {
+                    log.info("고아 업로드 파일 삭제 상한({}) 도달, 나머지는 다음 실행에서 처리", maxDeletesPerRun);
+                    break;
+                }
+                pause();
+            }
+        }
+
+        log.info("고아 업로드 파일 수거 완료{}: 검사 {}개, 참조 {}개, 대상 {}개, 삭제 {}개 ({} bytes)",
+                dryRun ? " (dry-run)" : "", scanned, referenced.size(), candidates, deleted, deletedBytes);
+    }
+
+    /**
+     * 참조 중인 파일 키 집합 (해시 파일은 해시, 그 외에는 파일명)
+     * 증분 테이블은 지난 실행의 커서 이후 행만 읽어 누적 집합에 더하고, fullScanInterval마다 처음부터 다시 만든다.
+     */
+    private Set<String> collectReferences() {
+        Instant now = Instant.now();
+        if (lastFullScan == null || lastFullScan.plus(fullScanInterval).isBefore(now)) {
+            scannedReferences.clear();
+            cursors.clear();
+            lastFullScan = now;
+        }
+        INCREMENTAL_COLUMNS.forEach((table, columns) ->
+                cursors.put(table, scanTable(table, columns, cursors.getOrDefault(table, 0L), scannedReferences)));
+
+        Set<String> referenced = new HashSet<>(scannedReferences);
+        FULL_SCAN_COLUMNS.forEach((table, columns) -> scanTable(table, columns, 0L, referenced));
+        for (String filename : uploadRepository.findReferencedFilenames()) {
+            referenced.add(referenceKey(filename));
+        }
+        return referenced;
+    }
+
+    // id 기준 키셋 페이지로 batchSize씩 읽어 긴 쿼리/큰 결과셋을 피한다 (마지막으로 읽은 id 반환)
+    private long scanTable(String table, List<String> columns, long fromId, Set<String> referenced) {
+        String sql = "SELECT id, " + String.join(", ", columns) + " FROM " + table +
+                " WHERE id > ? AND is_deleted = 0 ORDER BY id LIMIT ?";
+        long lastId = fromId;
+        while (true) {
+            List<Map<String, Object>> rows = jdbcTemplate.queryForList(sql, lastId, batchSize);
+            for (Map<String, Object> row : rows) {
+                for (String column : columns) {
+                    Object value = row.get(column);
+                    if (value != null) {
+                        extractReferences(value.toString(), referenced);
+                    }
+                }
+                lastId = ((Number) row.get("id")).longValue();
+            }
+            if (rows.size() < batchSize) {
+                return lastId;
+            }
+        }
+    }
+
+    private void extractReferences(String text, Set<String> referenced) {
+        Matcher matcher = UPLOAD_REFERENCE.matcher(text);
+        while (matcher.find()) {
+            referenced.add(referenceKey(matcher.group(1)));
+        }
+    }
+
+    // 원본과 파생본이 같은 키(해시)를 갖도록 정규화
+    private String referenceKey(String filename) {
+        Matcher matcher = HASHED_FILE.matcher(filename);
+        return matcher.matches() ? matcher.group(1) : filename;
+    }
+
+    private void pause() {
+        if (deleteIntervalMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(deleteIntervalMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
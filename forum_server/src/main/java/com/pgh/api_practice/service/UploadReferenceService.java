@@ -0,0 +1,118 @@
+package com.pgh.api_practice.service;
+
+import com.pgh.api_practice.global.ImageDerivatives;
+import com.pgh.api_practice.repository.UploadRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 업로드 파일 참조 카운트 관리
+ * 게시글 대표 이미지, 프로필 이미지, 채팅 파일 메시지가 /uploads/ URL을 저장하거나 바꾸거나 삭제할 때 호출한다.
+ * 게시글 본문에 삽입된 이미지는 본문에서 /uploads/ URL을 추출해 파일마다 한 번씩 센다.
+ * uploads 테이블에 없는 URL(외부 URL, 이전 방식 UUID 파일)은 무시한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class UploadReferenceService {
+
+    // 본문 속 업로드 URL (절대 URL이어도 경로 부분만 본다)
+    private static final Pattern EMBEDDED_UPLOAD = Pattern.compile("/uploads/([A-Za-z0-9_-]+\\.[A-Za-z0-9]+)");
+
+    private final UploadRepository uploadRepository;
+
+    /** URL 참조 추가 */
+    @Transactional
+    public void acquire(String url) {
+        String filename = toFilename(url);
+        if (filename != null) {
+            uploadRepository.incrementReference(filename);
+        }
+    }
+
+    /** URL 참조 해제 */
+    @Transactional
+    public void release(String url) {
+        String filename = toFilename(url);
+        if (filename != null) {
+            uploadRepository.decrementReference(filename);
+        }
+    }
+
+    /** 참조 대상 변경 (같은 URL이면 아무것도 하지 않음) */
+    @Transactional
+    public void replace(String oldUrl, String newUrl) {
+        if (Objects.equals(oldUrl, newUrl)) {
+            return;
+        }
+        release(oldUrl);
+        acquire(newUrl);
+    }
+
+    /** 본문에 삽입된 업로드 파일 참조 추가 */
+    @Transactional
+    public void acquireEmbedded(String body) {
+        for (String filename : embeddedFilenames(body)) {
+            uploadRepository.incrementReference(filename);
+        }
+    }
+
+    /** 본문에 삽입된 업로드 파일 참조 해제 */
+    @Transactional
+    public void releaseEmbedded(String body) {
+        for (String filename : embeddedFilenames(body)) {
+            uploadRepository.decrementReference(filename);
+        }
+    }
+
+    /** 본문 수정 시 빠진 파일만 해제하고 새로 들어온 파일만 추가 */
+    @Transactional
+    public void replaceEmbedded(String oldBody, String newBody) {
+        if (Objects.equals(oldBody, newBody)) {
+            return;
+        }
+        Set<String> before = embeddedFilenames(oldBody);
+        Set<String> after = embeddedFilenames(newBody);
+        for (String filename : before) {
+            if (!after.contains(filename)) {
+                uploadRepository.decrementReference(filename);
+            }
+        }
+        for (String filename : after) {
+            if (!before.contains(filename)) {
+                uploadRepository.incrementReference(filename);
+            }
+        }
+    }
+
+    // 본문 속 /uploads/ 파일명 (같은 파일이 여러 번 나와도 한 번만)
+    static Set<String> embeddedFilenames(String body) {
+        Set<String> filenames = new LinkedHashSet<>();
+        if (body == null || body.isEmpty()) {
+            return filenames;
+        }
+        Matcher matcher = EMBEDDED_UPLOAD.matcher(body);
+        while (matcher.find()) {
+            filenames.add(matcher.group(1));
+        }
+        return filenames;
+    }
+
+    // /uploads/{filename} → filename (하위 경로나 다른 URL이면 null)
+    static String toFilename(String url) {
+        if (url == null || !url.startsWith(ImageDerivatives.URL_PREFIX)) {
+            return null;
+        }
+        String filename = url.substring(ImageDerivatives.URL_PREFIX.length());
+        if (filename.isEmpty() || filename.contains("/") || filename.contains("\\") || filename.contains("..")) {
+            return null;
+        }
+        return filename;
+    }
+}
@@ -0,0 +1,232 @@
+package com.pgh.api_practice.service;
+
+import com.pgh.api_practice.entity.Upload;
+import com.pgh.api_practice.entity.Users;
+import com.pgh.api_practice.exception.ApplicationBadRequestException;
+import com.pgh.api_practice.exception.ApplicationUnauthorizedException;
+import com.pgh.api_practice.exception.ResourceNotFoundException;
+import com.pgh.api_practice.global.ImageDerivatives;
+import com.pgh.api_practice.global.ImageInfo;
+import com.pgh.api_practice.repository.AuthRepository;
+import com.pgh.api_practice.repository.UploadRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * 업로드 파일 저장 (내용 주소 기반, 중복 제거)
+ * - 임시 파일에 쓰면서 SHA-256을 계산하고, 같은 해시가 이미 저장되어 있으면 임시 파일만 버린다
+ * - 새 내용이면 {sha256}.{ext} 이름으로 원자적으로 이동하고 uploads 테이블에 등록
+ * - 같은 해시가 다른 확장자로 다시 올라와도 처음 등록된 파일명을 그대로 쓴다 (해시당 파일 하나)
+ * - 참조 카운트는 UploadReferenceService가 관리하며, 참조 중인 파일은 삭제할 수 없다
+ */
+@Slf4j
+@Service
+public class UploadStorageService {
+
+    private final UploadRepository uploadRepository;
+    private final AuthRepository authRepository;
+    private final Path uploadPath;
+
+    public UploadStorageService(
+            UploadRepository uploadRepository,
+            AuthRepository authRepository,
+            @Value("${app.upload.dir:C:/app-data/uploads}") String uploadDir) {
+        this.uploadRepository = uploadRepository;
+        this.authRepository = authRepository;
+        this.uploadPath = Paths.get(uploadDir);
+    }
+
+    /**
+     * 업로드 파일을 저장하고 저장된 파일명을 반환
+     * 임시 파일로 복사하면서 SHA-256을 함께 계산하므로 업로드 스트림은 한 번만 읽는다.
+     * @param extension 점 없는 확장자 (예: jpg)
+     * @param image 이미지 헤더 정보 (이미지가 아니면 null)
+     */
+    public String store(MultipartFile file, String extension, String contentType, ImageInfo image, String username)
+            throws IOException {
+        Files.createDirectories(uploadPath);
+        Path temp = Files.createTempFile(uploadPath, ".upload-", ".tmp");
+        try {
+            MessageDigest digest = sha256();
+            try (InputStream in = new DigestInputStream(file.getInputStream(), digest);
+                 OutputStream out = Files.newOutputStream(temp)) {
+                in.transferTo(out);
+            }
+            String hash = HexFormat.of().formatHex(digest.digest());
+            String filename = storedFilenameFor(hash, extension);
+            Path target = uploadPath.resolve(filename);
+
+            if (Files.exists(target)) {
+                touch(target);
+                log.info("이미 저장된 파일 재사용: {}", filename);
+            } else {
+                moveIntoPlace(temp, target);
+                log.info("파일 저장 성공: {} (크기: {} bytes)", target, file.getSize());
+            }
+
+            register(hash, filename, contentType, file.getSize(), image, username);
+            return filename;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * 이미 디스크에 있는 파일(청크 업로드 결과 등)을 내용 주소 저장소로 옮기고 저장된 파일명을 반환
+     * 같은 내용이 이미 있으면 원본 파일은 삭제한다.
+     */
+    public String adopt(Path file, String hash, String extension, String contentType, long size, ImageInfo image,
+                        String username) throws IOException {
+        String filename = storedFilenameFor(hash, extension);
+        Path target = uploadPath.resolve(filename);
+
+        if (Files.exists(target)) {
+            Files.deleteIfExists(file);
+            touch(target);
+            log.info("이미 저장된 파일 재사용: {}", filename);
+        } else {
+            moveIntoPlace(file, target);
+            Files.deleteIfExists(file);
+            log.info("파일 저장 성공: {} (크기: {} bytes)", target, size);
+        }
+
+        register(hash, filename, contentType, size, image, username);
+        return filename;
+    }
+
+    /**
+     * 업로드 파일 삭제 (업로더 본인만, 참조 중이 아닐 때만)
+     * 다른 사용자도 같은 내용을 올린 공유 파일은 삭제할 수 없다 (참조가 없어지면 고아 파일 수거가 정리).
+     * uploads 테이블에 없는 이전 방식 파일은 기존처럼 바로 삭제한다.
+     */
+    public void delete(String filename, String username) throws IOException {
+        if (filename.contains("..") || filename.contains("/") || filename.contains("\\")) {
+            throw new ApplicationBadRequestException("잘못된 파일명입니다.");
+        }
+
+        Path filePath = uploadPath.resolve(filename);
+        Upload upload = uploadRepository.findByStoredFilename(filename).orElse(null);
+
+        if (upload != null) {
+            Users user = authRepository.findByUsername(username)
+                    .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다."));
+            if (upload.getUploaderId() == null) {
+                throw new ApplicationBadRequestException("다른 사용자와 공유된 파일은 삭제할 수 없습니다.");
+            }
+            if (!upload.getUploaderId().equals(user.getId())) {
+                throw new ApplicationUnauthorizedException("업로드한 사용자만 삭제할 수 있습니다.");
+            }
+            // 참조 카운트/업로더 확인과 삭제를 한 번에 (그 사이 참조나 공유가 생겼으면 0건 → 파일 유지)
+            if (uploadRepository.deleteOwnedUnreferenced(filename, user.getId()) == 0) {
+                throw new ApplicationBadRequestException("사용 중이거나 다른 사용자와 공유된 파일은 삭제할 수 없습니다.");
+            }
+        } else if (!Files.exists(filePath)) {
+            throw new ResourceNotFoundException("파일을 찾을 수 없습니다.");
+        }
+
+        Files.deleteIfExists(filePath);
+        String hash = ImageDerivatives.hashOf(filename);
+        if (hash != null) {
+            Files.deleteIfExists(uploadPath.resolve(ImageDerivatives.variantFilename(hash, ImageDerivatives.THUMB)));
+            Files.deleteIfExists(uploadPath.resolve(ImageDerivatives.variantFilename(hash, ImageDerivatives.MEDIUM)));
+        }
+        log.info("이미지 삭제 성공: {}", filename);
+    }
+
+    public Path resolve(String filename) {
+        return uploadPath.resolve(filename);
+    }
+
+    /** 콘텐츠 해시로 원본 저장 파일명 조회 (파생본이 아직 없을 때 원본으로 대신 응답) */
+    public Optional<String> findStoredFilename(String hash) {
+        return uploadRepository.findByContentHash(hash).map(Upload::getStoredFilename);
+    }
+
+    // 이미 등록된 해시면 등록된 파일명을 재사용해 확장자만 다른 미등록 사본이 생기지 않게 한다
+    private String storedFilenameFor(String hash, String extension) {
+        return uploadRepository.findByContentHash(hash)
+                .map(Upload::getStoredFilename)
+                .orElse(hash + "." + extension);
+    }
+
+    // uploads 테이블 등록 (이미 있으면 그대로, 동시 등록 시 유니크 제약으로 한 건만 남음)
+    private void register(String hash, String filename, String contentType, long size, ImageInfo image, String username) {
+        Long uploaderId = authRepository.findByUsername(username).map(Users::getId).orElse(null);
+        Optional<Upload> existing = uploadRepository.findByContentHash(hash);
+        if (existing.isPresent()) {
+            // 다른 사용자가 올렸던 내용이면 공유 파일로 전환 (처음 올린 사용자가 이 사용자의 파일을 지우지 못하도록)
+            if (uploaderId == null || !uploaderId.equals(existing.get().getUploaderId())) {
+                uploadRepository.markShared(hash, uploaderId != null ? uploaderId : -1L);
+            }
+            // 이미지 정보가 없던 기존 행은 이번에 읽은 정보로 채운다
+            Upload upload = existing.get();
+            if (image != null && upload.getWidth() == null) {
+                applyImageInfo(upload, image);
+                uploadRepository.save(upload);
+            }
+            return;
+        }
+        Upload upload = Upload.builder()
+                .contentHash(hash)
+                .storedFilename(filename)
+                .contentType(contentType)
+                .size(size)
+                .uploaderId(uploaderId)
+                .build();
+        if (image != null) {
+            applyImageInfo(upload, image);
+        }
+        try {
+            uploadRepository.save(upload);
+        } catch (DataIntegrityViolationException e) {
+            // 같은 내용을 동시에 올린 다른 요청이 먼저 등록함 → 공유 파일로 취급
+            log.debug("업로드 동시 등록: {}", filename);
+            uploadRepository.markShared(hash, uploaderId != null ? uploaderId : -1L);
+        }
+    }
+
+    private void applyImageInfo(Upload upload, ImageInfo image) {
+        upload.setWidth(image.getWidth());
+        upload.setHeight(image.getHeight());
+        upload.setOrientation(image.getOrientation());
+    }
+
+    // 재사용된 파일은 수정 시각을 갱신해 고아 파일 수거의 유예 기간 동안 보호
+    private void touch(Path target) throws IOException {
+        Files.setLastModifiedTime(target, FileTime.fromMillis(System.currentTimeMillis()));
+    }
+
+    private void moveIntoPlace(Path temp, Path target) throws IOException {
+        try {
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException e) {
+            // 같은 내용을 동시에 올린 다른 요청이 먼저 저장함
+        }
+    }
+
+    private MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+}
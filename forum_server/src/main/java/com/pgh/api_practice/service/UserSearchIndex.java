@@ -0,0 +1,284 @@
+package com.pgh.api_practice.service;
+
+import com.pgh.api_practice.dto.MentionSuggestionDTO;
+import com.pgh.api_practice.entity.Users;
+import com.pgh.api_practice.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * 사용자 검색 인덱스 (인메모리, @멘션 자동완성/사용자 검색용)
+ * - 정규화한 아이디와 닉네임을 정렬된 맵에 보관하고 접두어 범위로 후보를 찾는다
+ * - 회원가입(이메일 인증 완료), 프로필 수정, 탈퇴 시 AuthService가 갱신하고, 팔로워 수 등은 주기적인 재구축으로 반영
+ * - 점수(아이디 일치 > 닉네임 일치 > 아이디 접두어 > 닉네임 접두어) 순, 같으면 팔로워 수가 많은 순으로 상위 limit명
+ * - 점수가 같으면 순위는 팔로워 수만으로 정해지므로, 접두어 범위에서는 인기순 상위 limit명만 후보로 보면 충분하다
+ *   후보가 많은 짧은 접두어(cachedPrefixLength자 이하)는 접두어별 인기순 상위 topSize명을 미리 유지해 범위 전체를 훑지 않는다
+ * 재구축/커밋 후 반영/준비 여부는 InMemorySearchIndex가 처리한다.
+ */
+@Component
+public class UserSearchIndex extends InMemorySearchIndex<UserSearchIndex.Doc, UserSearchIndex.Index> {
+
+    private static final int EXACT_USERNAME = 400;
+    private static final int EXACT_NICKNAME = 300;
+    private static final int PREFIX_USERNAME = 200;
+    private static final int PREFIX_NICKNAME = 100;
+
+    // 점수가 같을 때의 순위 (팔로워 수 많은 순 → 아이디가 짧은 순 → 먼저 가입한 순)
+    private static final Comparator<Doc> POPULARITY = Comparator.comparingLong(Doc::followerCount).reversed()
+            .thenComparingInt(doc -> doc.usernameKey().length())
+            .thenComparing(Doc::id);
+
+    private final UserRepository userRepository;
+    private final int cachedPrefixLength;
+    private final int topSize;
+
+    public UserSearchIndex(
+            UserRepository userRepository,
+            @Value("${app.user.search.rebuild-batch-size:1000}") int batchSize,
+            @Value("${app.user.search.cached-prefix-length:2}") int cachedPrefixLength,
+            @Value("${app.user.search.top-per-prefix:50}") int topSize) {
+        super("사용자 검색 인덱스", batchSize, new Index(cachedPrefixLength, topSize));
+        this.userRepository = userRepository;
+        this.cachedPrefixLength = cachedPrefixLength;
+        this.topSize = topSize;
+    }
+
+    /** 주기적 재구축 (팔로워 수 변화와 다른 노드에서 생긴 변경 반영, 기본: 10분) */
+    @Override
+    @Scheduled(initialDelayString = "${app.user.search.rebuild-interval-ms:600000}",
+            fixedDelayString = "${app.user.search.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        super.rebuild();
+    }
+
+    /** 이메일 인증 완료/프로필 수정 시 반영 (탈퇴했거나 인증 전이면 제거) */
+    public void put(Users user) {
+        if (user.isDeleted() || !user.isEmailVerified()) {
+            remove(user.getId());
+            return;
+        }
+        putDoc(user.getId(), toDoc(user.getId(), user.getUsername(), user.getNickname(),
+                user.getProfileImageUrl(), user.getFollowerCount()));
+    }
+
+    /** 탈퇴 시 반영 */
+    public void remove(Long userId) {
+        removeDoc(userId);
+    }
+
+    @Override
+    protected Index newIndex() {
+        return new Index(cachedPrefixLength, topSize);
+    }
+
+    @Override
+    protected List<Object[]> findRows(long lastId, Pageable pageable) {
+        return userRepository.findSearchRows(lastId, pageable);
+    }
+
+    @Override
+    protected Doc toDoc(Object[] row) {
+        return toDoc((Long) row[0], (String) row[1], (String) row[2], (String) row[3], (Long) row[4]);
+    }
+
+    /**
+     * 자동완성 후보 (점수순 상위 limit명)
+     * 검색어 앞의 '@'는 무시한다.
+     */
+    public List<MentionSuggestionDTO> suggest(String query, int limit) {
+        String key = normalize(query != null && query.startsWith("@") ? query.substring(1) : query);
+        if (key.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Map<Long, Integer> scores = new HashMap<>();
+            collect(index.usernames, index.topUsernames, Doc::usernameKey, key, limit, EXACT_USERNAME, PREFIX_USERNAME, scores);
+            collect(index.nicknames, index.topNicknames, Doc::nicknameKey, key, limit, EXACT_NICKNAME, PREFIX_NICKNAME, scores);
+
+            // 상위 limit명만 유지 (힙의 맨 앞이 가장 낮은 순위)
+            Comparator<Map.Entry<Long, Integer>> ranking = Comparator
+                    .<Map.Entry<Long, Integer>>comparingInt(Map.Entry::getValue)
+                    .thenComparing(e -> index.docs.get(e.getKey()), POPULARITY.reversed());
+            PriorityQueue<Map.Entry<Long, Integer>> top = new PriorityQueue<>(limit + 1, ranking);
+            for (Map.Entry<Long, Integer> entry : scores.entrySet()) {
+                top.offer(entry);
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+
+            List<MentionSuggestionDTO> result = new ArrayList<>(top.size());
+            while (!top.isEmpty()) {
+                Doc doc = index.docs.get(top.poll().getKey());
+                result.add(new MentionSuggestionDTO(doc.id(), doc.username(), doc.nickname(), doc.profileImageUrl()));
+            }
+            Collections.reverse(result);
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 한 맵에서 후보를 점수에 반영: 정확히 일치하는 사용자 전부 + 접두어 범위의 인기순 상위 limit명
+     * 같은 점수끼리는 인기순으로만 순위가 갈리므로, 범위에서 인기순 limit위 밖의 사용자는 최종 상위 limit명에 들 수 없다.
+     */
+    private void collect(TreeMap<String, Set<Long>> keys, Map<String, List<Doc>> tops, Function<Doc, String> keyOf,
+                         String prefix, int limit, int exactScore, int prefixScore, Map<Long, Integer> scores) {
+        Set<Long> exact = keys.get(prefix);
+        if (exact != null) {
+            exact.forEach(id -> scores.merge(id, exactScore, Math::max));
+        }
+
+        List<Doc> top;
+        if (limit <= topSize && prefix.codePointCount(0, prefix.length()) <= cachedPrefixLength) {
+            top = tops.getOrDefault(prefix, List.of());
+        } else {
+            top = index.rank(keys, prefix, limit);
+        }
+        for (Doc doc : top.subList(0, Math.min(limit, top.size()))) {
+            int score = keyOf.apply(doc).equals(prefix) ? exactScore : prefixScore;
+            scores.merge(doc.id(), score, Math::max);
+        }
+    }
+
+    private Doc toDoc(Long id, String username, String nickname, String profileImageUrl, Long followerCount) {
+        return new Doc(id, username, nickname, normalize(username), normalize(nickname), profileImageUrl,
+                followerCount != null ? followerCount : 0);
+    }
+
+    // 정규화 (NFKC, 소문자, 앞뒤 공백 제거)
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT).trim();
+    }
+
+    record Doc(Long id, String username, String nickname, String usernameKey, String nicknameKey,
+                       String profileImageUrl, long followerCount) {
+    }
+
+    /** 실제 색인 구조 (락은 바깥에서 잡는다) */
+    static class Index implements InMemorySearchIndex.Index<Doc> {
+        private final int prefixLength;
+        private final int topSize;
+        private final Map<Long, Doc> docs = new HashMap<>();
+        private final TreeMap<String, Set<Long>> usernames = new TreeMap<>();
+        private final TreeMap<String, Set<Long>> nicknames = new TreeMap<>();
+        // 짧은 접두어 → 인기순 상위 topSize명 (정렬 상태 유지)
+        private final Map<String, List<Doc>> topUsernames = new HashMap<>();
+        private final Map<String, List<Doc>> topNicknames = new HashMap<>();
+
+        Index(int prefixLength, int topSize) {
+            this.prefixLength = prefixLength;
+            this.topSize = topSize;
+        }
+
+        @Override
+        public void put(Doc doc) {
+            remove(doc.id());
+            docs.put(doc.id(), doc);
+            if (!doc.usernameKey().isEmpty()) {
+                usernames.computeIfAbsent(doc.usernameKey(), k -> new HashSet<>()).add(doc.id());
+                addTop(topUsernames, doc.usernameKey(), doc);
+            }
+            if (!doc.nicknameKey().isEmpty()) {
+                nicknames.computeIfAbsent(doc.nicknameKey(), k -> new HashSet<>()).add(doc.id());
+                addTop(topNicknames, doc.nicknameKey(), doc);
+            }
+        }
+
+        @Override
+        public void remove(Long id) {
+            Doc doc = docs.remove(id);
+            if (doc == null) {
+                return;
+            }
+            removePosting(usernames, doc.usernameKey(), id);
+            removePosting(nicknames, doc.nicknameKey(), id);
+            removeTop(topUsernames, usernames, doc.usernameKey(), doc);
+            removeTop(topNicknames, nicknames, doc.nicknameKey(), doc);
+        }
+
+        @Override
+        public int size() {
+            return docs.size();
+        }
+
+        /** 접두어 범위 전체에서 인기순 상위 n명 (정렬됨) */
+        List<Doc> rank(TreeMap<String, Set<Long>> keys, String prefix, int n) {
+            PriorityQueue<Doc> top = new PriorityQueue<>(n + 1, POPULARITY.reversed());
+            for (Set<Long> ids : keys.subMap(prefix, prefix + Character.MAX_VALUE).values()) {
+                for (Long id : ids) {
+                    top.offer(docs.get(id));
+                    if (top.size() > n) {
+                        top.poll();
+                    }
+                }
+            }
+            List<Doc> ranked = new ArrayList<>(top);
+            ranked.sort(POPULARITY);
+            return ranked;
+        }
+
+        private void addTop(Map<String, List<Doc>> tops, String key, Doc doc) {
+            for (String prefix : prefixes(key)) {
+                List<Doc> top = tops.computeIfAbsent(prefix, k -> new ArrayList<>());
+                int position = Collections.binarySearch(top, doc, POPULARITY);
+                int insertAt = position >= 0 ? position : -position - 1;
+                if (insertAt < topSize) {
+                    top.add(insertAt, doc);
+                    if (top.size() > topSize) {
+                        top.remove(top.size() - 1);
+                    }
+                }
+            }
+        }
+
+        private void removeTop(Map<String, List<Doc>> tops, TreeMap<String, Set<Long>> keys, String key, Doc doc) {
+            for (String prefix : prefixes(key)) {
+                List<Doc> top = tops.get(prefix);
+                if (top == null || !top.remove(doc)) {
+                    continue;
+                }
+                // 가득 차 있던 목록은 잘려 나간 사용자가 있을 수 있으므로 범위에서 다시 채운다
+                if (top.size() == topSize - 1) {
+                    top = rank(keys, prefix, topSize);
+                    tops.put(prefix, top);
+                }
+                if (top.isEmpty()) {
+                    tops.remove(prefix);
+                }
+            }
+        }
+
+        // 1자 ~ prefixLength자 접두어 (코드 포인트 단위)
+        private List<String> prefixes(String key) {
+            int length = Math.min(prefixLength, key.codePointCount(0, key.length()));
+            List<String> prefixes = new ArrayList<>(length);
+            for (int i = 1; i <= length; i++) {
+                prefixes.add(key.substring(0, key.offsetByCodePoints(0, i)));
+            }
+            return prefixes;
+        }
+
+        private static void removePosting(Map<String, Set<Long>> postings, String key, Long id) {
+            Set<Long> ids = postings.get(key);
+            if (ids != null) {
+                ids.remove(id);
+                if (ids.isEmpty()) {
+                    postings.remove(key);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,16 @@
+-- comments 테이블에 reply_count 컬럼과 대댓글 조회 인덱스 추가, 기존 데이터 채우기
+-- 실행 방법: MySQL에서 직접 실행하거나, Flyway/Liquibase 같은 마이그레이션 도구 사용
+-- 이후에는 대댓글 작성/삭제 시 애플리케이션이 원자적으로 증감한다
+
+ALTER TABLE comments ADD COLUMN reply_count INT NOT NULL DEFAULT 0;
+
+CREATE INDEX idx_comments_parent_created ON comments (parent_comment_id, is_deleted, create_datetime, id);
+
+UPDATE comments c
+JOIN (
+    SELECT parent_comment_id, COUNT(*) AS cnt
+    FROM comments
+    WHERE parent_comment_id IS NOT NULL AND is_deleted = 0
+    GROUP BY parent_comment_id
+) r ON r.parent_comment_id = c.id
+SET c.reply_count = r.cnt;
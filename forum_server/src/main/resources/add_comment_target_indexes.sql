@@ -0,0 +1,6 @@
+-- comments 테이블에 대상별(일반 게시글 / 모임 게시글) 스레드 조회 인덱스 추가
+-- 실행 방법: MySQL에서 직접 실행하거나, Flyway/Liquibase 같은 마이그레이션 도구 사용
+-- 댓글 조회가 post_id 또는 group_post_id 한쪽 조건으로만 나가므로 각 인덱스의 범위 스캔으로 처리된다
+
+CREATE INDEX idx_comments_post_thread ON comments (post_id, parent_comment_id, is_deleted, is_pinned, create_datetime);
+CREATE INDEX idx_comments_group_post_thread ON comments (group_post_id, parent_comment_id, is_deleted, is_pinned, create_datetime);
@@ -0,0 +1,8 @@
+-- follows 테이블에 팔로워/팔로잉 목록 커서 조회용 인덱스 추가
+-- 실행 방법: MySQL에서 직접 실행하거나, Flyway/Liquibase 같은 마이그레이션 도구 사용
+-- 커서 조건이 create_datetime을 쓰므로 값이 비어 있는 기존 행은 먼저 채운다
+
+UPDATE follows SET create_datetime = NOW() WHERE create_datetime IS NULL;
+
+CREATE INDEX idx_follows_following_created ON follows (following_id, create_datetime, id);
+CREATE INDEX idx_follows_follower_created ON follows (follower_id, create_datetime, id);
@@ -0,0 +1,8 @@
+-- user_groups 테이블에 member_count 컬럼 추가 및 기존 데이터 채우기
+-- 실행 방법: MySQL에서 직접 실행하거나, Flyway/Liquibase 같은 마이그레이션 도구 사용
+-- 이후에는 가입/탈퇴 시 애플리케이션이 원자적으로 증감한다
+
+ALTER TABLE user_groups ADD COLUMN member_count BIGINT NOT NULL DEFAULT 0;
+
+UPDATE user_groups g
+SET g.member_count = (SELECT COUNT(*) FROM group_members gm WHERE gm.group_id = g.id);
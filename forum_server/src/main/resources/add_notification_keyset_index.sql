@@ -0,0 +1,5 @@
+-- 알림 커서 기반 조회용 인덱스 추가 마이그레이션
+-- 실행 방법: MySQL에서 직접 실행하거나, Flyway/Liquibase 같은 마이그레이션 도구 사용
+
+-- (user_id, id) 복합 인덱스: WHERE user_id = ? AND id < ? ORDER BY id DESC 범위 조회
+CREATE INDEX idx_notifications_user_id_id ON notifications(user_id, id);
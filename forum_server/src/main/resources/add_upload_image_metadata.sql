@@ -0,0 +1,8 @@
+-- uploads 테이블에 이미지 메타데이터 컬럼 추가
+-- 실행 방법: MySQL에서 직접 실행하거나, Flyway/Liquibase 같은 마이그레이션 도구 사용
+-- 기존 행은 NULL로 남고, 같은 이미지가 다시 업로드되면 채워진다
+
+ALTER TABLE uploads
+    ADD COLUMN width INT NULL,
+    ADD COLUMN height INT NULL,
+    ADD COLUMN orientation INT NULL;
@@ -0,0 +1,10 @@
+-- users 테이블에 follower_count / following_count 컬럼 추가 및 기존 데이터 채우기
+-- 실행 방법: MySQL에서 직접 실행하거나, Flyway/Liquibase 같은 마이그레이션 도구 사용
+-- 이후에는 팔로우/언팔로우 시 애플리케이션이 원자적으로 증감하고, FollowCountReconciler가 매일 재계산한다
+
+ALTER TABLE users ADD COLUMN follower_count BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE users ADD COLUMN following_count BIGINT NOT NULL DEFAULT 0;
+
+UPDATE users u
+SET u.follower_count = (SELECT COUNT(*) FROM follows f WHERE f.following_id = u.id),
+    u.following_count = (SELECT COUNT(*) FROM follows f WHERE f.follower_id = u.id);
@@ -0,0 +1,5 @@
+-- users 테이블에 follower_count 인덱스 추가
+-- 실행 방법: MySQL에서 직접 실행하거나, Flyway/Liquibase 같은 마이그레이션 도구 사용
+-- 타임라인이 팔로워가 많은 작성자 목록을 주기적으로 읽을 때 전체 테이블을 훑지 않도록 한다
+
+CREATE INDEX idx_users_follower_count ON users (follower_count);
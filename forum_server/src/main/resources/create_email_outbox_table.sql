@@ -0,0 +1,18 @@
+-- 메일 outbox 테이블 생성
+-- 실행 방법: MySQL에서 직접 실행하거나, Flyway/Liquibase 같은 마이그레이션 도구 사용
+
+CREATE TABLE IF NOT EXISTS email_outbox (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    recipient VARCHAR(255) NOT NULL,
+    subject VARCHAR(255) NOT NULL,
+    body TEXT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    next_attempt_at DATETIME(6) NOT NULL,
+    locked_at DATETIME(6) NULL,
+    last_error VARCHAR(500) NULL,
+    sent_at DATETIME(6) NULL,
+    create_datetime DATETIME(6) NULL,
+    -- 워커 조회: WHERE status = 'PENDING' AND next_attempt_at <= ? ORDER BY id
+    INDEX idx_email_outbox_status_next_attempt (status, next_attempt_at, id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
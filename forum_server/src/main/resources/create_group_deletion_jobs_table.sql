@@ -0,0 +1,20 @@
+-- 모임 삭제 후속 정리 작업 테이블 생성
+-- 실행 방법: MySQL에서 직접 실행하거나, Flyway/Liquibase 같은 마이그레이션 도구 사용
+-- 이미 삭제된 모임도 작업으로 등록해 남아 있는 채팅/게시글/멤버십을 정리한다
+
+CREATE TABLE IF NOT EXISTS group_deletion_jobs (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    group_id BIGINT NOT NULL,
+    step VARCHAR(30) NOT NULL DEFAULT 'CHAT_MESSAGES',
+    cursor_id BIGINT NOT NULL DEFAULT 0,
+    processed_count BIGINT NOT NULL DEFAULT 0,
+    locked_until DATETIME(6) NULL,
+    completed_at DATETIME(6) NULL,
+    create_datetime DATETIME(6) NULL,
+    update_datetime DATETIME(6) NULL,
+    UNIQUE KEY uk_group_deletion_jobs_group_id (group_id),
+    INDEX idx_group_deletion_jobs_step (step, id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+INSERT IGNORE INTO group_deletion_jobs (group_id, create_datetime, update_datetime)
+SELECT id, NOW(6), NOW(6) FROM user_groups WHERE is_deleted = 1;
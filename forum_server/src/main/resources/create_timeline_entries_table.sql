@@ -0,0 +1,23 @@
+-- 팔로잉 타임라인 테이블 생성 및 작성자별 게시글 인덱스 추가
+-- 실행 방법: MySQL에서 직접 실행하거나, Flyway/Liquibase 같은 마이그레이션 도구 사용
+-- 최근 30일 게시글로 기존 팔로워 타임라인을 채운다 (팔로워가 많은 작성자 게시글이 함께 들어가도 읽을 때 중복 제거됨)
+
+CREATE TABLE IF NOT EXISTS timeline_entries (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    post_id BIGINT NOT NULL,
+    author_id BIGINT NOT NULL,
+    create_datetime DATETIME(6) NOT NULL,
+    UNIQUE KEY uk_timeline_entries_user_post (user_id, post_id),
+    INDEX idx_timeline_entries_post (post_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE INDEX idx_posts_user_id ON posts (user_id, id);
+
+INSERT IGNORE INTO timeline_entries (user_id, post_id, author_id, create_datetime)
+SELECT f.follower_id, p.id, p.user_id, p.create_datetime
+FROM posts p
+JOIN follows f ON f.following_id = p.user_id
+WHERE p.is_deleted = 0
+  AND (p.group_id IS NULL OR p.is_public = 1)
+  AND p.create_datetime >= NOW() - INTERVAL 30 DAY;
@@ -0,0 +1,26 @@
+-- 청크 업로드 세션 테이블 생성
+-- 실행 방법: MySQL에서 직접 실행하거나, Flyway/Liquibase 같은 마이그레이션 도구 사용
+-- 업로드 중인 파일은 {app.upload.dir}/.partial/{id}.part 에 기록된다
+
+CREATE TABLE IF NOT EXISTS upload_sessions (
+    id VARCHAR(36) PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    file_name VARCHAR(255) NOT NULL,
+    file_size BIGINT NOT NULL,
+    content_type VARCHAR(100) NULL,
+    chunk_size INT NOT NULL,
+    total_chunks INT NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'UPLOADING',
+    stored_filename VARCHAR(100) NULL,
+    expires_at DATETIME(6) NOT NULL,
+    create_datetime DATETIME(6) NULL,
+    INDEX idx_upload_sessions_expires_at (expires_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE TABLE IF NOT EXISTS upload_session_chunks (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    session_id VARCHAR(36) NOT NULL,
+    chunk_index INT NOT NULL,
+    checksum VARCHAR(64) NOT NULL,
+    UNIQUE KEY uk_upload_session_chunks_session_index (session_id, chunk_index)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
@@ -0,0 +1,16 @@
+-- 업로드 파일(내용 주소 기반) 테이블 생성
+-- 실행 방법: MySQL에서 직접 실행하거나, Flyway/Liquibase 같은 마이그레이션 도구 사용
+-- 기존 UUID 이름 파일은 등록하지 않으며, 참조 카운트 관리 대상에서 제외된다
+
+CREATE TABLE IF NOT EXISTS uploads (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    content_hash VARCHAR(64) NOT NULL,
+    stored_filename VARCHAR(100) NOT NULL,
+    content_type VARCHAR(100) NULL,
+    size BIGINT NOT NULL,
+    reference_count INT NOT NULL DEFAULT 0,
+    uploader_id BIGINT NULL,
+    create_datetime DATETIME(6) NULL,
+    UNIQUE KEY uk_uploads_content_hash (content_hash),
+    UNIQUE KEY uk_uploads_stored_filename (stored_filename)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
@@ -0,0 +1,26 @@
+-- 알림 테이블 월 단위 파티셔닝 (선택 사항)
+-- 실행 방법: MySQL에서 직접 실행 후 application.properties에서 app.notification.retention.partitioned=true 설정
+-- 적용 후에는 NotificationRetentionService가 매일 다음 달 파티션을 미리 만들고,
+-- 보관 기간(unread-days)이 지난 월 파티션을 행 단위 DELETE 없이 DROP 한다.
+
+-- 1) 외래 키 제거 (MySQL 파티션 테이블은 외래 키를 지원하지 않음)
+--    아래 쿼리로 실제 FK 이름을 확인한 뒤 각각 삭제
+SELECT CONSTRAINT_NAME
+FROM information_schema.TABLE_CONSTRAINTS
+WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'notifications' AND CONSTRAINT_TYPE = 'FOREIGN KEY';
+-- ALTER TABLE notifications DROP FOREIGN KEY <FK 이름>;
+
+-- 2) 파티션 키(create_datetime)를 기본 키에 포함
+ALTER TABLE notifications
+    MODIFY create_datetime DATETIME(6) NOT NULL,
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (id, create_datetime);
+
+-- 3) 월 단위 RANGE 파티션 생성
+--    p_old: 적용 시점의 이번 달 1일 이전 데이터 (날짜를 적용하는 달의 1일로 변경)
+--    p_future: 이후 데이터 (이번 달부터의 월 파티션은 스케줄러가 p_future에서 분리해 생성)
+ALTER TABLE notifications
+    PARTITION BY RANGE (TO_DAYS(create_datetime)) (
+        PARTITION p_old VALUES LESS THAN (TO_DAYS('2026-10-01')),
+        PARTITION p_future VALUES LESS THAN MAXVALUE
+    );
@@ -0,0 +1,18 @@
+-- 리프레시 토큰 저장소 변경 마이그레이션 (원문 저장 → SHA-256 다이제스트 + 사용자/세션 family)
+-- 실행 방법: MySQL에서 직접 실행하거나, Flyway/Liquibase 같은 마이그레이션 도구 사용
+-- 주의: 기존 토큰은 원문으로 저장되어 있어 이전할 수 없으므로, 실행 후 모든 사용자는 다시 로그인해야 함
+
+DROP TABLE IF EXISTS refresh_token;
+
+CREATE TABLE refresh_token (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    token_hash VARCHAR(64) NOT NULL,
+    user_id BIGINT NOT NULL,
+    family_id VARCHAR(36) NOT NULL,
+    is_used BOOLEAN NOT NULL DEFAULT FALSE,
+    expiry_datetime DATETIME(6) NOT NULL,
+    UNIQUE KEY uk_refresh_token_token_hash (token_hash),
+    INDEX idx_refresh_token_user_id (user_id),
+    INDEX idx_refresh_token_family_id (family_id),
+    INDEX idx_refresh_token_expiry_datetime (expiry_datetime)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
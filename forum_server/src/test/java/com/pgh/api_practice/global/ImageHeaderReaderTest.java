@@ -0,0 +1,229 @@
+package com.pgh.api_practice.global;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ImageHeaderReader 형식 판별/크기/EXIF Orientation 테스트
+ * 형식은 파일명이 아니라 매직 바이트로만 정해지는지 함께 확인한다.
+ */
+class ImageHeaderReaderTest {
+
+    static Stream<Arguments> images() {
+        return Stream.of(
+                Arguments.of("JPEG (ImageIO)", encode("jpg", 40, 30), ImageInfo.Format.JPEG, 40, 30),
+                Arguments.of("PNG (ImageIO)", encode("png", 17, 9), ImageInfo.Format.PNG, 17, 9),
+                Arguments.of("GIF (ImageIO)", encode("gif", 3, 250), ImageInfo.Format.GIF, 3, 250),
+                Arguments.of("GIF87a", gif("GIF87a", 640, 480), ImageInfo.Format.GIF, 640, 480),
+                Arguments.of("WebP VP8 (lossy)", webpVp8(320, 200), ImageInfo.Format.WEBP, 320, 200),
+                Arguments.of("WebP VP8L (lossless)", webpVp8l(1024, 1), ImageInfo.Format.WEBP, 1024, 1),
+                Arguments.of("WebP VP8X (extended)", webpVp8x(20000, 3), ImageInfo.Format.WEBP, 20000, 3),
+                Arguments.of("JPEG SOF2 (progressive)", jpeg(0xC2, null, 800, 600), ImageInfo.Format.JPEG, 800, 600));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("images")
+    void readsFormatAndSizeFromMagicBytes(String name, byte[] data, ImageInfo.Format format, int width, int height)
+            throws IOException {
+        ImageInfo info = read(data);
+
+        assertThat(info).isNotNull();
+        assertThat(info.getFormat()).isEqualTo(format);
+        assertThat(info.getWidth()).isEqualTo(width);
+        assertThat(info.getHeight()).isEqualTo(height);
+        assertThat(info.getOrientation()).isEqualTo(1);
+    }
+
+    // 확장자/Content-Type을 이미지로 속인 파일 → 매직 바이트가 없으면 이미지가 아님
+    static Stream<Arguments> notImages() {
+        return Stream.of(
+                Arguments.of("HTML named .png", ascii("<html><script>alert(1)</script></html>")),
+                Arguments.of("SVG named .jpg", ascii("<?xml version=\"1.0\"?><svg xmlns=\"http://www.w3.org/2000/svg\"/>")),
+                Arguments.of("PDF named .gif", ascii("%PDF-1.7\n%âãÏÓ\n1 0 obj")),
+                Arguments.of("RIFF WAVE named .webp", ascii("RIFF$\u0000\u0000\u0000WAVEfmt \u0010\u0000\u0000\u0000")),
+                Arguments.of("PNG signature without IHDR", withFirstChunkType(png(10, 10), "IDAT")),
+                Arguments.of("truncated PNG", Arrays.copyOf(png(10, 10), 14)),
+                Arguments.of("truncated JPEG", Arrays.copyOf(jpeg(0xC0, null, 10, 10), 8)),
+                Arguments.of("JPEG with zero width", jpeg(0xC0, null, 0, 10)),
+                Arguments.of("empty", new byte[0]));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("notImages")
+    void rejectsContentWithoutImageHeader(String name, byte[] data) throws IOException {
+        assertThat(read(data)).isNull();
+    }
+
+    // EXIF Orientation 1~8 × 바이트 순서(II: 리틀 엔디언, MM: 빅 엔디언)
+    static Stream<Arguments> orientations() {
+        return Stream.of(ByteOrder.LITTLE_ENDIAN, ByteOrder.BIG_ENDIAN)
+                .flatMap(order -> IntStream.rangeClosed(1, 8).mapToObj(value -> Arguments.of(order, value)));
+    }
+
+    @ParameterizedTest(name = "{0} orientation={1}")
+    @MethodSource("orientations")
+    void readsExifOrientationInBothByteOrders(ByteOrder order, int orientation) throws IOException {
+        ImageInfo info = read(jpeg(0xC0, exif(order, orientation), 400, 300));
+
+        assertThat(info).isNotNull();
+        assertThat(info.getFormat()).isEqualTo(ImageInfo.Format.JPEG);
+        assertThat(info.getWidth()).isEqualTo(400);
+        assertThat(info.getHeight()).isEqualTo(300);
+        assertThat(info.getOrientation()).isEqualTo(orientation);
+        // 5~8은 90도 회전이므로 표시 크기가 바뀐다
+        assertThat(info.getDisplayWidth()).isEqualTo(orientation >= 5 ? 300 : 400);
+    }
+
+    static Stream<Arguments> invalidOrientations() {
+        return Stream.of(
+                Arguments.of(ByteOrder.LITTLE_ENDIAN, 0),
+                Arguments.of(ByteOrder.BIG_ENDIAN, 9),
+                Arguments.of(ByteOrder.BIG_ENDIAN, 0xFFFF));
+    }
+
+    @ParameterizedTest(name = "{0} orientation={1}")
+    @MethodSource("invalidOrientations")
+    void fallsBackToNormalOrientationForInvalidValues(ByteOrder order, int orientation) throws IOException {
+        ImageInfo info = read(jpeg(0xC0, exif(order, orientation), 400, 300));
+
+        assertThat(info).isNotNull();
+        assertThat(info.getOrientation()).isEqualTo(1);
+    }
+
+    private static ImageInfo read(byte[] data) throws IOException {
+        return ImageHeaderReader.read(new ByteArrayInputStream(data));
+    }
+
+    private static byte[] encode(String format, int width, int height) {
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), format, out);
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] gif(String signature, int width, int height) {
+        return ByteBuffer.allocate(13).order(ByteOrder.LITTLE_ENDIAN)
+                .put(ascii(signature))
+                .putShort((short) width)
+                .putShort((short) height)
+                .put(new byte[3])
+                .array();
+    }
+
+    private static byte[] png(int width, int height) {
+        return ByteBuffer.allocate(33)
+                .put(new byte[]{(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'})
+                .putInt(13)
+                .put(ascii("IHDR"))
+                .putInt(width)
+                .putInt(height)
+                .array();
+    }
+
+    // PNG 시그니처(8) + 길이(4) 뒤 첫 청크 타입을 바꾼 데이터
+    private static byte[] withFirstChunkType(byte[] png, String type) {
+        byte[] copy = png.clone();
+        System.arraycopy(ascii(type), 0, copy, 12, 4);
+        return copy;
+    }
+
+    private static byte[] webpVp8(int width, int height) {
+        return riff(ByteBuffer.allocate(18).order(ByteOrder.LITTLE_ENDIAN)
+                .put(ascii("VP8 "))
+                .putInt(10)
+                .put(new byte[3])                             // 프레임 태그
+                .put(new byte[]{(byte) 0x9D, 0x01, 0x2A})     // 시작 코드
+                .putShort((short) width)
+                .putShort((short) height)
+                .array());
+    }
+
+    private static byte[] webpVp8l(int width, int height) {
+        int bits = (width - 1) | (height - 1) << 14;
+        return riff(ByteBuffer.allocate(18).order(ByteOrder.LITTLE_ENDIAN)
+                .put(ascii("VP8L"))
+                .putInt(5)
+                .put((byte) 0x2F)
+                .putInt(bits)
+                .put(new byte[5])
+                .array());
+    }
+
+    private static byte[] webpVp8x(int width, int height) {
+        return riff(ByteBuffer.allocate(18).order(ByteOrder.LITTLE_ENDIAN)
+                .put(ascii("VP8X"))
+                .putInt(10)
+                .putInt(0)                                    // 플래그
+                .put(int24(width - 1))
+                .put(int24(height - 1))
+                .array());
+    }
+
+    private static byte[] riff(byte[] chunk) {
+        return ByteBuffer.allocate(12 + chunk.length).order(ByteOrder.LITTLE_ENDIAN)
+                .put(ascii("RIFF"))
+                .putInt(4 + chunk.length)
+                .put(ascii("WEBP"))
+                .put(chunk)
+                .array();
+    }
+
+    private static byte[] int24(int value) {
+        return new byte[]{(byte) value, (byte) (value >> 8), (byte) (value >> 16)};
+    }
+
+    // SOI + (APP1) + SOF(marker) + SOS
+    private static byte[] jpeg(int sofMarker, byte[] app1, int width, int height) {
+        ByteBuffer buffer = ByteBuffer.allocate(64 + (app1 != null ? app1.length : 0))
+                .put((byte) 0xFF).put((byte) 0xD8);
+        if (app1 != null) {
+            buffer.put((byte) 0xFF).put((byte) 0xE1).putShort((short) (app1.length + 2)).put(app1);
+        }
+        buffer.put((byte) 0xFF).put((byte) sofMarker).putShort((short) 17)
+                .put((byte) 8)
+                .putShort((short) height)
+                .putShort((short) width)
+                .put((byte) 3)
+                .put(new byte[9])
+                .put((byte) 0xFF).put((byte) 0xDA).putShort((short) 2);
+        return Arrays.copyOf(buffer.array(), buffer.position());
+    }
+
+    // "Exif\0\0" + TIFF 헤더 + IFD0 (앞에 다른 태그 하나, 그다음 Orientation)
+    private static byte[] exif(ByteOrder order, int orientation) {
+        return ByteBuffer.allocate(6 + 8 + 2 + 2 * 12 + 4).order(order)
+                .put(ascii("Exif")).put((byte) 0).put((byte) 0)
+                .put(order == ByteOrder.LITTLE_ENDIAN ? ascii("II") : ascii("MM"))
+                .putShort((short) 42)
+                .putInt(8)                                    // IFD0 오프셋 (TIFF 헤더 기준)
+                .putShort((short) 2)                          // 항목 수
+                .putShort((short) 0x010F).putShort((short) 2).putInt(4).putInt(0)   // Make (ASCII)
+                .putShort((short) 0x0112).putShort((short) 3).putInt(1)             // Orientation (SHORT)
+                .putShort((short) orientation).putShort((short) 0)
+                .putInt(0)                                    // 다음 IFD 없음
+                .array();
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.ISO_8859_1);
+    }
+}
@@ -0,0 +1,94 @@
+package com.pgh.api_practice.global;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * UploadFileTypes 확장자/Content-Type 규칙 테스트
+ * 스크립트가 실행될 수 있는 확장자는 이름을 어떻게 꾸며도 bin/application/octet-stream으로 저장되는지 확인한다.
+ */
+class UploadFileTypesTest {
+
+    @ParameterizedTest(name = "{0} → {1}")
+    @CsvSource(nullValues = "NULL", value = {
+            "notes.txt,            txt",
+            "ARCHIVE.ZIP,          zip",
+            "song.Mp3,             mp3",
+            "clip.mp4,             mp4",
+            "clip.webm,            webm",
+            "backup.tar.zip,       zip",
+            // 스크립트/마크업 확장자
+            "page.html,            bin",
+            "page.htm,             bin",
+            "icon.svg,             bin",
+            "app.js,               bin",
+            "shell.php,            bin",
+            // 이중 확장자로 속인 이름 (마지막 확장자만 본다)
+            "photo.png.html,       bin",
+            "invoice.pdf.exe,      bin",
+            "payload.html.txt,     txt",
+            // 이미지 확장자는 첨부파일 목록이 아님 (이미지는 매직 바이트로만 판별)
+            "photo.png,            bin",
+            "photo.jpg,            bin",
+            // 확장자가 없거나 비정상
+            "README,               bin",
+            "trailing.,            bin",
+            ".txt,                 txt",
+            "NULL,                 bin",
+    })
+    void attachmentExtensionKeepsOnlyAllowlistedExtensions(String fileName, String expected) {
+        assertThat(UploadFileTypes.attachmentExtension(fileName)).isEqualTo(expected);
+    }
+
+    @ParameterizedTest(name = "{0} → {1}")
+    @CsvSource(nullValues = "NULL", value = {
+            "jpg,   image/jpeg",
+            "PNG,   image/png",
+            "gif,   image/gif",
+            "webp,  image/webp",
+            "txt,   text/plain",
+            "zip,   application/zip",
+            "mp3,   audio/mpeg",
+            "mp4,   video/mp4",
+            "webm,  video/webm",
+            "html,  application/octet-stream",
+            "svg,   application/octet-stream",
+            "js,    application/octet-stream",
+            "bin,   application/octet-stream",
+            "NULL,  application/octet-stream",
+    })
+    void contentTypeComesFromExtensionOnly(String extension, String expected) {
+        assertThat(UploadFileTypes.contentTypeOf(extension)).isEqualTo(expected);
+    }
+
+    @ParameterizedTest(name = "{0} → {1}")
+    @CsvSource(nullValues = "NULL", value = {
+            "jpg,   true",
+            "WEBP,  true",
+            "png,   true",
+            "gif,   true",
+            "svg,   false",
+            "html,  false",
+            "txt,   false",
+            "bin,   false",
+            "NULL,  false",
+    })
+    void onlyRasterImagesAreInline(String extension, boolean expected) {
+        assertThat(UploadFileTypes.isInlineImage(extension)).isEqualTo(expected);
+    }
+
+    // 저장 파일명은 해시 + 서버가 정한 확장자이므로 마지막 확장자만 의미가 있다
+    @ParameterizedTest(name = "{0} → \"{1}\"")
+    @CsvSource(nullValues = "NULL", value = {
+            "a1b2c3.jpg,          jpg",
+            "a1b2c3_medium.JPG,   jpg",
+            "archive.tar.zip,     zip",
+            "noextension,         ''",
+            "NULL,                ''",
+    })
+    void extensionOfReturnsLowercaseLastExtension(String filename, String expected) {
+        assertThat(UploadFileTypes.extensionOf(filename)).isEqualTo(expected);
+    }
+}
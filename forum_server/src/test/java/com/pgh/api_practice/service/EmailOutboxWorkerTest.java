@@ -0,0 +1,168 @@
+package com.pgh.api_practice.service;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import com.pgh.api_practice.entity.EmailOutbox;
+import com.pgh.api_practice.entity.EmailOutboxStatus;
+import com.pgh.api_practice.repository.EmailOutboxRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * EmailOutboxWorker 발송/재시도/DEAD 전환 테스트
+ * 메일은 GreenMail(로컬 SMTP)로 실제 발송하고, outbox 저장소는 mock으로 대신한다.
+ */
+class EmailOutboxWorkerTest {
+
+    private static final int MAX_ATTEMPTS = 8;
+    private static final long BASE_BACKOFF_SECONDS = 30;
+    private static final long MAX_BACKOFF_SECONDS = 600;
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private EmailOutboxRepository emailOutboxRepository;
+
+    @BeforeEach
+    void setUp() {
+        emailOutboxRepository = mock(EmailOutboxRepository.class);
+    }
+
+    @Test
+    void deliversPendingEmailThroughSmtp() throws Exception {
+        EmailOutbox email = pending(1L, "alice@forum.test", 0);
+
+        pollOnce(worker(greenMail.getSmtp().getPort()), email);
+
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertThat(received).hasSize(1);
+        assertThat(received[0].getSubject()).isEqualTo("인증 메일");
+        assertThat(received[0].getAllRecipients()[0].toString()).isEqualTo("alice@forum.test");
+
+        assertThat(email.getStatus()).isEqualTo(EmailOutboxStatus.SENT);
+        assertThat(email.getAttempts()).isEqualTo(1);
+        assertThat(email.getSentAt()).isNotNull();
+        assertThat(email.getLastError()).isNull();
+        assertThat(email.getLockedAt()).isNull();
+    }
+
+    @ParameterizedTest(name = "시도 {0}회 후 실패 → {1}초 뒤 재시도")
+    @CsvSource({
+            "0, 30",
+            "1, 60",
+            "2, 120",
+            "3, 240",
+            "4, 480",
+            "5, 600",   // 960초 → 상한
+            "6, 600",
+    })
+    void retriesWithExponentialBackoffWhenSmtpIsDown(int previousAttempts, long expectedBackoffSeconds) throws Exception {
+        EmailOutbox email = pending(2L, "bob@forum.test", previousAttempts);
+
+        LocalDateTime before = LocalDateTime.now();
+        pollOnce(worker(closedPort()), email);
+
+        assertThat(email.getStatus()).isEqualTo(EmailOutboxStatus.PENDING);
+        assertThat(email.getAttempts()).isEqualTo(previousAttempts + 1);
+        assertThat(email.getLastError()).isNotBlank();
+        assertThat(email.getLockedAt()).isNull();
+        assertThat(email.getNextAttemptAt())
+                .isCloseTo(before.plusSeconds(expectedBackoffSeconds), within(Duration.ofSeconds(5)));
+    }
+
+    @Test
+    void deliversOnRetryAfterSmtpComesBack() throws Exception {
+        EmailOutbox email = pending(3L, "carol@forum.test", 0);
+
+        pollOnce(worker(closedPort()), email);
+        assertThat(email.getStatus()).isEqualTo(EmailOutboxStatus.PENDING);
+
+        pollOnce(worker(greenMail.getSmtp().getPort()), email);
+        assertThat(email.getStatus()).isEqualTo(EmailOutboxStatus.SENT);
+        assertThat(email.getAttempts()).isEqualTo(2);
+        assertThat(greenMail.getReceivedMessages()).hasSize(1);
+    }
+
+    @Test
+    void marksDeadAfterMaxAttempts() throws Exception {
+        EmailOutbox email = pending(4L, "dave@forum.test", MAX_ATTEMPTS - 1);
+        LocalDateTime nextAttemptAt = email.getNextAttemptAt();
+
+        pollOnce(worker(closedPort()), email);
+
+        assertThat(email.getStatus()).isEqualTo(EmailOutboxStatus.DEAD);
+        assertThat(email.getAttempts()).isEqualTo(MAX_ATTEMPTS);
+        assertThat(email.getNextAttemptAt()).isEqualTo(nextAttemptAt);
+        assertThat(email.getLastError()).isNotBlank();
+    }
+
+    @Test
+    void marksDeadImmediatelyForInvalidAddress() throws Exception {
+        EmailOutbox email = pending(5L, "not an address", 0);
+
+        pollOnce(worker(greenMail.getSmtp().getPort()), email);
+
+        assertThat(email.getStatus()).isEqualTo(EmailOutboxStatus.DEAD);
+        assertThat(email.getAttempts()).isEqualTo(1);
+        assertThat(greenMail.getReceivedMessages()).isEmpty();
+    }
+
+    // 저장소가 email 한 건만 발송 대상으로 돌려주도록 하고 한 번 실행
+    private void pollOnce(EmailOutboxWorker worker, EmailOutbox email) {
+        when(emailOutboxRepository.findDueIds(any(), any())).thenReturn(List.of(email.getId()));
+        when(emailOutboxRepository.claim(eq(email.getId()), any())).thenReturn(1);
+        when(emailOutboxRepository.findById(email.getId())).thenReturn(Optional.of(email));
+        worker.poll();
+    }
+
+    private EmailOutboxWorker worker(int smtpPort) {
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(smtpPort);
+        mailSender.setProtocol("smtp");
+
+        EmailService emailService = new EmailService(mailSender, emailOutboxRepository, "noreply@forum.test", "http://localhost:3000");
+        return new EmailOutboxWorker(emailOutboxRepository, emailService, mailSender, new SimpleMeterRegistry(),
+                true, 20, MAX_ATTEMPTS, BASE_BACKOFF_SECONDS, MAX_BACKOFF_SECONDS, 300, 7);
+    }
+
+    private EmailOutbox pending(Long id, String recipient, int attempts) {
+        return EmailOutbox.builder()
+                .id(id)
+                .recipient(recipient)
+                .subject("인증 메일")
+                .body("<p>인증해주세요</p>")
+                .status(EmailOutboxStatus.SENDING)
+                .attempts(attempts)
+                .nextAttemptAt(LocalDateTime.now().minusSeconds(1))
+                .lockedAt(LocalDateTime.now())
+                .build();
+    }
+
+    // 아무도 듣고 있지 않은 포트 (연결 거부 → 재시도 대상 실패)
+    private static int closedPort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}